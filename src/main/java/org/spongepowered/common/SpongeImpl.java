@@ -264,6 +264,8 @@ public static void postShutdownEvents() {
         check(game);
         postState(GameState.GAME_STOPPING, SpongeEventFactory.createGameStoppingEvent(Sponge.getCauseStackManager().getCurrentCause()));
         postState(GameState.GAME_STOPPED, SpongeEventFactory.createGameStoppedEvent(Sponge.getCauseStackManager().getCurrentCause()));
+        // Write out anything still waiting on the background config writer and stop it
+        getConfigSaveManager().shutdown();
     }
 
     // TODO this code is used a BUNCH of times
@@ -46,6 +46,7 @@
 import net.minecraft.item.Item;
 import net.minecraft.item.crafting.CraftingManager;
 import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.Packet;
 import net.minecraft.tileentity.TileEntity;
@@ -67,7 +68,10 @@
 import net.minecraft.world.WorldProvider;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.AnvilChunkLoader;
+import net.minecraft.world.storage.ISaveHandler;
 import net.minecraft.world.storage.MapStorage;
+import net.minecraft.world.storage.WorldInfo;
 import org.apache.logging.log4j.Logger;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.tileentity.TileEntityType;
@@ -511,6 +515,34 @@ public static boolean isMainThread() {
         return !Sponge.isServerAvailable() || Sponge.getServer().isMainThread();
     }
 
+    /**
+     * Loads the entities and tile entities of a chunk that was read from the
+     * given compound on another thread.
+     *
+     * @param chunkLoader The chunk loader that read the chunk
+     * @param world The world of the chunk
+     * @param compound The chunk compound
+     * @param chunk The chunk created from the compound
+     */
+    public static void loadChunkEntities(AnvilChunkLoader chunkLoader, World world, NBTTagCompound compound, Chunk chunk) {
+        // Vanilla already loads them when creating the chunk from the compound, the platform may load them separately
+    }
+
+    /**
+     * Called on the main thread after the {@link WorldInfo} of a startup world
+     * was created from level data that was read ahead of its save handler.
+     * The Sponge level data and the dimension data are already restored at
+     * this point, this only exists for platforms that pass additional level
+     * data on to mods.
+     *
+     * @param saveHandler The save handler of the world
+     * @param worldInfo The created world info
+     * @param levelData The complete level data
+     */
+    public static void onWorldInfoLoaded(ISaveHandler saveHandler, WorldInfo worldInfo, NBTTagCompound levelData) {
+        // Overridden by the platform to pass the level data to mods
+    }
+
     // Overridden by MixinSpongeImplHooks_ItemNameOverflowPrevention for exploit check
     public static boolean creativeExploitCheck(Packet<?> packetIn, EntityPlayerMP playerMP) {
         return false;
@@ -0,0 +1,135 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.block;
+
+import net.minecraft.block.properties.IProperty;
+import org.spongepowered.common.interfaces.block.IMixinIndexedProperty;
+
+import javax.annotation.Nullable;
+
+/**
+ * Finds the position of a property among the properties of a block in
+ * constant time.
+ *
+ * <p>The properties are placed into a small table by their
+ * {@link IMixinIndexedProperty#getPropertyOrdinal() ordinal}, using the
+ * smallest power of two size in which no two of them collide. Blocks with
+ * properties that don't have an ordinal, or whose ordinals collide in every
+ * table up to {@link #MAX_TABLE_SIZE}, fall back to comparing the
+ * properties one by one.</p>
+ */
+public final class BlockPropertyIndex {
+
+    private static final int MAX_TABLE_SIZE = 256;
+
+    private final IProperty<?>[] properties;
+    // Null if the properties couldn't be placed into a table
+    @Nullable private final IProperty<?>[] tableProperties;
+    @Nullable private final int[] tableIndices;
+    private final int mask;
+
+    public BlockPropertyIndex(IProperty<?>[] properties) {
+        this.properties = properties;
+        IProperty<?>[] tableProperties = null;
+        int[] tableIndices = null;
+        int mask = 0;
+        if (canPlace(properties)) {
+            for (int size = Integer.highestOneBit(Math.max(1, properties.length * 2 - 1)); size <= MAX_TABLE_SIZE; size <<= 1) {
+                tableProperties = place(properties, size - 1);
+                if (tableProperties != null) {
+                    mask = size - 1;
+                    tableIndices = new int[size];
+                    for (int i = 0; i < properties.length; i++) {
+                        tableIndices[ordinal(properties[i]) & mask] = i;
+                    }
+                    break;
+                }
+            }
+        }
+        this.tableProperties = tableProperties;
+        this.tableIndices = tableIndices;
+        this.mask = mask;
+    }
+
+    private static boolean canPlace(IProperty<?>[] properties) {
+        for (IProperty<?> property : properties) {
+            if (!(property instanceof IMixinIndexedProperty)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    private static IProperty<?>[] place(IProperty<?>[] properties, int mask) {
+        final IProperty<?>[] table = new IProperty<?>[mask + 1];
+        for (IProperty<?> property : properties) {
+            final int slot = ordinal(property) & mask;
+            if (table[slot] != null) {
+                return null;
+            }
+            table[slot] = property;
+        }
+        return table;
+    }
+
+    private static int ordinal(IProperty<?> property) {
+        return ((IMixinIndexedProperty) property).getPropertyOrdinal();
+    }
+
+    /**
+     * Gets the properties, in the order of their positions.
+     *
+     * @return The properties
+     */
+    public IProperty<?>[] getProperties() {
+        return this.properties;
+    }
+
+    /**
+     * Gets the position of the given property.
+     *
+     * @param property The property
+     * @return The position, or -1 if the block doesn't have the property
+     */
+    public int indexOf(IProperty<?> property) {
+        final IProperty<?>[] tableProperties = this.tableProperties;
+        if (tableProperties != null && property instanceof IMixinIndexedProperty) {
+            final int slot = ((IMixinIndexedProperty) property).getPropertyOrdinal() & this.mask;
+            if (tableProperties[slot] == property) {
+                return this.tableIndices[slot];
+            }
+        }
+        // Unindexed, or an equal instance of one of the properties
+        final IProperty<?>[] properties = this.properties;
+        for (int i = 0; i < properties.length; i++) {
+            if (properties[i] == property || properties[i].equals(property)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+}
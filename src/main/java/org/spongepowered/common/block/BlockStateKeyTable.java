@@ -0,0 +1,95 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.block;
+
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.data.key.Key;
+
+import java.util.Map;
+
+/**
+ * The keys and values of a {@link BlockState} in flat arrays, backing its
+ * key lookups, along with the {@link KeyTransitionTable} of each key.
+ *
+ * <p>A state publishes its table with a single write of a volatile field,
+ * the keys and values never change afterwards. Transition tables are
+ * immutable and replaced as a whole, so a racing update can at worst lose a
+ * remembered transition.</p>
+ */
+public final class BlockStateKeyTable {
+
+    private final Key<?>[] keys;
+    private final Object[] values;
+    // Indexed the same way as the keys
+    private final KeyTransitionTable[] transitions;
+
+    public BlockStateKeyTable(Map<Key<?>, Object> keyMap) {
+        final int size = keyMap.size();
+        this.keys = new Key<?>[size];
+        this.values = new Object[size];
+        this.transitions = new KeyTransitionTable[size];
+        int index = 0;
+        for (Map.Entry<Key<?>, Object> entry : keyMap.entrySet()) {
+            this.keys[index] = entry.getKey();
+            this.values[index] = entry.getValue();
+            this.transitions[index] = KeyTransitionTable.EMPTY;
+            index++;
+        }
+    }
+
+    /**
+     * Gets the index of the given key.
+     *
+     * @param key The key
+     * @return The index, or -1 if the state doesn't have the key
+     */
+    public int indexOf(Key<?> key) {
+        final Key<?>[] keys = this.keys;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public Object getValue(int index) {
+        return this.values[index];
+    }
+
+    public KeyTransitionTable getTransitions(int index) {
+        return this.transitions[index];
+    }
+
+    public void setTransitions(int index, KeyTransitionTable table) {
+        this.transitions[index] = table;
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.block;
+
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.block.BlockState;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * Remembers the {@link BlockState}s a single block state transitions to when
+ * setting one of its {@link org.spongepowered.api.data.key.Key}s to a value.
+ *
+ * <p>Tables are immutable, {@link #with(Object, Optional) adding} a
+ * transition returns a new table, so a state can publish a grown table
+ * without any locking. Only immutable values are remembered, as a mutable
+ * value like a set of directions could change after it was stored and then
+ * match the wrong transition. Values are matched by identity first, since
+ * nearly all of them are catalog types, enums or cached boxed
+ * primitives.</p>
+ */
+public final class KeyTransitionTable {
+
+    /**
+     * The maximum number of transitions remembered per key, bounding the
+     * table for keys accepting a wide range of values.
+     */
+    private static final int MAX_TRANSITIONS = 32;
+
+    public static final KeyTransitionTable EMPTY = new KeyTransitionTable(new Object[0], new Optional<?>[0]);
+
+    private final Object[] values;
+    private final Optional<?>[] states;
+
+    private KeyTransitionTable(Object[] values, Optional<?>[] states) {
+        this.values = values;
+        this.states = states;
+    }
+
+    /**
+     * Gets the remembered transition for the given value.
+     *
+     * @param value The value being set
+     * @return The resulting state, or null if the transition isn't known yet
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public Optional<BlockState> get(Object value) {
+        final Object[] values = this.values;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value) {
+                return (Optional<BlockState>) this.states[i];
+            }
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (values[i].equals(value)) {
+                return (Optional<BlockState>) this.states[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets a table also remembering the given transition.
+     *
+     * @param value The value being set
+     * @param state The resulting state
+     * @return The new table, or this table if it is full or the value
+     *     can't be remembered
+     */
+    public KeyTransitionTable with(Object value, Optional<BlockState> state) {
+        final int length = this.values.length;
+        if (length >= MAX_TRANSITIONS || !isImmutable(value)) {
+            return this;
+        }
+        final Object[] values = Arrays.copyOf(this.values, length + 1);
+        final Optional<?>[] states = Arrays.copyOf(this.states, length + 1);
+        values[length] = value;
+        states[length] = state;
+        return new KeyTransitionTable(values, states);
+    }
+
+    static boolean isImmutable(Object value) {
+        return value instanceof Enum
+               || value instanceof CatalogType
+               || value instanceof String
+               || value instanceof Boolean
+               || value instanceof Character
+               || value instanceof Integer
+               || value instanceof Long
+               || value instanceof Short
+               || value instanceof Byte
+               || value instanceof Double
+               || value instanceof Float;
+    }
+
+}
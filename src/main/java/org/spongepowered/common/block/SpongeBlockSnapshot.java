@@ -96,13 +96,12 @@ public class SpongeBlockSnapshot implements BlockSnapshot {
     private final BlockState extendedState;
     private final UUID worldUniqueId;
     private final Vector3i pos;
-    private final ImmutableList<ImmutableDataManipulator<?, ?>> extraData;
     private ImmutableMap<Key<?>, ImmutableValue<?>> keyValueMap;
     private ImmutableSet<ImmutableValue<?>> valueSet;
     private ImmutableList<ImmutableDataManipulator<?, ?>> blockData;
     private ImmutableMap<Key<?>, ImmutableValue<?>> blockKeyValueMap;
     private ImmutableSet<ImmutableValue<?>> blockValueSet;
-    @Nullable final NBTTagCompound compound;
+    final TileEntityDataHandle tileData;
     @Nullable final UUID creatorUniqueId;
     @Nullable final UUID notifierUniqueId;
     // Internal use only
@@ -120,18 +119,8 @@ public class SpongeBlockSnapshot implements BlockSnapshot {
         this.pos = checkNotNull(builder.coords);
         this.blockPos = VecHelper.toBlockPos(this.pos);
 
-        // This avoids cross contamination of block state based values versus tile entity values.
-        // TODO - delegate this to NbtProcessors when schematics are merged.
-        final ImmutableMap.Builder<Key<?>, ImmutableValue<?>> tileBuilder = ImmutableMap.builder();
-        this.extraData = builder.manipulators == null ? ImmutableList.<ImmutableDataManipulator<?, ?>>of() : ImmutableList.copyOf(builder.manipulators);
-        for (ImmutableDataManipulator<?, ?> manipulator : this.extraData) {
-            for (ImmutableValue<?> value : manipulator.getValues()) {
-                tileBuilder.put(value.getKey(), value);
-            }
-        }
-        this.keyValueMap = tileBuilder.build();
-        this.valueSet = this.keyValueMap.isEmpty() ? ImmutableSet.of() : ImmutableSet.copyOf(this.keyValueMap.values());
-        this.compound = builder.compound;
+        // Tile entity data is only written and split into values once it's requested
+        this.tileData = builder.tileData != null ? builder.tileData : TileEntityDataHandle.of(builder.compound, builder.manipulators);
         this.changeFlag = builder.flag;
     }
 
@@ -195,6 +184,8 @@ public boolean restore(boolean force, BlockChangeFlag flag) {
             if (!force && (current.getBlock() != replaced.getBlock() || current != replaced)) {
                 return false;
             }
+            // Read the tile entity data before the current tile entity is removed
+            final NBTTagCompound compound = this.tileData.getCompound();
 
             // Prevent Shulker Boxes from dropping when restoring BlockSnapshot
 //            if (current.getBlock().getClass() == BlockShulkerBox.class) {
@@ -202,16 +193,16 @@ public boolean restore(boolean force, BlockChangeFlag flag) {
 //            }
             world.removeTileEntity(pos);
             PhaseTracker.getInstance().setBlockState(mixinWorldServer, pos, replaced, BlockChangeFlagRegistryModule.andNotifyClients(flag));
-            if (this.compound != null) {
+            if (compound != null) {
                 TileEntity te = world.getTileEntity(pos);
                 if (te != null) {
-                    te.readFromNBT(this.compound);
+                    te.readFromNBT(compound);
                 }
                 if (te == null) {
                     // Because, some mods will "unintentionally" only obey some of the rules but not all.
                     // In cases like this, we need to directly just say "fuck it" and deserialize from the compound directly.
                     try {
-                        te = TileEntity.create(world, this.compound);
+                        te = TileEntity.create(world, compound);
                         if (te != null) {
                             world.getChunk(pos).addTileEntity(te);
                         }
@@ -225,7 +216,7 @@ public boolean restore(boolean force, BlockChangeFlag flag) {
                             .add("Here's the provided compound:");
                         printer.add();
                         try {
-                            printer.addWrapped(80, "%s : %s", "This compound", this.compound);
+                            printer.addWrapped(80, "%s : %s", "This compound", compound);
                         } catch (Throwable error) {
                             printer.addWrapped(80, "Unable to get the string of this compound. Printing out some of the entries to better assist");
 
@@ -280,7 +271,7 @@ public WorldServer getWorldServer() {
 
     @Override
     public List<ImmutableDataManipulator<?, ?>> getManipulators() {
-        return ImmutableList.<ImmutableDataManipulator<?, ?>>builder().addAll(this.getBlockManipulators()).addAll(this.extraData).build();
+        return ImmutableList.<ImmutableDataManipulator<?, ?>>builder().addAll(this.getBlockManipulators()).addAll(this.tileData.getManipulators()).build();
     }
 
     @Override
@@ -303,10 +294,11 @@ public DataContainer toContainer() {
         if (this.blockState != this.extendedState) {
             container.set(DataQueries.BLOCK_EXTENDED_STATE, this.extendedState);
         }
-        if (this.compound != null) {
-            container.set(DataQueries.UNSAFE_NBT, NbtTranslator.getInstance().translateFrom(this.compound));
+        final NBTTagCompound compound = this.tileData.getCompound();
+        if (compound != null) {
+            container.set(DataQueries.UNSAFE_NBT, NbtTranslator.getInstance().translateFrom(compound));
         }
-        final List<DataView> dataList = DataUtil.getSerializedImmutableManipulatorList(this.extraData);
+        final List<DataView> dataList = DataUtil.getSerializedImmutableManipulatorList(this.tileData.getManipulators());
         if (!dataList.isEmpty()) {
             container.set(DataQueries.SNAPSHOT_TILE_DATA, dataList);
         }
@@ -319,7 +311,7 @@ public DataContainer toContainer() {
         if (optional.isPresent()) {
             return optional;
         }
-        for (ImmutableDataManipulator<?, ?> dataManipulator : this.extraData) {
+        for (ImmutableDataManipulator<?, ?> dataManipulator : this.tileData.getManipulators()) {
             if (containerClass.isInstance(dataManipulator)) {
                 return Optional.of(((T) dataManipulator));
             }
@@ -421,7 +413,7 @@ public BlockSnapshot merge(BlockSnapshot that, MergeFunction function) {
 
     @Override
     public <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
-        if (this.keyValueMap.containsKey(key)) {
+        if (getTileMap().containsKey(key)) {
             return Optional.of((E) this.keyValueMap.get(key).get());
         } else if (getKeyValueMap().containsKey(key)) {
             return Optional.of((E) this.blockKeyValueMap.get(key).get());
@@ -457,7 +449,9 @@ private ImmutableSet<ImmutableValue<?>> getTileValueSet() {
     private ImmutableMap<Key<?>, ImmutableValue<?>> getTileMap() {
         if (this.keyValueMap == null) {
             final ImmutableMap.Builder<Key<?>, ImmutableValue<?>> tileBuilder = ImmutableMap.builder();
-            for (ImmutableDataManipulator<?, ?> manipulator : this.extraData) {
+            // This avoids cross contamination of block state based values versus tile entity values.
+            // TODO - delegate this to NbtProcessors when schematics are merged.
+            for (ImmutableDataManipulator<?, ?> manipulator : this.tileData.getManipulators()) {
                 for (ImmutableValue<?> value : manipulator.getValues()) {
                     tileBuilder.put(value.getKey(), value);
                 }
@@ -477,7 +471,7 @@ private ImmutableMap<Key<?>, ImmutableValue<?>> getTileMap() {
 
     @Override
     public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
-        if (this.keyValueMap.containsKey(key)) {
+        if (getTileMap().containsKey(key)) {
             return Optional.of((V) this.keyValueMap.get(key).asMutable());
         } else if (getKeyValueMap().containsKey(key)) {
             return Optional.of((V) this.blockKeyValueMap.get(key).asMutable());
@@ -488,7 +482,7 @@ public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
     @Override
     public boolean supports(Key<?> key) {
         checkNotNull(key, "Key");
-        return this.keyValueMap.containsKey(key) || getKeyValueMap().containsKey(key);
+        return getTileMap().containsKey(key) || getKeyValueMap().containsKey(key);
     }
 
     @Override
@@ -515,7 +509,8 @@ public Set<ImmutableValue<?>> getValues() {
     }
 
     public Optional<NBTTagCompound> getCompound() {
-        return this.compound == null ? Optional.<NBTTagCompound>empty() : Optional.of(this.compound.copy());
+        final NBTTagCompound compound = this.tileData.getCompound();
+        return compound == null ? Optional.<NBTTagCompound>empty() : Optional.of(compound.copy());
     }
 
     public SpongeBlockSnapshotBuilder createBuilder() {
@@ -523,13 +518,8 @@ public SpongeBlockSnapshotBuilder createBuilder() {
         builder.blockState(this.blockState)
             .extendedState(this.extendedState)
             .position(this.pos)
-            .worldId(this.worldUniqueId);
-        for (ImmutableDataManipulator<?, ?> manipulator : this.extraData) {
-            builder.add(manipulator);
-        }
-        if (this.compound != null) {
-            builder.unsafeNbt(this.compound);
-        }
+            .worldId(this.worldUniqueId)
+            .tileData(this.tileData);
         return builder;
     }
 
@@ -543,6 +533,14 @@ public BlockPos getBlockPos() {
         return this.blockPos;
     }
 
+    /**
+     * Writes the tile entity data of this snapshot now if it was deferred,
+     * used right before the captured tile entity is changed or removed.
+     */
+    public void materializeTileData() {
+        this.tileData.materialize();
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
@@ -569,10 +567,11 @@ public Optional<TileEntityArchetype> createArchetype() {
         if (!(type instanceof ITileEntityProvider)) {
             return Optional.empty();
         }
-        if (this.compound == null) { // We can't retrieve the TileEntityType
+        final NBTTagCompound compound = this.tileData.getCompound();
+        if (compound == null) { // We can't retrieve the TileEntityType
             return Optional.empty();
         }
-        final String tileId = this.compound.getString(NbtDataUtil.BLOCK_ENTITY_ID);
+        final String tileId = compound.getString(NbtDataUtil.BLOCK_ENTITY_ID);
         final Class<? extends TileEntity> tileClass = TileEntity.REGISTRY.getObject(new ResourceLocation(tileId));
         if (tileClass == null) {
             return Optional.empty();
@@ -582,7 +581,7 @@ public Optional<TileEntityArchetype> createArchetype() {
         final TileEntityArchetype archetype = TileEntityArchetype.builder()
                 .tile(tileType)
                 .state(this.blockState)
-                .tileData(NbtTranslator.getInstance().translate(this.compound))
+                .tileData(NbtTranslator.getInstance().translate(compound))
                 .build();
         return Optional.of(archetype);
     }
@@ -600,18 +599,18 @@ public boolean equals(Object o) {
                Objects.equal(this.extendedState, that.extendedState) &&
                Objects.equal(this.worldUniqueId, that.worldUniqueId) &&
                Objects.equal(this.pos, that.pos) &&
-               Objects.equal(this.extraData, that.extraData) &&
-               Objects.equal(this.compound, that.compound);
+               (this.tileData == that.tileData ||
+                Objects.equal(this.tileData.getManipulators(), that.tileData.getManipulators()) &&
+                Objects.equal(this.tileData.getCompound(), that.tileData.getCompound()));
     }
 
     @Override
     public int hashCode() {
+        // Tile entity data is left out to avoid writing deferred data
         return Objects
             .hashCode(this.extendedState,
                 this.worldUniqueId,
                 this.pos,
-                this.extraData,
-                this.changeFlag,
-                this.compound);
+                this.changeFlag);
     }
 }
@@ -74,6 +74,7 @@ public class SpongeBlockSnapshotBuilder extends AbstractDataBuilder<BlockSnapsho
     Vector3i coords;
     @Nullable List<ImmutableDataManipulator<?, ?>> manipulators;
     @Nullable NBTTagCompound compound;
+    @Nullable TileEntityDataHandle tileData;
     SpongeBlockChangeFlag flag = (SpongeBlockChangeFlag) BlockChangeFlags.ALL;
 
 
@@ -106,6 +107,7 @@ public SpongeBlockSnapshotBuilder extendedState(BlockState extendedState) {
     @Override
     public SpongeBlockSnapshotBuilder position(Vector3i position) {
         this.coords = checkNotNull(position);
+        detachTileData();
         if (this.compound != null) {
             this.compound.setInteger(NbtDataUtil.TILE_ENTITY_POSITION_X, position.getX());
             this.compound.setInteger(NbtDataUtil.TILE_ENTITY_POSITION_Y, position.getY());
@@ -145,10 +147,42 @@ public SpongeBlockSnapshotBuilder notifier(UUID uuid) {
     }
 
     public SpongeBlockSnapshotBuilder unsafeNbt(NBTTagCompound compound) {
+        detachTileData();
         this.compound = compound.copy();
         return this;
     }
 
+    /**
+     * Uses the data of the given tile entity, deferring writing it until
+     * the built snapshot's tile data is actually read.
+     *
+     * @param tileEntity The tile entity
+     * @return This builder, for chaining
+     */
+    public SpongeBlockSnapshotBuilder tileEntity(TileEntity tileEntity) {
+        this.compound = null;
+        this.manipulators = null;
+        this.tileData = TileEntityDataHandle.capture(checkNotNull(tileEntity, "tileEntity"));
+        return this;
+    }
+
+    SpongeBlockSnapshotBuilder tileData(TileEntityDataHandle tileData) {
+        this.compound = null;
+        this.manipulators = null;
+        this.tileData = tileData;
+        return this;
+    }
+
+    private void detachTileData() {
+        if (this.tileData == null) {
+            return;
+        }
+        final NBTTagCompound compound = this.tileData.getCompound();
+        this.compound = compound == null ? null : compound.copy();
+        this.manipulators = Lists.newArrayList(this.tileData.getManipulators());
+        this.tileData = null;
+    }
+
     @Override
     public SpongeBlockSnapshotBuilder add(DataManipulator<?, ?> manipulator) {
         return add(checkNotNull(manipulator, "manipulator").asImmutable());
@@ -157,6 +191,7 @@ public SpongeBlockSnapshotBuilder add(DataManipulator<?, ?> manipulator) {
     @Override
     public SpongeBlockSnapshotBuilder add(ImmutableDataManipulator<?, ?> manipulator) {
         checkNotNull(manipulator, "manipulator");
+        detachTileData();
         if (this.manipulators == null) {
             this.manipulators = Lists.newArrayList();
         }
@@ -199,7 +234,7 @@ public SpongeBlockSnapshotBuilder from(BlockSnapshot holder) {
         this.coords = holder.getPosition();
         this.manipulators = Lists.newArrayList(holder.getManipulators());
         if (holder instanceof SpongeBlockSnapshot) {
-            final NBTTagCompound compound = ((SpongeBlockSnapshot) holder).compound;
+            final NBTTagCompound compound = ((SpongeBlockSnapshot) holder).tileData.getCompound();
             if (compound != null) {
                 this.compound = compound.copy();
             }
@@ -216,6 +251,7 @@ public SpongeBlockSnapshotBuilder reset() {
         this.coords = null;
         this.manipulators = null;
         this.compound = null;
+        this.tileData = null;
         return this;
     }
 
@@ -0,0 +1,212 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.block;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.Futures;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.tileentity.TileEntity;
+import org.spongepowered.api.data.manipulator.DataManipulator;
+import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.event.ShouldFire;
+import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
+import org.spongepowered.common.interfaces.data.IMixinCustomDataHolder;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * Holds the tile entity data of a {@link SpongeBlockSnapshot}.
+ *
+ * <p>Snapshots captured during block tracking are dropped without their tile
+ * entity data being read unless they are handed to a {@link ChangeBlockEvent}.
+ * While no listener for these events is registered, a handle keeps a
+ * reference to the tile entity instead and only writes the
+ * {@link NBTTagCompound} and custom manipulators on first read. Snapshots of
+ * the same tile entity taken without any modification in between share a
+ * single handle. Once a listener is registered, the data is written right
+ * away, as not every change of a tile entity can be detected and listeners
+ * must receive the data from before the tracked change.</p>
+ *
+ * <p>A pending handle is {@link #materialize() materialized} before the tile
+ * entity is removed, which the block transactions do right before processing
+ * queued breaks and removals, and when the tile entity is marked dirty. Only
+ * snapshots captured by the phase tracker use pending handles, API snapshots
+ * are always captured eagerly.</p>
+ *
+ * <p>Materializing is atomic, concurrent readers either see the pending
+ * handle or the complete data. A pending handle read off the main thread is
+ * materialized on the main thread, as tile entities must not be written
+ * concurrently with the world tick.</p>
+ */
+public final class TileEntityDataHandle {
+
+    static final TileEntityDataHandle EMPTY = new TileEntityDataHandle(null, ImmutableList.of());
+
+    @Nullable private volatile TileEntity tileEntity;
+    private final int modificationCount;
+    @Nullable private NBTTagCompound compound;
+    @Nullable private ImmutableList<ImmutableDataManipulator<?, ?>> manipulators;
+
+    private TileEntityDataHandle(TileEntity tileEntity) {
+        this.tileEntity = tileEntity;
+        this.modificationCount = ((IMixinTileEntity) tileEntity).getModificationCount();
+    }
+
+    private TileEntityDataHandle(@Nullable NBTTagCompound compound, ImmutableList<ImmutableDataManipulator<?, ?>> manipulators) {
+        this.modificationCount = 0;
+        this.compound = compound;
+        this.manipulators = manipulators;
+    }
+
+    /**
+     * Gets a handle for the current data of the given tile entity. The handle
+     * is only pending while no {@link ChangeBlockEvent} listener could receive
+     * the snapshot, reusing the previous handle if the tile entity wasn't
+     * modified since.
+     *
+     * @param tileEntity The tile entity
+     * @return The handle
+     */
+    public static TileEntityDataHandle capture(TileEntity tileEntity) {
+        final IMixinTileEntity mixinTileEntity = (IMixinTileEntity) tileEntity;
+        final TileEntityDataHandle existing = mixinTileEntity.getSnapshotDataHandle();
+        if (ShouldFire.CHANGE_BLOCK_EVENT) {
+            if (existing != null) {
+                existing.materialize();
+            }
+            final TileEntityDataHandle handle = new TileEntityDataHandle(tileEntity);
+            handle.materialize();
+            return handle;
+        }
+        if (existing != null) {
+            if (existing.modificationCount == mixinTileEntity.getModificationCount()) {
+                return existing;
+            }
+            existing.materialize();
+        }
+        final TileEntityDataHandle handle = new TileEntityDataHandle(tileEntity);
+        mixinTileEntity.setSnapshotDataHandle(handle);
+        return handle;
+    }
+
+    static TileEntityDataHandle of(@Nullable NBTTagCompound compound, @Nullable List<ImmutableDataManipulator<?, ?>> manipulators) {
+        if (compound == null && (manipulators == null || manipulators.isEmpty())) {
+            return EMPTY;
+        }
+        return new TileEntityDataHandle(compound, manipulators == null ? ImmutableList.of() : ImmutableList.copyOf(manipulators));
+    }
+
+    /**
+     * Materializes the pending handle of the given tile entity, if any, so
+     * that previously captured snapshots aren't affected by the tile entity
+     * being changed or removed.
+     *
+     * @param tileEntity The tile entity about to be changed
+     */
+    public static void materializePending(@Nullable TileEntity tileEntity) {
+        if (tileEntity == null) {
+            return;
+        }
+        final TileEntityDataHandle pending = ((IMixinTileEntity) tileEntity).getSnapshotDataHandle();
+        if (pending != null) {
+            pending.materialize();
+        }
+    }
+
+    public boolean isMaterialized() {
+        return this.tileEntity == null;
+    }
+
+    public void materialize() {
+        if (this.tileEntity == null) {
+            return;
+        }
+        synchronized (this) {
+            final TileEntity tileEntity = this.tileEntity;
+            if (tileEntity == null) {
+                return;
+            }
+            // Detach first, writing the tile entity may mark it dirty which would materialize this handle again
+            final IMixinTileEntity mixinTileEntity = (IMixinTileEntity) tileEntity;
+            if (mixinTileEntity.getSnapshotDataHandle() == this) {
+                mixinTileEntity.setSnapshotDataHandle(null);
+            }
+            final ImmutableList.Builder<ImmutableDataManipulator<?, ?>> builder = ImmutableList.builder();
+            for (DataManipulator<?, ?> manipulator : ((IMixinCustomDataHolder) tileEntity).getCustomManipulators()) {
+                builder.add(manipulator.asImmutable());
+            }
+            this.manipulators = builder.build();
+            final NBTTagCompound nbt = new NBTTagCompound();
+            // Some mods like OpenComputers assert if attempting to save robot while moving
+            try {
+                tileEntity.writeToNBT(nbt);
+                this.compound = nbt;
+            } catch (Throwable t) {
+                // ignore
+            }
+            // Publishes the data written above to readers checking the tile entity
+            this.tileEntity = null;
+        }
+    }
+
+    private void materializeForRead() {
+        if (this.tileEntity == null) {
+            return;
+        }
+        final MinecraftServer server = SpongeImpl.getServer();
+        if (SpongeImplHooks.isMainThread() || !server.isServerRunning()) {
+            materialize();
+            return;
+        }
+        Futures.getUnchecked(server.callFromMainThread(() -> {
+            materialize();
+            return null;
+        }));
+    }
+
+    /**
+     * Gets the materialized compound. The returned compound is shared and
+     * must not be modified.
+     *
+     * @return The compound, if the tile entity could be written
+     */
+    @Nullable
+    public NBTTagCompound getCompound() {
+        materializeForRead();
+        return this.compound;
+    }
+
+    public ImmutableList<ImmutableDataManipulator<?, ?>> getManipulators() {
+        materializeForRead();
+        return this.manipulators;
+    }
+
+}
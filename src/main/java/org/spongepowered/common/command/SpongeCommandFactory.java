@@ -29,6 +29,7 @@
 import static org.spongepowered.api.command.args.GenericArguments.dimension;
 import static org.spongepowered.api.command.args.GenericArguments.firstParsing;
 import static org.spongepowered.api.command.args.GenericArguments.flags;
+import static org.spongepowered.api.command.args.GenericArguments.integer;
 import static org.spongepowered.api.command.args.GenericArguments.literal;
 import static org.spongepowered.api.command.args.GenericArguments.optional;
 import static org.spongepowered.api.command.args.GenericArguments.optionalWeak;
@@ -39,6 +40,7 @@
 import static org.spongepowered.common.util.SpongeCommonTranslationHelper.t;
 
 import org.spongepowered.common.relocate.co.aikar.timings.SpongeTimingsFactory;
+import org.spongepowered.common.relocate.co.aikar.timings.TimingsSampler;
 import co.aikar.timings.Timings;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -46,6 +48,8 @@
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.network.NetworkManager;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
@@ -98,12 +102,18 @@
 import org.spongepowered.common.event.SpongeEventManager;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.IMixinMinecraftServer;
+import org.spongepowered.common.interfaces.block.tile.IMixinTileEntityHopper;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
+import org.spongepowered.common.interfaces.network.IMixinNetworkManagerBatching;
 import org.spongepowered.common.interfaces.world.IMixinDimensionType;
 import org.spongepowered.common.interfaces.world.IMixinWorld;
 import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+import org.spongepowered.common.item.inventory.adapter.InventoryAdapter;
+import org.spongepowered.common.item.inventory.lens.impl.ReusableLens;
 import org.spongepowered.common.util.SpongeHooks;
+import org.spongepowered.common.world.ChunkUnloadQueue;
 import org.spongepowered.common.world.WorldManager;
 
 import java.io.File;
@@ -202,6 +212,8 @@ public static CommandSpec createSpongeCommand() {
         nonFlagChildren.register(createSpongeEntityInfoCommand(), "entityInfo");
         nonFlagChildren.register(createSpongeAuditCommand(), "audit");
         nonFlagChildren.register(createSpongeHeapCommand(), "heap");
+        nonFlagChildren.register(createSpongeLensesCommand(), "lenses");
+        nonFlagChildren.register(createSpongeNetworkCommand(), "network");
         nonFlagChildren.register(createSpongePluginsCommand(), "plugins");
         nonFlagChildren.register(createSpongeTimingsCommand(), "timings");
         nonFlagChildren.register(createSpongeWhichCommand(), "which");
@@ -220,6 +232,8 @@ public static CommandSpec createSpongeCommand() {
                         INDENT, title("chunks"), LONG_INDENT, "Prints chunk data for a specific dimension or world(s)\n",
                         INDENT, title("conf"), LONG_INDENT, "Configure sponge settings\n",
                         INDENT, title("heap"), LONG_INDENT, "Dump live JVM heap\n",
+                        INDENT, title("lenses"), LONG_INDENT, "Prints statistics of the shared inventory lens cache\n",
+                        INDENT, title("network"), LONG_INDENT, "Prints outbound packet batching statistics of connected players\n",
                         INDENT, title("reload"), LONG_INDENT, "Reloads a global, dimension, or world config\n",
                         INDENT, title("save"), LONG_INDENT, "Saves a global, dimension, or world config\n",
                         INDENT, title("version"), LONG_INDENT, "Prints current Sponge version\n",
@@ -381,17 +395,33 @@ protected Text value(Object text) {
                         return Text.of(TextColors.GRAY, text);
                     }
 
+                    private long getSkippedHopperTransfers(WorldServer worldserver) {
+                        long skipped = 0;
+                        for (TileEntity tileEntity : worldserver.loadedTileEntityList) {
+                            if (tileEntity instanceof IMixinTileEntityHopper) {
+                                skipped += ((IMixinTileEntityHopper) tileEntity).getTransferCache().getSkippedTransfers();
+                            }
+                        }
+                        return skipped;
+                    }
+
                     protected Text getChunksInfo(WorldServer worldserver) {
                         if (((IMixinWorld) worldserver).isFake() || worldserver.getWorldInfo() == null) {
                             return Text.of(NEWLINE_TEXT, "Fake world");
                         }
+                        final ChunkUnloadQueue unloadQueue = ((IMixinChunkProviderServer) worldserver.getChunkProvider()).getUnloadQueue();
                         return Text.of(NEWLINE_TEXT, key("DimensionId: "), value(WorldManager.getDimensionId(worldserver)), NEWLINE_TEXT,
                                 key("Loaded chunks: "), value(worldserver.getChunkProvider().getLoadedChunkCount()), NEWLINE_TEXT,
                                 key("Active chunks: "), value(worldserver.getChunkProvider().getLoadedChunks().size()), NEWLINE_TEXT,
+                                key("Queued for unload: "), value(unloadQueue.size()), NEWLINE_TEXT,
+                                key("Unload latency (avg/max): "), value(String.format("%.1fms / %dms", unloadQueue.getAverageUnloadLatency(),
+                                        unloadQueue.getMaxUnloadLatency())), NEWLINE_TEXT,
                                 key("Entities: "), value(worldserver.loadedEntityList.size()), NEWLINE_TEXT,
+                                key("Merged entities: "), value(((IMixinWorldServer) worldserver).getMergedEntityCount()), NEWLINE_TEXT,
                                 key("Tile Entities: "), value(worldserver.loadedTileEntityList.size()), NEWLINE_TEXT,
                                 key("Removed Entities:"), value(worldserver.unloadedEntityList.size()), NEWLINE_TEXT,
-                                key("Removed Tile Entities: "), value(worldserver.tileEntitiesToBeRemoved), NEWLINE_TEXT
+                                key("Removed Tile Entities: "), value(worldserver.tileEntitiesToBeRemoved), NEWLINE_TEXT,
+                                key("Skipped hopper transfers: "), value(getSkippedHopperTransfers(worldserver)), NEWLINE_TEXT
                         );
                     }
                 })
@@ -478,6 +508,53 @@ private static CommandSpec createSpongeHeapCommand() {
 
     }
 
+    private static CommandSpec createSpongeLensesCommand() {
+        return CommandSpec.builder()
+                .description(Text.of("Prints statistics of the shared inventory lens cache"))
+                .permission("sponge.command.lenses")
+                .executor((src, args) -> {
+                    final Map<Class<? extends InventoryAdapter>, Integer> counts = ReusableLens.getCachedLensCounts();
+                    final Text.Builder builder = Text.builder()
+                            .append(Text.of(TextColors.GOLD, "Cached lenses: ", TextColors.GRAY, counts.values().stream().mapToInt(i -> i).sum()))
+                            .append(NEWLINE_TEXT)
+                            .append(Text.of(TextColors.GOLD, "Reused (hits/misses): ", TextColors.GRAY, ReusableLens.getCacheHits(), " / ",
+                                    ReusableLens.getCacheMisses()));
+                    counts.entrySet().stream()
+                            .sorted(Map.Entry.<Class<? extends InventoryAdapter>, Integer>comparingByValue().reversed())
+                            .forEach(entry -> builder.append(NEWLINE_TEXT, Text.of(INDENT, TextColors.GRAY, entry.getKey().getName(), ": ",
+                                    entry.getValue())));
+                    src.sendMessage(builder.build());
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandSpec createSpongeNetworkCommand() {
+        return CommandSpec.builder()
+                .description(Text.of("Prints outbound packet batching statistics of connected players"))
+                .permission("sponge.command.network")
+                .executor((src, args) -> {
+                    final Text.Builder builder = Text.builder();
+                    for (Player player : Sponge.getServer().getOnlinePlayers()) {
+                        final NetworkManager networkManager = ((EntityPlayerMP) player).connection.netManager;
+                        if (!(networkManager instanceof IMixinNetworkManagerBatching)) {
+                            src.sendMessage(Text.of(TextColors.RED, "Packet batching is not enabled"));
+                            return CommandResult.empty();
+                        }
+                        final IMixinNetworkManagerBatching batching = (IMixinNetworkManagerBatching) networkManager;
+                        if (!builder.getChildren().isEmpty()) {
+                            builder.append(NEWLINE_TEXT);
+                        }
+                        builder.append(Text.of(TextColors.GOLD, player.getName(), ": ", TextColors.GRAY,
+                                String.format("%.2f", batching.getPacketsPerFlush()), " packets/flush (", batching.getFlushedPacketCount(),
+                                " packets, ", batching.getFlushCount(), " flushes, ", batching.getBatchedPacketCount(), " queued)"));
+                    }
+                    src.sendMessage(builder.getChildren().isEmpty() ? Text.of(TextColors.GRAY, "No players connected") : builder.build());
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
     private static final Text IMPLEMENTATION_NAME = Text.of(TextColors.YELLOW, TextStyles.BOLD,
             Sponge.getPlatform().getContainer(IMPLEMENTATION).getName());
 
@@ -721,6 +798,59 @@ private static CommandCallable createSpongeTimingsCommand() {
                             return CommandResult.success();
                         })
                         .build(), "report", "paste")
+                .child(CommandSpec.builder()
+                        .executor((src, args) -> {
+                            if (!Timings.isTimingsEnabled()) {
+                                src.sendMessage(Text.of("Please enable timings by typing /sponge timings on"));
+                                return CommandResult.empty();
+                            }
+                            SpongeTimingsFactory.generateLocalReport(src);
+                            return CommandResult.success();
+                        })
+                        .build(), "export")
+                .child(CommandSpec.builder()
+                        .arguments(optional(integer(Text.of("limit"))))
+                        .executor((src, args) -> {
+                            if (!Timings.isTimingsEnabled()) {
+                                src.sendMessage(Text.of("Please enable timings by typing /sponge timings on"));
+                                return CommandResult.empty();
+                            }
+                            if (!SpongeTimingsFactory.isHistogramsEnabled()) {
+                                SpongeTimingsFactory.setHistogramsEnabled(true);
+                                src.sendMessage(Text.of("Enabled Timings histograms, run this command again later to see them"));
+                                return CommandResult.success();
+                            }
+                            SpongeTimingsFactory.sendHistogramReport(src, args.<Integer>getOne("limit").orElse(10));
+                            return CommandResult.success();
+                        })
+                        .build(), "histograms")
+                .child(CommandSpec.builder()
+                        .child(CommandSpec.builder()
+                                .executor((src, args) -> {
+                                    if (TimingsSampler.isRunning()) {
+                                        src.sendMessage(Text.of("The sampling profiler is already running"));
+                                        return CommandResult.empty();
+                                    }
+                                    TimingsSampler.start(SpongeImpl.getGlobalConfig().getConfig().getTimings().getSamplerInterval());
+                                    src.sendMessage(Text.of("Started the sampling profiler, use /sponge timings export to write the samples"));
+                                    return CommandResult.success();
+                                })
+                                .build(), "start")
+                        .child(CommandSpec.builder()
+                                .executor((src, args) -> {
+                                    TimingsSampler.stop();
+                                    src.sendMessage(Text.of("Stopped the sampling profiler after " + TimingsSampler.getSampleCount() + " samples"));
+                                    return CommandResult.success();
+                                })
+                                .build(), "stop")
+                        .child(CommandSpec.builder()
+                                .executor((src, args) -> {
+                                    TimingsSampler.reset();
+                                    src.sendMessage(Text.of("Cleared the sampling profiler"));
+                                    return CommandResult.success();
+                                })
+                                .build(), "reset")
+                        .build(), "sampler")
                 .child(CommandSpec.builder()
                         .executor((src, args) -> {
                             Timings.setTimingsEnabled(true);
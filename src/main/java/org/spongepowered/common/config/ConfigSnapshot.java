@@ -0,0 +1,127 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config;
+
+import org.spongepowered.common.config.category.EntityCategory;
+import org.spongepowered.common.config.type.ConfigBase;
+import org.spongepowered.common.config.type.GeneralConfigBase;
+import org.spongepowered.common.config.type.GlobalConfig;
+
+/**
+ * An immutable, flattened view of the settings read on hot paths such as
+ * entity ticking and the file IO thread.
+ *
+ * <p>Values are resolved once from the mapped config instance, which has
+ * already been merged with its parents, and stored in final primitive
+ * fields. {@link SpongeConfig} compiles a new snapshot whenever its
+ * instance is repopulated and swaps it in with a single volatile write, so
+ * readers never observe a partially reloaded config.</p>
+ */
+public final class ConfigSnapshot {
+
+    static final ConfigSnapshot EMPTY = new ConfigSnapshot(null);
+
+    private final double hardDespawnRangeSquared;
+    private final double softDespawnRangeSquared;
+    private final int minimumLifeTicks;
+    private final int itemDespawnRate;
+    private final double itemMergeRadius;
+    private final int maxEntitySpeed;
+    private final int maxBoundingBoxSize;
+    private final boolean logEntitySpeedRemoval;
+    private final boolean fileIOThreadSleep;
+    private final boolean phaseTrackerVerbose;
+
+    static ConfigSnapshot compile(ConfigBase config) {
+        return new ConfigSnapshot(config);
+    }
+
+    private ConfigSnapshot(ConfigBase config) {
+        final GeneralConfigBase general = config instanceof GeneralConfigBase ? (GeneralConfigBase) config : null;
+        final EntityCategory entity = general == null ? new EntityCategory() : general.getEntity();
+        this.hardDespawnRangeSquared = (double) entity.getHardDespawnRange() * entity.getHardDespawnRange();
+        this.softDespawnRangeSquared = (double) entity.getSoftDespawnRange() * entity.getSoftDespawnRange();
+        this.minimumLifeTicks = entity.getMinimumLife() * 20;
+        this.itemDespawnRate = entity.getItemDespawnRate();
+        this.maxEntitySpeed = entity.getMaxSpeed();
+        this.maxBoundingBoxSize = entity.getMaxBoundingBoxSize();
+        this.itemMergeRadius = general == null ? 2.5D : Math.max(0, general.getWorld().getItemMergeRadius());
+        this.logEntitySpeedRemoval = general != null && general.getLogging().logEntitySpeedRemoval();
+        if (config instanceof GlobalConfig) {
+            final GlobalConfig global = (GlobalConfig) config;
+            this.fileIOThreadSleep = global.getGeneral().getFileIOThreadSleep();
+            this.phaseTrackerVerbose = global.getPhaseTracker().isVerbose();
+        } else {
+            this.fileIOThreadSleep = false;
+            this.phaseTrackerVerbose = false;
+        }
+    }
+
+    public double getHardDespawnRangeSquared() {
+        return this.hardDespawnRangeSquared;
+    }
+
+    public double getSoftDespawnRangeSquared() {
+        return this.softDespawnRangeSquared;
+    }
+
+    public int getMinimumLifeTicks() {
+        return this.minimumLifeTicks;
+    }
+
+    public int getItemDespawnRate() {
+        return this.itemDespawnRate;
+    }
+
+    public double getItemMergeRadius() {
+        return this.itemMergeRadius;
+    }
+
+    public int getMaxEntitySpeed() {
+        return this.maxEntitySpeed;
+    }
+
+    public int getMaxBoundingBoxSize() {
+        return this.maxBoundingBoxSize;
+    }
+
+    public boolean logEntitySpeedRemoval() {
+        return this.logEntitySpeedRemoval;
+    }
+
+    /**
+     * Only meaningful on the global config.
+     */
+    public boolean getFileIOThreadSleep() {
+        return this.fileIOThreadSleep;
+    }
+
+    /**
+     * Only meaningful on the global config.
+     */
+    public boolean isPhaseTrackerVerbose() {
+        return this.phaseTrackerVerbose;
+    }
+}
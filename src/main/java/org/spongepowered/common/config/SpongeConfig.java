@@ -116,6 +116,12 @@ public enum Type {
      */
     private ObjectMapper<T>.BoundInstance configMapper;
 
+    /**
+     * The compiled hot path settings of the populated config instance,
+     * replaced as a whole every time the instance is repopulated.
+     */
+    private volatile ConfigSnapshot snapshot = ConfigSnapshot.EMPTY;
+
     private final String modId;
     private final boolean isDummy;
 
@@ -131,6 +137,7 @@ private SpongeConfig(Type type) {
 
         try {
             this.configMapper = (ObjectMapper.BoundInstance) ObjectMapper.forClass(this.type.type).bindToNew();
+            this.snapshot = ConfigSnapshot.compile(this.configMapper.getInstance());
         } catch (Exception e) {
             SpongeImpl.getLogger().error("Failed to initialize dummy configuration", e);
         }
@@ -173,6 +180,16 @@ public T getConfig() {
         return this.configMapper.getInstance();
     }
 
+    /**
+     * Gets the immutable snapshot of the settings read on hot paths. The
+     * returned instance is never modified; a reload swaps in a new one.
+     *
+     * @return The current config snapshot
+     */
+    public ConfigSnapshot getSnapshot() {
+        return this.snapshot;
+    }
+
     public void save() {
         if (this.isDummy) {
             return;
@@ -180,10 +197,63 @@ public void save() {
         SpongeImpl.getConfigSaveManager().save(this);
     }
 
+    /**
+     * Queues this config to be written off the main thread, batched with
+     * any other config queued around the same time. Used for values that
+     * are populated automatically, such as newly discovered entity types.
+     */
+    public void queueSave() {
+        if (this.isDummy) {
+            return;
+        }
+        SpongeImpl.getConfigSaveManager().queue(this);
+    }
+
     public boolean saveNow() {
         if (this.isDummy) {
             return false;
         }
+        // Goes through the save manager, so older queued copies of this config don't overwrite it afterwards
+        return SpongeImpl.getConfigSaveManager().saveNow(this);
+    }
+
+    @Nullable
+    SpongeConfig<?> getParent() {
+        return this.parent;
+    }
+
+    /**
+     * Serializes and writes this config and its parents right away. Only
+     * called by the {@link SpongeConfigSaveManager}.
+     *
+     * @return True if this config was written
+     */
+    boolean write() {
+        // In order for the removeDuplicates method to function properly, it is extremely
+        // important to avoid running save on parent BEFORE children save. Doing so will
+        // cause duplicate nodes to not be removed as parent would have cleaned up
+        // all duplicates prior.
+        // To handle the above issue, the parent is written AFTER the child config.
+        final PendingSave pendingSave = prepareSave();
+        final boolean written = pendingSave != null && pendingSave.write();
+        if (this.parent != null) {
+            this.parent.write();
+        }
+        return written;
+    }
+
+    /**
+     * Serializes this config, without its parents, into a node which can be
+     * written from any thread. Must be called from the thread that populates
+     * the config.
+     *
+     * @return The serialized config, or null if it couldn't be serialized
+     */
+    @Nullable
+    PendingSave prepareSave() {
+        if (this.isDummy) {
+            return null;
+        }
         try {
             // save from the mapped object --> node
             CommentedConfigurationNode saveNode = SimpleCommentedConfigurationNode.root(LOADER_OPTIONS);
@@ -193,22 +263,35 @@ public boolean saveNow() {
             if (this.parent != null) {
                 removeDuplicates(saveNode);
             }
+            return new PendingSave(this.loader, saveNode);
+        } catch (ObjectMappingException e) {
+            SpongeImpl.getLogger().error("Failed to save configuration", e);
+            return null;
+        }
+    }
 
-            // save the data to disk
-            this.loader.save(saveNode);
+    /**
+     * The serialized state of a config, waiting to be written to disk.
+     */
+    static final class PendingSave {
 
-            // In order for the removeDuplicates method to function properly, it is extremely
-            // important to avoid running save on parent BEFORE children save. Doing so will
-            // cause duplicate nodes to not be removed as parent would have cleaned up
-            // all duplicates prior.
-            // To handle the above issue, we save AFTER saving child config.
-            if (this.parent != null) {
-                this.parent.saveNow();
+        private final HoconConfigurationLoader loader;
+        private final CommentedConfigurationNode node;
+
+        PendingSave(HoconConfigurationLoader loader, CommentedConfigurationNode node) {
+            this.loader = loader;
+            this.node = node;
+        }
+
+        boolean write() {
+            try {
+                // save the data to disk
+                this.loader.save(this.node);
+            } catch (IOException e) {
+                SpongeImpl.getLogger().error("Failed to save configuration", e);
+                return false;
             }
             return true;
-        } catch (IOException | ObjectMappingException e) {
-            SpongeImpl.getLogger().error("Failed to save configuration", e);
-            return false;
         }
     }
 
@@ -259,6 +342,7 @@ private void populateInstance() throws ObjectMappingException {
             return;
         }
         this.configMapper.populate(this.data.getNode(this.modId));
+        this.snapshot = ConfigSnapshot.compile(this.configMapper.getInstance());
     }
 
     /**
@@ -24,13 +24,19 @@
  */
 package org.spongepowered.common.config;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.spongepowered.api.GameState;
-import org.spongepowered.api.Sponge;
-import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.common.SpongeImpl;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
@@ -40,27 +46,197 @@
  * this manager acts as a staging ground for file saves so that we can do them
  * in batches.
  *
+ * <p>Saves requested through {@link #queue(SpongeConfig)} never touch the disk
+ * on the calling thread. The config is only marked dirty, all dirty configs
+ * and their parents are serialized once per server tick on the main thread by
+ * {@link #serializeQueued()}, each of them only once. The latest serialized
+ * state of each config is written by a single background thread once no new
+ * request has arrived for {@link #QUEUE_DEBOUNCE_MILLIS}, so a burst of
+ * discovered entity or tile entity types results in one write per touched
+ * config.</p>
+ *
+ * <p>Saving a config right away drops the queued state of that config and
+ * its parents, so an older queued copy never overwrites it later on.</p>
+ *
  * <p>This class is intended to be thread safe through the use of
  * synchronisation.</p>
  */
 public class SpongeConfigSaveManager {
 
+    private static final long QUEUE_DEBOUNCE_MILLIS = 5000;
+
     private final Set<SpongeConfig<?>> stagedConfigs = new HashSet<>();
+    // Queued configs which still have to be serialized on the main thread
+    private final Set<SpongeConfig<?>> dirtyConfigs = new LinkedHashSet<>();
+    // Serialized configs waiting for the background writer, children are ordered before their parents
+    private final Map<SpongeConfig<?>, SpongeConfig.PendingSave> queuedSaves = new LinkedHashMap<>();
+
+    /**
+     * Held while configs are actually written so that a synchronous flush
+     * never interleaves with the background writer. Always acquired before
+     * the lock on this manager.
+     */
+    private final Object writeLock = new Object();
+
+    @Nullable private ScheduledExecutorService writer;
+    private boolean writeScheduled;
+    private boolean shutdown;
+    private long lastQueued;
+    // Incremented whenever configs are written right away, see serializeQueued
+    private long directSaves;
 
     public void save(SpongeConfig<?> spongeConfig) {
-        synchronized (this) {
-            if (!SpongeImpl.isInitialized() || // if we're not initialised, then we're likely testing and should just pass on through.
-                    SpongeImpl.getGame().getState() == GameState.SERVER_STARTED || SpongeImpl.getGame().getState() == GameState.GAME_STOPPED) {
-                if (!this.stagedConfigs.isEmpty()) {
-                    // We want to save and flush now, but add this into the set in case it is already present.
-                    this.stagedConfigs.add(spongeConfig);
-                    flush();
+        synchronized (this.writeLock) {
+            synchronized (this) {
+                if (!SpongeImpl.isInitialized() || // if we're not initialised, then we're likely testing and should just pass on through.
+                        SpongeImpl.getGame().getState() == GameState.SERVER_STARTED || SpongeImpl.getGame().getState() == GameState.GAME_STOPPED) {
+                    if (!this.stagedConfigs.isEmpty()) {
+                        // We want to save and flush now, but add this into the set in case it is already present.
+                        this.stagedConfigs.add(spongeConfig);
+                        flush();
+                    } else {
+                        // just save
+                        saveNow(spongeConfig);
+                    }
                 } else {
-                    // just save
-                    spongeConfig.saveNow();
+                    this.stagedConfigs.add(spongeConfig);
                 }
-            } else {
-                this.stagedConfigs.add(spongeConfig);
+            }
+        }
+    }
+
+    /**
+     * Writes the given config and its parents right away, dropping any state
+     * of them that is still queued.
+     *
+     * @param spongeConfig The config to save
+     * @return True if the config was written
+     */
+    public boolean saveNow(SpongeConfig<?> spongeConfig) {
+        synchronized (this.writeLock) {
+            synchronized (this) {
+                this.directSaves++;
+                for (SpongeConfig<?> config = spongeConfig; config != null; config = config.getParent()) {
+                    this.dirtyConfigs.remove(config);
+                    this.queuedSaves.remove(config);
+                }
+            }
+            return spongeConfig.write();
+        }
+    }
+
+    /**
+     * Queues a config to be written by the background writer. Intended for
+     * data populated automatically while the game is running, where losing
+     * the most recent few seconds on a crash is acceptable.
+     *
+     * <p>The config is only marked dirty here, it is serialized together
+     * with all other dirty configs by {@link #serializeQueued()}.</p>
+     *
+     * @param spongeConfig The config to save eventually
+     */
+    public void queue(SpongeConfig<?> spongeConfig) {
+        synchronized (this) {
+            if (this.stagedConfigs.contains(spongeConfig)) {
+                // Already waiting for the next synchronous flush
+                return;
+            }
+            if (SpongeImpl.isInitialized() && !this.shutdown) {
+                this.dirtyConfigs.add(spongeConfig);
+                return;
+            }
+        }
+        save(spongeConfig);
+    }
+
+    /**
+     * Serializes all configs queued since the last call, including their
+     * parents, and hands them to the background writer. Each config is
+     * serialized only once, no matter how many of its children were queued.
+     * Called once per server tick from the main thread.
+     */
+    public void serializeQueued() {
+        final List<SpongeConfig<?>> dirty;
+        final long directSaves;
+        synchronized (this) {
+            if (this.dirtyConfigs.isEmpty()) {
+                return;
+            }
+            dirty = new ArrayList<>(this.dirtyConfigs);
+            this.dirtyConfigs.clear();
+            directSaves = this.directSaves;
+        }
+        // Move parents behind their children, so they are written after them
+        final Set<SpongeConfig<?>> toSerialize = new LinkedHashSet<>();
+        for (SpongeConfig<?> spongeConfig : dirty) {
+            for (SpongeConfig<?> config = spongeConfig; config != null; config = config.getParent()) {
+                toSerialize.remove(config);
+                toSerialize.add(config);
+            }
+        }
+        final Map<SpongeConfig<?>, SpongeConfig.PendingSave> serialized = new LinkedHashMap<>();
+        for (SpongeConfig<?> config : toSerialize) {
+            final SpongeConfig.PendingSave pendingSave = config.prepareSave();
+            if (pendingSave != null) {
+                serialized.put(config, pendingSave);
+            }
+        }
+        synchronized (this) {
+            if (!this.shutdown) {
+                if (this.directSaves != directSaves) {
+                    // Some config was written right away while serializing, which may be newer than what was
+                    // serialized here. Serialize the batch again next tick instead of risking to overwrite it.
+                    this.dirtyConfigs.addAll(dirty);
+                    return;
+                }
+                for (Map.Entry<SpongeConfig<?>, SpongeConfig.PendingSave> entry : serialized.entrySet()) {
+                    this.queuedSaves.remove(entry.getKey());
+                    this.queuedSaves.put(entry.getKey(), entry.getValue());
+                }
+                this.lastQueued = System.nanoTime();
+                if (!this.writeScheduled) {
+                    this.writeScheduled = true;
+                    getWriter().schedule(this::writeQueued, QUEUE_DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                return;
+            }
+        }
+        // Shut down while serializing, the final flush already happened
+        for (SpongeConfig<?> config : dirty) {
+            saveNow(config);
+        }
+    }
+
+    private ScheduledExecutorService getWriter() {
+        if (this.writer == null) {
+            this.writer = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                    .setNameFormat("Sponge - Config Writer")
+                    .setDaemon(true)
+                    .build());
+        }
+        return this.writer;
+    }
+
+    // Only writes the already serialized configs, the live config objects are never touched here
+    private void writeQueued() {
+        synchronized (this.writeLock) {
+            final List<SpongeConfig.PendingSave> toWrite;
+            synchronized (this) {
+                if (this.shutdown) {
+                    return;
+                }
+                final long quietMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.lastQueued);
+                if (quietMillis < QUEUE_DEBOUNCE_MILLIS) {
+                    // Still receiving requests, wait for the burst to settle
+                    getWriter().schedule(this::writeQueued, QUEUE_DEBOUNCE_MILLIS - quietMillis, TimeUnit.MILLISECONDS);
+                    return;
+                }
+                this.writeScheduled = false;
+                toWrite = new ArrayList<>(this.queuedSaves.values());
+                this.queuedSaves.clear();
+            }
+            for (SpongeConfig.PendingSave pendingSave : toWrite) {
+                pendingSave.write();
             }
         }
     }
@@ -73,9 +249,13 @@ public void save(SpongeConfig<?> spongeConfig) {
      * @return {@code true} if successful or unneeded, false otherwise.
      */
     public boolean flush(SpongeConfig<?> config) {
-        synchronized (this) {
-            if (this.stagedConfigs.remove(config)) {
-                return config.saveNow();
+        synchronized (this.writeLock) {
+            synchronized (this) {
+                final boolean staged = this.stagedConfigs.remove(config);
+                if (staged || this.dirtyConfigs.contains(config) || this.queuedSaves.containsKey(config)) {
+                    // The live config is at least as recent as anything queued for it
+                    return saveNow(config);
+                }
             }
         }
 
@@ -83,15 +263,47 @@ public boolean flush(SpongeConfig<?> config) {
     }
 
     public void flush() {
-        if (!this.stagedConfigs.isEmpty()) {
+        synchronized (this.writeLock) {
             synchronized (this) {
+                if (this.stagedConfigs.isEmpty() && this.dirtyConfigs.isEmpty() && this.queuedSaves.isEmpty()) {
+                    return;
+                }
                 for (SpongeConfig<?> spongeConfig : this.stagedConfigs) {
-                    spongeConfig.saveNow();
+                    saveNow(spongeConfig);
+                }
+                for (SpongeConfig<?> spongeConfig : new ArrayList<>(this.dirtyConfigs)) {
+                    saveNow(spongeConfig);
+                }
+                // Saving the configs above already dropped their queued state
+                for (SpongeConfig.PendingSave pendingSave : this.queuedSaves.values()) {
+                    pendingSave.write();
                 }
 
                 this.stagedConfigs.clear();
+                this.dirtyConfigs.clear();
+                this.queuedSaves.clear();
             }
         }
     }
 
+    /**
+     * Flushes all configs and stops the background writer. Configs queued
+     * afterwards are saved right away.
+     */
+    public void shutdown() {
+        final ScheduledExecutorService writer;
+        synchronized (this.writeLock) {
+            synchronized (this) {
+                flush();
+                this.shutdown = true;
+                writer = this.writer;
+                this.writer = null;
+            }
+        }
+        if (writer != null) {
+            // Nothing is being written anymore, pending runs would return right away
+            writer.shutdownNow();
+        }
+    }
+
 }
@@ -0,0 +1,64 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class AsyncChunkLoadingCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = "If 'true', chunks requested by players are read from disk asynchronously.\n"
+                                        + "Region reads, decompression and NBT parsing happen on worker threads, only\n"
+                                        + "the creation of entities and tile entities happens on the main thread.")
+    private boolean enabled = false;
+
+    @Setting(value = "num-threads", comment = "The amount of threads to dedicate for asynchronous chunk reads. (Default: 2)")
+    private int numAsyncThreads = 2;
+
+    @Setting(value = "max-loads-per-tick", comment = "The maximum amount of chunks whose data was read asynchronously that are created\n"
+                                                   + "on the main thread per tick. The remaining chunks are created on the next ticks. (Default: 49)")
+    private int maxLoadsPerTick = 49;
+
+    @Setting(value = "max-generations-per-tick", comment = "The maximum amount of chunks requested by players that are generated per tick\n"
+                                                         + "if they don't exist on disk yet. (Default: 4)")
+    private int maxGenerationsPerTick = 4;
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public int getNumThreads() {
+        return this.numAsyncThreads;
+    }
+
+    public int getMaxLoadsPerTick() {
+        return this.maxLoadsPerTick;
+    }
+
+    public int getMaxGenerationsPerTick() {
+        return this.maxGenerationsPerTick;
+    }
+}
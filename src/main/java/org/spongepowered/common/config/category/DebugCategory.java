@@ -48,6 +48,10 @@ public class DebugCategory extends ConfigCategory {
             + "This may decrease sever preformance, so you should only enable it when debugging a specific issue.")
     private boolean concurrentChunkMapChecks = false;
 
+    @Setting(value = "registry-timings", comment = "If 'true', the time spent initializing each registry module is printed once startup\n"
+                                                   + "registration has finished.")
+    private boolean registryTimings = false;
+
     public boolean doConcurrentEntityChecks() {
         return this.concurrentEntityChecks;
     }
@@ -56,6 +60,10 @@ public boolean doConcurrentChunkMapChecks() {
         return this.concurrentChunkMapChecks;
     }
 
+    public boolean printRegistryTimings() {
+        return this.registryTimings;
+    }
+
     public boolean isEnableThreadContentionMonitoring() {
         return this.enableThreadContentionMonitoring;
     }
@@ -0,0 +1,76 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class EntityStackingCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = "If 'true', identical entities occupying the exact same position are merged into\n"
+                                        + "a single ticking entity that keeps a count of the entities it represents.\n"
+                                        + "The merged entities are expanded again when they detonate or land. Merged\n"
+                                        + "entities that were saved are expanded again after loading once this is disabled.")
+    private boolean enabled = false;
+
+    @Setting(value = "merge-tnt", comment = "If 'true', primed TNT with the same position, motion and fuse is merged.\n"
+                                          + "Merged TNT is pushed by explosions as a single entity and all of it explodes on\n"
+                                          + "the same tick, which can change the behavior of TNT contraptions.")
+    private boolean mergeTnt = true;
+
+    @Setting(value = "merge-falling-blocks", comment = "If 'true', falling blocks with the same block state, position and motion are merged.\n"
+                                                     + "When a merged falling block lands, the blocks it represents continue from the\n"
+                                                     + "state they had on the tick before and land one tick later than they otherwise\n"
+                                                     + "would, which can change the timing of sand and gravel contraptions.")
+    private boolean mergeFallingBlocks = true;
+
+    @Setting(value = "max-stack-size", comment = "The maximum amount of entities a single merged entity can represent. (Default: 256)")
+    private int maxStackSize = 256;
+
+    @Setting(value = "merge-interval", comment = "Entities look for others to merge with on the first 2 ticks after spawning,\n"
+                                               + "afterwards only every this many ticks. (Default: 10)")
+    private int mergeInterval = 10;
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public boolean isMergeTnt() {
+        return this.mergeTnt;
+    }
+
+    public boolean isMergeFallingBlocks() {
+        return this.mergeFallingBlocks;
+    }
+
+    public int getMaxStackSize() {
+        return this.maxStackSize;
+    }
+
+    public int getMergeInterval() {
+        return this.mergeInterval;
+    }
+}
@@ -36,6 +36,15 @@ public class EntityTrackerCategory extends ConfigCategory {
     @Setting(value = "auto-populate", comment = "If 'true', newly discovered entities will be added to this config with default settings.")
     private boolean autoPopulate = false;
 
+    @Setting(value = "parallel-visibility-updates", comment = "If 'true', the checks which players can see which entities are run on worker threads.\n"
+                                                            + "Only the resulting changes are applied on the main thread. Mods whose entities\n"
+                                                            + "perform non thread-safe visibility checks may not work with this enabled.")
+    private boolean parallelVisibilityUpdates = false;
+
+    @Setting(value = "parallel-visibility-threads", comment = "The amount of threads to use for parallel visibility updates.\n"
+                                                            + "If '0', the amount of available processors minus one is used.")
+    private int parallelVisibilityThreads = 0;
+
     @Setting(value = "mods", comment = "Per-mod entity id mappings for controlling tracking behavior")
     private Map<String, EntityTrackerModCategory> modMapping = new HashMap<>();
 
@@ -51,4 +60,12 @@ public boolean autoPopulateData() {
         return this.autoPopulate;
     }
 
+    public boolean useParallelVisibilityUpdates() {
+        return this.parallelVisibilityUpdates;
+    }
+
+    public int getParallelVisibilityThreads() {
+        return this.parallelVisibilityThreads;
+    }
+
 }
@@ -88,6 +88,37 @@ public class OptimizationCategory extends ConfigCategory {
             + "It is strongly reccomended to keep this on, unless explicitly advised otherwise by a Sponge developer")
     private boolean mapOptimization = true;
 
+    @Setting(value = "packet-batching", comment = "Batches outbound player packets so each connection is flushed once per tick.")
+    private PacketBatchingCategory packetBatchingCategory = new PacketBatchingCategory();
+
+    @Setting(value = "merge-explosion-exposure", comment = "If 'true', explosions detonated at the same position during the same tick share\n"
+                                                           + "the exposure calculated for each entity bounding box. This greatly reduces the cost\n"
+                                                           + "of TNT cannons, but blocks destroyed by an earlier explosion of the same tick are\n"
+                                                           + "not taken into account when damaging entities.")
+    private boolean mergeExplosionExposure = false;
+
+    @Setting(value = "async-chunk-loading", comment = "Reads chunks requested by players from disk asynchronously.")
+    private AsyncChunkLoadingCategory asyncChunkLoadingCategory = new AsyncChunkLoadingCategory();
+
+    @Setting(value = "entity-stacking", comment = "Merges identical primed TNT and falling blocks into single ticking entities.")
+    private EntityStackingCategory entityStackingCategory = new EntityStackingCategory();
+
+    @Setting(value = "fast-hopper-transfers", comment = "If 'true', hoppers cache the inventories they transfer items from and to, and\n"
+                                                        + "don't retry a failed transfer until either inventory changed. This relies on\n"
+                                                        + "inventories being marked dirty when their contents change, which may not be\n"
+                                                        + "the case for some modded inventories.")
+    private boolean fastHopperTransfers = false;
+
+    @Setting(value = "block-state-transition-table", comment = "If 'true', block state property changes are looked up in flat arrays built\n"
+                                                               + "when the block states are created, instead of in hash based tables.")
+    private boolean blockStateTransitionTable = false;
+
+    @Setting(value = "parallel-registry-init", comment = "If 'true', registry modules that don't depend on each other and are known to be\n"
+                                                         + "safe to register concurrently are initialized in parallel during startup. All\n"
+                                                         + "other modules, including those registered by plugins, are still initialized on\n"
+                                                         + "the main thread. Disable this if startup fails or hangs while registering catalogs.")
+    private boolean parallelRegistryInit = false;
+
     public OptimizationCategory() {
         try {
             // Enabled by default on SpongeVanilla, disabled by default on SpongeForge.
@@ -155,4 +186,48 @@ public boolean useEnchantmentHelperFix() {
     public boolean useFastThreadChecks() {
         return this.fasterThreadChecks;
     }
+
+    public PacketBatchingCategory getPacketBatchingCategory() {
+        return this.packetBatchingCategory;
+    }
+
+    public boolean usePacketBatching() {
+        return this.packetBatchingCategory.isEnabled();
+    }
+
+    public boolean useMergeExplosionExposure() {
+        return this.mergeExplosionExposure;
+    }
+
+    public AsyncChunkLoadingCategory getAsyncChunkLoadingCategory() {
+        return this.asyncChunkLoadingCategory;
+    }
+
+    public boolean useAsyncChunkLoading() {
+        return this.asyncChunkLoadingCategory.isEnabled();
+    }
+
+    public EntityStackingCategory getEntityStackingCategory() {
+        return this.entityStackingCategory;
+    }
+
+    public boolean useTntStacking() {
+        return this.entityStackingCategory.isEnabled() && this.entityStackingCategory.isMergeTnt();
+    }
+
+    public boolean useFallingBlockStacking() {
+        return this.entityStackingCategory.isEnabled() && this.entityStackingCategory.isMergeFallingBlocks();
+    }
+
+    public boolean useFastHopperTransfers() {
+        return this.fastHopperTransfers;
+    }
+
+    public boolean useBlockStateTransitionTable() {
+        return this.blockStateTransitionTable;
+    }
+
+    public boolean useParallelRegistryInit() {
+        return this.parallelRegistryInit;
+    }
 }
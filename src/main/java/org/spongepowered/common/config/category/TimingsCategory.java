@@ -51,6 +51,18 @@ public class TimingsCategory extends ConfigCategory {
     @Setting("history-length")
     private int historyLength = 3600;
 
+    @Setting(value = "local-export", comment = "If 'true', timings reports are written to the 'timings' folder instead of being uploaded.\n"
+            + "Use this when the server can not reach the timings site.")
+    private boolean localExport = false;
+
+    @Setting(value = "histograms", comment = "If 'true', a histogram of per tick time is recorded for every handler, which allows\n"
+            + "finding spikes by percentile with '/sponge timings histograms' and in local exports.")
+    private boolean histograms = false;
+
+    @Setting(value = "sampler-interval", comment = "The time in milliseconds between two samples of the main thread taken by\n"
+            + "'/sponge timings sampler start'. Lower values are more precise but cost more. (Default: 10)")
+    private int samplerInterval = 10;
+
     public boolean isVerbose() {
         return this.verbose;
     }
@@ -83,4 +95,20 @@ public void setHistoryLength(int historyLength) {
         this.historyLength = historyLength;
     }
 
+    public boolean isLocalExport() {
+        return this.localExport;
+    }
+
+    public boolean isHistograms() {
+        return this.histograms;
+    }
+
+    public void setHistograms(boolean histograms) {
+        this.histograms = histograms;
+    }
+
+    public int getSamplerInterval() {
+        return this.samplerInterval;
+    }
+
 }
\ No newline at end of file
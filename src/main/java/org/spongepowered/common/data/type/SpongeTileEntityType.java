@@ -100,7 +100,7 @@ public void initializeTrackerState() {
         }
 
         if (tileEntityTracker.autoPopulateData()) {
-            trackerConfig.save();
+            trackerConfig.queueSave();
         }
     }
 
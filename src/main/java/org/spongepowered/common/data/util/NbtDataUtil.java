@@ -191,6 +191,7 @@ public static final class Minecraft {
     public static final String MINECART_TYPE = "Type";
     public static final String ENTITY_POSITION = "Pos";
     public static final String ENTITY_DIMENSION = "Dimension";
+    public static final String ENTITY_STACK_COUNT = "SpongeStackCount";
 
     // These are used by pickup/despawn delay for ItemEntity
     public static final String INFINITE_PICKUP_DELAY = "InfinitePickupDelay";
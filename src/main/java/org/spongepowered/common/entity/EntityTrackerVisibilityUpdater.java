@@ -0,0 +1,215 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.entity.EntityTrackerEntry;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import org.spongepowered.common.SpongeImpl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.annotation.Nullable;
+
+/**
+ * Updates which players are tracking which entities of an entity tracker,
+ * checking the visibility of all entity/player pairs on worker threads.
+ *
+ * <p>The visibility checks are read-only, so they are partitioned across a
+ * shared worker pool while the main thread waits. Only the pairs whose
+ * tracking state actually has to change are then passed to
+ * {@link EntityTrackerEntry#updatePlayerEntity(EntityPlayerMP)} on the main
+ * thread, which sends the spawn and destroy packets.</p>
+ */
+public final class EntityTrackerVisibilityUpdater {
+
+    /**
+     * The minimum amount of visibility checks per task, smaller workloads
+     * are not worth the overhead of scheduling them on another thread.
+     */
+    private static final int MIN_CHECKS_PER_TASK = 2048;
+
+    @Nullable private static ExecutorService executor;
+    private static int threads;
+
+    private final Set<EntityTrackerEntry> movedEntries = new HashSet<>();
+    private boolean capturing;
+
+    private static int getThreads() {
+        if (threads == 0) {
+            final int configured = SpongeImpl.getTrackerConfig().getConfig().getEntityTracker().getParallelVisibilityThreads();
+            threads = configured > 0 ? configured : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        }
+        return threads;
+    }
+
+    private static ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(getThreads(),
+                    new ThreadFactoryBuilder().setNameFormat("Sponge - Entity Tracker Thread #%d").setDaemon(true).build());
+        }
+        return executor;
+    }
+
+    /**
+     * Starts capturing the entries whose visibility has to be updated for
+     * all players, instead of updating them immediately.
+     */
+    public void startCapturing() {
+        this.capturing = true;
+    }
+
+    /**
+     * Captures an entry which moved far enough that its visibility has to
+     * be updated for all players.
+     *
+     * @param entry The entry
+     * @return Whether the entry was captured
+     */
+    public boolean capture(EntityTrackerEntry entry) {
+        if (!this.capturing) {
+            return false;
+        }
+        this.movedEntries.add(entry);
+        return true;
+    }
+
+    /**
+     * Stops capturing and updates the tracking players of all captured
+     * entries, and of all entries for the players that moved.
+     *
+     * @param entries All entries of the tracker
+     * @param players All players of the world
+     * @param movedPlayers The players that moved far enough to be updated
+     *     for all entries
+     */
+    public void update(Collection<EntityTrackerEntry> entries, List<EntityPlayer> players, List<EntityPlayerMP> movedPlayers) {
+        this.capturing = false;
+        if (this.movedEntries.isEmpty() && movedPlayers.isEmpty()) {
+            return;
+        }
+
+        final EntityTrackerEntry[] toUpdate = movedPlayers.isEmpty()
+                ? this.movedEntries.toArray(new EntityTrackerEntry[0])
+                : entries.toArray(new EntityTrackerEntry[0]);
+
+        final long checks = (long) this.movedEntries.size() * players.size() + (long) toUpdate.length * movedPlayers.size();
+        final int taskCount = (int) Math.min(checks / MIN_CHECKS_PER_TASK, getThreads());
+
+        List<Change> changes = null;
+        if (taskCount > 1) {
+            final ExecutorService executor = getExecutor();
+            final List<Future<List<Change>>> futures = new ArrayList<>(taskCount);
+            final int perTask = (toUpdate.length + taskCount - 1) / taskCount;
+            for (int from = 0; from < toUpdate.length; from += perTask) {
+                final int start = from;
+                final int end = Math.min(from + perTask, toUpdate.length);
+                futures.add(executor.submit(() -> findChanges(toUpdate, start, end, players, movedPlayers)));
+            }
+            changes = new ArrayList<>();
+            try {
+                for (Future<List<Change>> future : futures) {
+                    changes.addAll(future.get());
+                }
+            } catch (InterruptedException | ExecutionException e) {
+                SpongeImpl.getLogger().error("Failed to check entity visibility in parallel, falling back to the main thread.", e);
+                changes = null;
+            }
+        }
+        if (changes == null) {
+            changes = findChanges(toUpdate, 0, toUpdate.length, players, movedPlayers);
+        }
+
+        // Apply the changes on the main thread
+        for (Change change : changes) {
+            change.entry.updatePlayerEntity(change.player);
+        }
+        this.movedEntries.clear();
+    }
+
+    private List<Change> findChanges(EntityTrackerEntry[] toUpdate, int start, int end, List<EntityPlayer> players,
+            List<EntityPlayerMP> movedPlayers) {
+        final List<Change> changes = new ArrayList<>();
+        for (int i = start; i < end; i++) {
+            final EntityTrackerEntry entry = toUpdate[i];
+            if (this.movedEntries.contains(entry)) {
+                for (EntityPlayer player : players) {
+                    findChange(entry, (EntityPlayerMP) player, changes);
+                }
+            } else {
+                for (EntityPlayerMP player : movedPlayers) {
+                    findChange(entry, player, changes);
+                }
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Mirrors the checks of {@link EntityTrackerEntry#updatePlayerEntity(EntityPlayerMP)}
+     * without changing anything.
+     */
+    private static void findChange(EntityTrackerEntry entry, EntityPlayerMP player, List<Change> changes) {
+        if (entry.getTrackedEntity() == player) {
+            return;
+        }
+        final boolean tracking = entry.trackingPlayers.contains(player);
+        final boolean change;
+        if (entry.isVisibleTo(player)) {
+            change = !tracking && (entry.getTrackedEntity().forceSpawn || isWatchingChunk(entry, player));
+        } else {
+            change = tracking;
+        }
+        if (change) {
+            changes.add(new Change(entry, player));
+        }
+    }
+
+    private static boolean isWatchingChunk(EntityTrackerEntry entry, EntityPlayerMP player) {
+        return player.getServerWorld().getPlayerChunkMap()
+                .isPlayerWatchingChunk(player, entry.getTrackedEntity().chunkCoordX, entry.getTrackedEntity().chunkCoordZ);
+    }
+
+    private static final class Change {
+
+        final EntityTrackerEntry entry;
+        final EntityPlayerMP player;
+
+        Change(EntityTrackerEntry entry, EntityPlayerMP player) {
+            this.entry = entry;
+            this.player = player;
+        }
+    }
+
+}
@@ -33,6 +33,7 @@
 import com.google.common.collect.ImmutableList;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityHanging;
+import net.minecraft.entity.EntityList;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.EntityTracker;
 import net.minecraft.entity.EntityTrackerEntry;
@@ -41,6 +42,7 @@
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.play.server.SPacketChangeGameState;
 import net.minecraft.network.play.server.SPacketDestroyEntities;
 import net.minecraft.network.play.server.SPacketEffect;
@@ -96,6 +98,7 @@
 import org.spongepowered.api.world.storage.WorldProperties;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.data.util.NbtDataUtil;
 import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
@@ -857,6 +860,28 @@ public static IMixinEntity toMixin(org.spongepowered.api.entity.Entity entity) {
         return (IMixinEntity) entity;
     }
 
+    /**
+     * Spawns copies of an entity that was saved as a stack of several
+     * identical entities while entity stacking was enabled, so the stack
+     * isn't lost once stacking is disabled again.
+     *
+     * @param entity The entity that was saved as a stack
+     * @param copies The amount of copies to spawn next to the entity
+     */
+    public static void expandSavedStack(Entity entity, int copies) {
+        final NBTTagCompound compound = entity.writeToNBT(new NBTTagCompound());
+        compound.removeTag(NbtDataUtil.ENTITY_STACK_COUNT);
+        for (int i = 0; i < copies; i++) {
+            final Entity copy = EntityList.newEntity(entity.getClass(), entity.world);
+            if (copy == null) {
+                return;
+            }
+            copy.readFromNBT(compound);
+            copy.setUniqueId(MathHelper.getRandomUUID(entity.world.rand));
+            entity.world.spawnEntity(copy);
+        }
+    }
+
     public static EntitySnapshot createSnapshot(Entity entity) {
         return fromNative(entity).createSnapshot();
     }
@@ -156,7 +156,7 @@ public void initializeTrackerState() {
         }
 
         if (entityTracker.autoPopulateData()) {
-            trackerConfig.save();
+            trackerConfig.queueSave();
         }
     }
 
@@ -26,6 +26,7 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import org.spongepowered.common.relocate.co.aikar.timings.AsyncTimings;
 import org.spongepowered.common.relocate.co.aikar.timings.SpongeTimings;
 import co.aikar.timings.Timing;
 import com.google.common.collect.Lists;
@@ -49,6 +50,7 @@
 
     private final boolean beforeModifications;
     private Timing listenerTimer;
+    private AsyncTimings.Id asyncTimingsId;
 
     RegisteredListener(PluginContainer plugin, EventType<T> eventType, Order order, EventListener<? super T> listener, boolean beforeModifications) {
         this.plugin = checkNotNull(plugin, "plugin");
@@ -81,6 +83,13 @@ public Timing getTimingsHandler() {
         return this.listenerTimer;
     }
 
+    public AsyncTimings.Id getAsyncTimingsId() {
+        if (this.asyncTimingsId == null) {
+            this.asyncTimingsId = AsyncTimings.id(this.plugin.getName(), "Async Event: " + getHandle().getClass().getSimpleName());
+        }
+        return this.asyncTimingsId;
+    }
+
     @Override
     public Object getHandle() {
         if (this.listener instanceof SpongeEventListener) {
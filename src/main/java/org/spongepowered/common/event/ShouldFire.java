@@ -94,6 +94,7 @@ public class ShouldFire {
     public static boolean IGNITE_ENTITY_EVENT = false;
     public static boolean NOTIFY_NEIGHBOR_BLOCK_EVENT = false;
     public static boolean EXPLOSION_EVENT_PRE = false;
+    public static boolean EXPLOSION_EVENT_DETONATE = false;
     public static boolean GAME_REGISTRY_EVENT_REGISTER = false;
     public static boolean LOAD_CHUNK_EVENT = false;
     public static boolean COLLIDE_ENTITY_EVENT = false;
@@ -28,6 +28,7 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import co.aikar.timings.Timing;
+import org.spongepowered.common.relocate.co.aikar.timings.AsyncTimings;
 import org.spongepowered.common.relocate.co.aikar.timings.TimingsManager;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
@@ -401,13 +402,18 @@ protected RegisteredListener.Cache getHandlerCache(Event event) {
     private boolean post(Event event, List<RegisteredListener<?>> handlers) {
         if (!Sponge.getServer().isMainThread()) {
             // If this event is being posted asynchronously then we don't want
-            // to do any timing or cause stack changes
+            // to do any main thread timing or cause stack changes
             for (@SuppressWarnings("rawtypes") RegisteredListener handler : handlers) {
                 try {
                     if (event instanceof AbstractEvent) {
                         ((AbstractEvent) event).currentOrder = handler.getOrder();
                     }
-                    handler.handle(event);
+                    final long start = AsyncTimings.start();
+                    try {
+                        handler.handle(event);
+                    } finally {
+                        AsyncTimings.stop(handler.getAsyncTimingsId(), start);
+                    }
                 } catch (Throwable e) {
                     SpongeImpl.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
                 }
@@ -34,6 +34,8 @@
 import java.util.Objects;
 import java.util.function.Consumer;
 
+import javax.annotation.Nullable;
+
 /**
  * A simple stack that couples a {@link IPhaseState} and
  * {@link PhaseContext}. As states are pushed, they can likewise
@@ -46,6 +48,11 @@ final class PhaseStack {
     private static final int DEFAULT_QUEUE_SIZE = 16;
 
     private final Deque<PhaseContext<?>> phases;
+    /**
+     * The context on top of the stack, republished on every push and pop so
+     * that other threads, such as the sampling profiler, can read it.
+     */
+    @Nullable private volatile PhaseContext<?> published;
 
     PhaseStack() {
         this(DEFAULT_QUEUE_SIZE);
@@ -71,7 +78,14 @@ PhaseContext<?> peekContext() {
     }
 
     PhaseContext<?> pop() {
-        return this.phases.pop();
+        final PhaseContext<?> popped = this.phases.pop();
+        this.published = this.phases.peek();
+        return popped;
+    }
+
+    @Nullable
+    PhaseContext<?> peekPublished() {
+        return this.published;
     }
 
     PhaseStack push(IPhaseState<?> state, PhaseContext<?> context) {
@@ -79,6 +93,7 @@ PhaseStack push(IPhaseState<?> state, PhaseContext<?> context) {
         checkArgument(context.state == state, "Illegal IPhaseState not matching PhaseContext: %s", context);
         checkArgument(context.isComplete(), "Phase context must be complete: %s", context);
         this.phases.push(context);
+        this.published = context;
         return this;
     }
 
@@ -631,6 +631,18 @@ public PhaseContext<?> getCurrentContext() {
         return this.stack.peekContext();
     }
 
+    /**
+     * Gets the current context as last published by the main thread. Unlike
+     * {@link #getCurrentContext()} this is safe to call from any thread, but
+     * may already be outdated when it returns.
+     *
+     * @return The published context, or null if the stack is empty
+     */
+    @Nullable
+    public PhaseContext<?> getPublishedContext() {
+        return this.stack.peekPublished();
+    }
+
     // --------------------- DELEGATED WORLD METHODS -------------------------
 
     /**
@@ -772,7 +784,7 @@ public boolean setBlockState(final IMixinWorldServer mixinWorld, final BlockPos
         // Do a sanity check, if we're not in any phase state that accepts block changes, well, why the hell are
         // we doing any changes?? The changes themselves will still go through, but we want to be as verbose
         // about those changes as possible, if we're configured to do so.
-        if (isComplete && SpongeImpl.getGlobalConfig().getConfig().getPhaseTracker().isVerbose()) { // Fail fast.
+        if (isComplete && SpongeImpl.getGlobalConfig().getSnapshot().isPhaseTrackerVerbose()) { // Fail fast.
             // The random occurrence that we're told to complete a phase
             // while a world is being changed unknowingly.
 //            this.printUnexpectedBlockChange(mixinWorld, pos, currentState, newState);
@@ -37,6 +37,7 @@
 import org.spongepowered.asm.util.PrettyPrinter;
 import org.spongepowered.common.block.BlockUtil;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
+import org.spongepowered.common.block.TileEntityDataHandle;
 import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
@@ -228,6 +229,7 @@ void process(Transaction<BlockSnapshot> eventTransaction, IPhaseState phaseState
             final BlockPos targetPosition = this.tileSnapshot.getBlockPos();
             final WorldServer worldServer = this.tileSnapshot.getWorldServer();
             final SpongeProxyBlockAccess proxyAccess = ((IMixinWorldServer) worldServer).getProxyAccess();
+            TileEntityDataHandle.materializePending(this.removed);
             ((IMixinTileEntity) this.removed).setCaptured(false); // Disable the capture logic in other places.
             proxyAccess.proceedWithRemoval(targetPosition, this.removed);
             // Reset captured state since we want it to be removed
@@ -298,6 +300,7 @@ void process(Transaction<BlockSnapshot> eventTransaction, IPhaseState phaseState
             final IMixinWorldServer mixinWorldServer = (IMixinWorldServer) this.added.getWorld();
             final BlockPos position = this.added.getPos();
             final SpongeProxyBlockAccess proxyAccess = mixinWorldServer.getProxyAccess();
+            TileEntityDataHandle.materializePending(this.removed);
             ((IMixinTileEntity) this.removed).setCaptured(false);
             proxyAccess.proceedWithRemoval(position, this.removed);
             ((IMixinTileEntity) this.added).setCaptured(false);
@@ -394,6 +397,9 @@ void process(Transaction<BlockSnapshot> eventTransaction, IPhaseState phaseState
             TrackingUtil.performBlockEntitySpawns(phaseState, phaseContext, this.original, targetPosition);
             SpongeHooks.logBlockAction(worldServer, this.original.blockChange, eventTransaction);
             final IBlockState oldState = (IBlockState) this.original.getState();
+            // The captured tile entity data has to be written before breaking the block can change it
+            this.original.materializeTileData();
+            TileEntityDataHandle.materializePending(this.queuedRemoval);
             // Any requests to the world need to propogate to having the "changed" block, before
             // the block potentially changes from future changes.
             SpongeProxyBlockAccess proxyAccess = ((IMixinWorldServer) worldServer).getProxyAccess();
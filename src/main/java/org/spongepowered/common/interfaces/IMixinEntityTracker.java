@@ -24,10 +24,20 @@
  */
 package org.spongepowered.common.interfaces;
 
+import net.minecraft.entity.EntityTrackerEntry;
 import net.minecraft.world.World;
 
 public interface IMixinEntityTracker {
 
     World getWorld();
 
+    /**
+     * Captures an entry whose visibility has to be updated for all players,
+     * if visibility updates are currently deferred to the end of the tick.
+     *
+     * @param entry The entry
+     * @return Whether the update was captured
+     */
+    boolean captureVisibilityUpdate(EntityTrackerEntry entry);
+
 }
@@ -0,0 +1,53 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.interfaces.block;
+
+import net.minecraft.block.properties.IProperty;
+
+/**
+ * A property with a global ordinal and a constant time index of its allowed
+ * values, used to look up state transitions without scanning. Implemented by
+ * all properties extending {@link net.minecraft.block.properties.PropertyHelper}.
+ */
+public interface IMixinIndexedProperty {
+
+    /**
+     * Gets the ordinal of this property, unique among all properties and
+     * assigned in the order they are created.
+     *
+     * @return The ordinal
+     */
+    int getPropertyOrdinal();
+
+    /**
+     * Gets the position of the given value within the
+     * {@link IProperty#getAllowedValues() allowed values} of this property.
+     *
+     * @param value The value
+     * @return The index, or -1 if the value isn't allowed
+     */
+    int getValueIndex(Object value);
+
+}
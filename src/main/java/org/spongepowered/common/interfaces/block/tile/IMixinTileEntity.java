@@ -33,6 +33,7 @@
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.event.cause.entity.spawn.SpawnType;
 import org.spongepowered.api.event.cause.entity.spawn.SpawnTypes;
+import org.spongepowered.common.block.TileEntityDataHandle;
 import org.spongepowered.common.data.util.NbtDataUtil;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.IMixinTrackable;
@@ -91,6 +92,24 @@ default NBTTagCompound getSpongeData() {
 
     void markDirty();
 
+    /**
+     * Gets the amount of times {@link #markDirty()} was called on this tile
+     * entity, used to detect changes to the contents of inventories.
+     *
+     * @return The modification count
+     */
+    int getModificationCount();
+
+    /**
+     * Gets the snapshot data handle still waiting to be written from this
+     * tile entity, if any.
+     *
+     * @return The pending handle
+     */
+    @Nullable TileEntityDataHandle getSnapshotDataHandle();
+
+    void setSnapshotDataHandle(@Nullable TileEntityDataHandle handle);
+
     boolean isVanilla();
 
     // Timings
@@ -31,4 +31,11 @@ public interface IMixinEntityTNTPrimed extends IMixinFusedExplosive {
 
     void setDetonator(EntityLivingBase detonator);
 
+    /**
+     * Explodes once for every TNT this entity represents if it is a stack.
+     * Stops once a detonation is cancelled, the TNT that didn't explode yet
+     * is spawned again as a new stack.
+     */
+    void explodeStack();
+
 }
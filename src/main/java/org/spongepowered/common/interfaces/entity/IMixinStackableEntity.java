@@ -0,0 +1,53 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.interfaces.entity;
+
+/**
+ * An entity that can represent several identical entities while only
+ * being ticked once. Only implemented when entity stacking is enabled
+ * in the optimization config.
+ */
+public interface IMixinStackableEntity {
+
+    /**
+     * Gets the amount of entities this entity represents, including itself.
+     *
+     * @return The stack count, at least 1
+     */
+    int getStackCount();
+
+    void setStackCount(int count);
+
+    /**
+     * Sets whether other entities may be merged into this entity. Entities
+     * that were just expanded from a stack are not mergeable so they go
+     * through the remainder of their lifetime individually.
+     *
+     * @param mergeable Whether this entity is mergeable
+     */
+    void setStackMergeable(boolean mergeable);
+
+    boolean isStackMergeable();
+}
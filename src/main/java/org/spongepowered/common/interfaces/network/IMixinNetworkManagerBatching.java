@@ -0,0 +1,67 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.interfaces.network;
+
+public interface IMixinNetworkManagerBatching {
+
+    /**
+     * Flushes all packets that were queued since the last flush.
+     *
+     * @return Whether any packets were flushed
+     */
+    boolean flushBatchedPackets();
+
+    /**
+     * Gets the amount of packets that are currently queued.
+     *
+     * @return The amount of queued packets
+     */
+    int getBatchedPacketCount();
+
+    /**
+     * Gets the total amount of flushes of this connection.
+     *
+     * @return The amount of flushes
+     */
+    long getFlushCount();
+
+    /**
+     * Gets the total amount of packets that were written through flushes
+     * of this connection.
+     *
+     * @return The amount of flushed packets
+     */
+    long getFlushedPacketCount();
+
+    /**
+     * Gets the average amount of packets written per flush.
+     *
+     * @return The average amount of packets per flush
+     */
+    default double getPacketsPerFlush() {
+        final long flushes = getFlushCount();
+        return flushes == 0 ? 0 : (double) getFlushedPacketCount() / flushes;
+    }
+}
@@ -24,10 +24,15 @@
  */
 package org.spongepowered.common.interfaces.world;
 
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
+import javax.annotation.Nullable;
+
 public interface IMixinAnvilChunkLoader {
 
     // Forge method
@@ -35,4 +40,10 @@ public interface IMixinAnvilChunkLoader {
 
     Path getWorldDir();
 
+    // Thread safe, reads and data fixes the stored chunk compound
+    @Nullable NBTTagCompound readChunkData(int x, int z) throws IOException;
+
+    // Main thread only, creates the chunk including its entities and tile entities
+    @Nullable Chunk readChunk(World world, int x, int z, @Nullable NBTTagCompound compound);
+
 }
@@ -44,6 +44,7 @@
 import org.spongepowered.common.config.SpongeConfig;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.world.ExplosionExposureCache;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
 
@@ -118,4 +119,27 @@ public interface IMixinWorldServer extends IMixinWorld {
     void spongeNotifyNeighborsWithoutObservers(BlockPos sourcePos, Block sourceBlock, boolean b);
 
     SpongeProxyBlockAccess getProxyAccess();
+
+    ExplosionExposureCache getExplosionExposureCache();
+
+    /**
+     * Records that the given amount of entities were merged into
+     * already existing entities of this world.
+     *
+     * @param count The amount of merged entities
+     */
+    void onEntitiesMerged(int count);
+
+    long getMergedEntityCount();
+
+    /**
+     * Gets a counter that is incremented whenever a tile entity is added to
+     * or removed from a chunk of this world, or a chunk is unloaded. Caches
+     * of resolved tile entities are valid as long as it didn't change.
+     *
+     * @return The tile entity generation
+     */
+    long getTileEntityGeneration();
+
+    void incrementTileEntityGeneration();
 }
@@ -29,6 +29,7 @@
 import com.flowpowered.math.vector.Vector3i;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.world.ChunkUnloadQueue;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -50,5 +51,41 @@ public interface IMixinChunkProviderServer {
 
     long getChunkUnloadDelay();
 
+    ChunkUnloadQueue getUnloadQueue();
+
+    /**
+     * Loads a chunk without blocking the main thread on disk access. Must be
+     * called from the main thread, the returned future is completed on the
+     * main thread as well.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @param generate Whether to generate the chunk if it doesn't exist
+     * @return The future completed with the chunk, or with null if it
+     *     doesn't exist and wasn't generated
+     */
+    CompletableFuture<Chunk> loadChunkAsync(int x, int z, boolean generate);
+
+    /**
+     * Finishes the asynchronous load of the given chunk on the main thread,
+     * waiting for its data to be read if needed. Other loads are left
+     * untouched, so chunks can be finished in a fixed order while their
+     * reads are still running concurrently.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The chunk, or null if it doesn't exist and wasn't generated
+     */
+    @Nullable Chunk finishAsyncChunkLoad(int x, int z);
+
+    /**
+     * Takes one of the chunk generations that may be requested through
+     * {@link #loadChunkAsync} by players this tick.
+     *
+     * @return True if the generation may be requested, false if the budget
+     *     of this tick is used up
+     */
+    boolean acquireAsyncChunkGeneration();
+
     WorldServer getWorld();
 }
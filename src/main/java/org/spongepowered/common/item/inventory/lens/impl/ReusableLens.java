@@ -32,15 +32,26 @@
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+/**
+ * A lens tree and slot provider shared by all inventories of the same adapter
+ * class and size. Only the {@link org.spongepowered.common.item.inventory.lens.Fabric}
+ * is specific to an inventory instance, lenses and slot providers must not
+ * hold any per-instance state.
+ */
 @SuppressWarnings("rawtypes")
 public class ReusableLens<T extends Lens> {
 
     // InventoryAdapterClass -> LensClass -> Size -> ReusableLens
-    private static Map<Class<? extends InventoryAdapter>, Map<Class<? extends Lens>, Int2ObjectMap<ReusableLens>>>
-            reusableLenses = new HashMap<>();
+    private static final Map<Class<? extends InventoryAdapter>, Map<Class<? extends Lens>, Int2ObjectMap<ReusableLens>>>
+            reusableLenses = new ConcurrentHashMap<>();
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
 
     private final SlotProvider slots;
     private final T lens;
@@ -59,12 +70,58 @@ public ReusableLens(SlotProvider slots, Function<SlotProvider, T> lensProvider)
     public static <T extends Lens> ReusableLens<T> getLens(Class<T> lensType, InventoryAdapter adapter,
             Supplier<SlotProvider> slots, Function<SlotProvider, T> lens) {
         Map<Class<? extends Lens>, Int2ObjectMap<ReusableLens>>
-                adapterLenses = reusableLenses.computeIfAbsent(adapter.getClass(), k -> new HashMap<>());
+                adapterLenses = reusableLenses.computeIfAbsent(adapter.getClass(), k -> new ConcurrentHashMap<>());
         Int2ObjectMap<ReusableLens> lenses = adapterLenses.computeIfAbsent(lensType, k -> new Int2ObjectOpenHashMap<>());
-        return lenses.computeIfAbsent(adapter.getFabric().getSize(), k -> {
-            SlotProvider sl = slots.get();
-            return new ReusableLens(sl, lens);
+        final int size = adapter.getFabric().getSize();
+        synchronized (lenses) {
+            ReusableLens reusableLens = lenses.get(size);
+            if (reusableLens != null) {
+                hits.increment();
+                return reusableLens;
+            }
+            misses.increment();
+            reusableLens = new ReusableLens(slots.get(), lens);
+            lenses.put(size, reusableLens);
+            return reusableLens;
+        }
+    }
+
+    /**
+     * Gets the amount of times a lens was reused instead of being built.
+     *
+     * @return The amount of cache hits
+     */
+    public static long getCacheHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the amount of times a lens had to be built, which equals the
+     * amount of cached lenses.
+     *
+     * @return The amount of cache misses
+     */
+    public static long getCacheMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the amount of cached lenses per inventory adapter class.
+     *
+     * @return The amount of cached lenses per adapter class
+     */
+    public static Map<Class<? extends InventoryAdapter>, Integer> getCachedLensCounts() {
+        final Map<Class<? extends InventoryAdapter>, Integer> counts = new HashMap<>();
+        reusableLenses.forEach((adapterType, adapterLenses) -> {
+            int count = 0;
+            for (Int2ObjectMap<ReusableLens> lenses : adapterLenses.values()) {
+                synchronized (lenses) {
+                    count += lenses.size();
+                }
+            }
+            counts.put(adapterType, count);
         });
+        return counts;
     }
 
     public SlotProvider getSlots() {
@@ -33,12 +33,13 @@
 import org.spongepowered.common.item.inventory.lens.Fabric;
 import org.spongepowered.common.item.inventory.lens.Lens;
 import org.spongepowered.common.item.inventory.lens.MutableLensSet;
-import org.spongepowered.common.item.inventory.lens.impl.collections.MutableLensSetImpl;
 import org.spongepowered.common.item.inventory.lens.slots.SlotLens;
 import org.spongepowered.common.item.inventory.query.result.MinecraftResultAdapterProvider;
 import org.spongepowered.common.item.inventory.query.result.QueryResult;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 public class Query {
 
@@ -56,13 +57,22 @@ public interface ResultAdapterProvider {
 
     private final Lens lens;
 
-    private final QueryOperation<?>[] queries;
+    private final SpongeQueryOperation<?>[] structural;
+
+    private final SpongeQueryOperation<?>[] dynamic;
 
     private Query(InventoryAdapter adapter, QueryOperation<?>[] queries) {
         this.adapter = adapter;
         this.inventory = adapter.getFabric();
         this.lens = adapter.getRootLens();
-        this.queries = queries;
+        final List<SpongeQueryOperation<?>> structural = new ArrayList<>(queries.length);
+        final List<SpongeQueryOperation<?>> dynamic = new ArrayList<>(queries.length);
+        for (QueryOperation<?> query : queries) {
+            final SpongeQueryOperation<?> operation = (SpongeQueryOperation<?>) query;
+            (operation.isStructural() ? structural : dynamic).add(operation);
+        }
+        this.structural = structural.toArray(new SpongeQueryOperation<?>[structural.size()]);
+        this.dynamic = dynamic.toArray(new SpongeQueryOperation<?>[dynamic.size()]);
     }
 
     @SuppressWarnings("unchecked")
@@ -71,11 +81,20 @@ public Inventory execute() {
     }
 
     public Inventory execute(ResultAdapterProvider resultProvider) {
-        if (this.matches(this.lens, null, this.inventory)) {
+        final QueryPlan plan = QueryPlan.compile(this.lens, this.structural, this.dynamic);
+        if (!plan.isDynamic() && (resultProvider == null || resultProvider == Query.defaultResultProvider)) {
+            // The matched lenses never change, so the result can be reused for this adapter
+            return plan.getResult(this.adapter, () -> this.execute(plan, resultProvider));
+        }
+        return this.execute(plan, resultProvider);
+    }
+
+    private Inventory execute(QueryPlan plan, ResultAdapterProvider resultProvider) {
+        if (plan.matchesRoot(this.inventory, this.dynamic)) {
             return this.lens.getAdapter(this.inventory, this.adapter);
         }
 
-        return this.toResult(resultProvider, this.reduce(this.lens, this.depthFirstSearch(this.lens)));
+        return this.toResult(resultProvider, this.reduce(this.lens, plan.search(this.inventory, this.dynamic)));
     }
 
     @SuppressWarnings("unchecked")
@@ -94,39 +113,6 @@ private Inventory toResult(ResultAdapterProvider resultProvider, MutableLensSet
         return ((ResultAdapterProvider)Query.defaultResultProvider).getResultAdapter(this.inventory, matches, this.adapter);
     }
 
-    private MutableLensSet depthFirstSearch(Lens lens) {
-        MutableLensSet matches = new MutableLensSetImpl(true);
-
-        for (Lens child : lens.getChildren()) {
-            if (child == null) {
-                continue;
-            }
-            if (!child.getChildren().isEmpty()) {
-                matches.addAll(this.depthFirstSearch(child));
-            }
-            if (this.matches(child, lens, this.inventory)) {
-                matches.add(child);
-            }
-        }
-
-        // Only a single match or no matches
-        if (matches.size() < 2) {
-            return matches;
-        }
-
-        return matches;
-    }
-
-    @SuppressWarnings({"rawtypes", "unchecked"})
-    private boolean matches(Lens lens, Lens parent, Fabric inventory) {
-        for (QueryOperation<?> operation : this.queries) {
-            if (((SpongeQueryOperation) operation).matches(lens, parent, inventory)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private MutableLensSet reduce(Lens lens, MutableLensSet matches) {
         if (matches.isEmpty()) {
             return matches;
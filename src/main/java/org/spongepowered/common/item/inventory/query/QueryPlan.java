@@ -0,0 +1,213 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.item.inventory.query;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.spongepowered.api.item.inventory.Inventory;
+import org.spongepowered.common.item.inventory.adapter.InventoryAdapter;
+import org.spongepowered.common.item.inventory.lens.Fabric;
+import org.spongepowered.common.item.inventory.lens.Lens;
+import org.spongepowered.common.item.inventory.lens.MutableLensSet;
+import org.spongepowered.common.item.inventory.lens.impl.collections.MutableLensSetImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * A query compiled against a lens structure. The lens tree is flattened once
+ * in the order {@link Query} visits it and {@link SpongeQueryOperation#isStructural()
+ * structural} operations are evaluated once per lens, executing the plan only
+ * evaluates the remaining operations against the lenses they can match.
+ *
+ * <p>Plans are cached per root lens and set of operations. Plans without any
+ * non structural operation always produce the same lenses, their results are
+ * additionally cached per inventory adapter.</p>
+ */
+final class QueryPlan {
+
+    private static final Cache<Key, QueryPlan> PLANS = CacheBuilder.newBuilder()
+            .maximumSize(512)
+            .build();
+
+    private final Lens root;
+    private final boolean rootMatches;
+    private final boolean rootCandidate;
+    private final Lens[] lenses;
+    private final Lens[] parents;
+    private final boolean[] structuralMatches;
+    private final boolean[] candidates;
+    private final boolean dynamic;
+    private final Cache<InventoryAdapter, Inventory> results = CacheBuilder.newBuilder()
+            .weakKeys()
+            .weakValues()
+            .build();
+
+    private QueryPlan(Lens root, List<SpongeQueryOperation<?>> structural, List<SpongeQueryOperation<?>> dynamic) {
+        this.root = root;
+        this.dynamic = !dynamic.isEmpty();
+        this.rootMatches = matchesAny(structural, root, null);
+        this.rootCandidate = canMatchAny(dynamic, root);
+
+        final List<Lens> lenses = new ArrayList<>();
+        final List<Lens> parents = new ArrayList<>();
+        flatten(root, lenses, parents);
+        final int size = lenses.size();
+        this.lenses = lenses.toArray(new Lens[size]);
+        this.parents = parents.toArray(new Lens[size]);
+        this.structuralMatches = new boolean[size];
+        this.candidates = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            this.structuralMatches[i] = matchesAny(structural, this.lenses[i], this.parents[i]);
+            this.candidates[i] = !this.structuralMatches[i] && canMatchAny(dynamic, this.lenses[i]);
+        }
+    }
+
+    private static void flatten(Lens lens, List<Lens> lenses, List<Lens> parents) {
+        for (Lens child : lens.getChildren()) {
+            if (child == null) {
+                continue;
+            }
+            if (!child.getChildren().isEmpty()) {
+                flatten(child, lenses, parents);
+            }
+            lenses.add(child);
+            parents.add(lens);
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static boolean matchesAny(List<SpongeQueryOperation<?>> operations, Lens lens, Lens parent) {
+        for (SpongeQueryOperation operation : operations) {
+            if (operation.matches(lens, parent, null)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean canMatchAny(List<SpongeQueryOperation<?>> operations, Lens lens) {
+        for (SpongeQueryOperation<?> operation : operations) {
+            if (operation.canMatch(lens)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean isDynamic() {
+        return this.dynamic;
+    }
+
+    boolean matchesRoot(Fabric inventory, SpongeQueryOperation<?>[] dynamic) {
+        return this.rootMatches || this.rootCandidate && matchesAny(dynamic, this.root, null, inventory);
+    }
+
+    /**
+     * Collects the lenses matched by the query, in the same order as a depth
+     * first search of the lens tree would.
+     *
+     * @param inventory The fabric to evaluate non structural operations against
+     * @param dynamic The non structural operations of the query
+     * @return The matched lenses
+     */
+    MutableLensSet search(Fabric inventory, SpongeQueryOperation<?>[] dynamic) {
+        final MutableLensSet matches = new MutableLensSetImpl(true);
+        for (int i = 0; i < this.lenses.length; i++) {
+            if (this.structuralMatches[i] || this.candidates[i] && matchesAny(dynamic, this.lenses[i], this.parents[i], inventory)) {
+                matches.add(this.lenses[i]);
+            }
+        }
+        return matches;
+    }
+
+    Inventory getResult(InventoryAdapter adapter, Supplier<Inventory> resultSupplier) {
+        try {
+            return this.results.get(adapter, resultSupplier::get);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static boolean matchesAny(SpongeQueryOperation<?>[] operations, Lens lens, Lens parent, Fabric inventory) {
+        for (SpongeQueryOperation operation : operations) {
+            if (operation.matches(lens, parent, inventory)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static QueryPlan compile(Lens root, SpongeQueryOperation<?>[] structural, SpongeQueryOperation<?>[] dynamic) {
+        final List<SpongeQueryOperation<?>> structuralList = Arrays.asList(structural);
+        final List<SpongeQueryOperation<?>> dynamicList = Arrays.asList(dynamic);
+        final List<Class<?>> dynamicTypes = new ArrayList<>(dynamic.length);
+        for (SpongeQueryOperation<?> operation : dynamic) {
+            dynamicTypes.add(operation.getClass());
+        }
+        try {
+            return PLANS.get(new Key(root, structuralList, dynamicTypes), () -> new QueryPlan(root, structuralList, dynamicList));
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private static final class Key {
+
+        private final Lens root;
+        private final List<SpongeQueryOperation<?>> structural;
+        // Non structural operations only affect the plan through canMatch, which depends on their type
+        private final List<Class<?>> dynamicTypes;
+        private final int hashCode;
+
+        Key(Lens root, List<SpongeQueryOperation<?>> structural, List<Class<?>> dynamicTypes) {
+            this.root = root;
+            this.structural = structural;
+            this.dynamicTypes = dynamicTypes;
+            this.hashCode = 31 * (31 * System.identityHashCode(root) + structural.hashCode()) + dynamicTypes.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return this.root == other.root && this.structural.equals(other.structural) && this.dynamicTypes.equals(other.dynamicTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+}
@@ -45,4 +45,28 @@ public final QueryOperationType<T> getType() {
     public abstract boolean matches(Lens lens, Lens parent,
             Fabric inventory);
 
+    /**
+     * Gets whether the result of {@link #matches} only depends on the lens
+     * structure and not on the contents of the inventory. Compiled queries
+     * evaluate structural operations once per lens structure, operations
+     * that are structural should implement equals and hashCode.
+     *
+     * @return Whether this operation is structural
+     */
+    public boolean isStructural() {
+        return false;
+    }
+
+    /**
+     * Gets whether this operation can match the given lens for any inventory
+     * contents. Compiled queries only evaluate non structural operations
+     * against lenses they can match.
+     *
+     * @param lens The lens
+     * @return Whether this operation can match the lens
+     */
+    public boolean canMatch(Lens lens) {
+        return true;
+    }
+
 }
@@ -52,4 +52,25 @@ public boolean matches(Lens lens, Lens parent, Fabric inventory) {
         return false;
     }
 
+    @Override
+    public boolean isStructural() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return this.property.equals(((InventoryPropertyQueryOperation) o).property);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.property.hashCode();
+    }
+
 }
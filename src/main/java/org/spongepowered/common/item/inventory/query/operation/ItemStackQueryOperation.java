@@ -53,6 +53,11 @@ public boolean matches(Lens lens, Lens parent, Fabric inventory) {
         return false;
     }
 
+    @Override
+    public boolean canMatch(Lens lens) {
+        return lens instanceof SlotLens;
+    }
+
     protected abstract boolean matches(ItemStack itemStack, T arg);
 
 }
@@ -43,4 +43,25 @@ public boolean matches(Lens lens, Lens parent, Fabric inventory) {
         return this.lens.equals(lens);
     }
 
+    @Override
+    public boolean isStructural() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return this.lens.equals(((LensQueryOperation) o).lens);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.lens.hashCode();
+    }
+
 }
@@ -0,0 +1,144 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.item.inventory.util;
+
+import net.minecraft.inventory.IInventory;
+import net.minecraft.inventory.InventoryLargeChest;
+import net.minecraft.tileentity.TileEntity;
+import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
+
+import javax.annotation.Nullable;
+
+/**
+ * Caches the inventories a hopper transfers items from and to, along with
+ * whether the last transfer attempt failed because nothing could be moved.
+ *
+ * <p>A resolved inventory stays valid as long as the tile entity generation
+ * of the world does not change and none of its tile entities was
+ * invalidated. Tile entities broken while the world is ticking them are only
+ * invalidated and removed from their chunk at the end of the tick, without
+ * changing the generation. A failed transfer is not retried until
+ * either the hopper or the other inventory was modified, which is tracked
+ * through {@link IMixinTileEntity#getModificationCount()}.</p>
+ */
+public final class HopperTransferCache {
+
+    private static final long UNTRACKED = -1;
+
+    private final Side target = new Side();
+    private final Side source = new Side();
+    private long skippedTransfers;
+
+    public Side getTarget() {
+        return this.target;
+    }
+
+    public Side getSource() {
+        return this.source;
+    }
+
+    public void onTransferSkipped() {
+        this.skippedTransfers++;
+    }
+
+    public long getSkippedTransfers() {
+        return this.skippedTransfers;
+    }
+
+    public static final class Side {
+
+        @Nullable private IInventory inventory;
+        private long generation = UNTRACKED;
+        private long blockedModificationCount = UNTRACKED;
+        private long blockedHopperModificationCount = UNTRACKED;
+
+        @Nullable
+        public IInventory getInventory() {
+            return this.inventory;
+        }
+
+        public boolean isResolved(long generation) {
+            return this.generation == generation && !isInvalid(this.inventory);
+        }
+
+        /**
+         * Caches the resolved inventory. Inventories that can't be tracked,
+         * like those of entities, or the absence of an inventory are never
+         * cached as they may change without the generation changing.
+         *
+         * @param inventory The resolved inventory
+         * @param generation The current tile entity generation
+         */
+        public void resolve(@Nullable IInventory inventory, long generation) {
+            this.blockedModificationCount = UNTRACKED;
+            if (getModificationCount(inventory) == UNTRACKED) {
+                this.inventory = null;
+                this.generation = UNTRACKED;
+            } else {
+                this.inventory = inventory;
+                this.generation = generation;
+            }
+        }
+
+        public boolean isBlocked(IInventory hopper) {
+            return this.blockedModificationCount != UNTRACKED
+                    && this.blockedModificationCount == getModificationCount(this.inventory)
+                    && this.blockedHopperModificationCount == getModificationCount(hopper);
+        }
+
+        public void setBlocked(IInventory inventory, IInventory hopper) {
+            if (inventory != this.inventory) {
+                return;
+            }
+            this.blockedModificationCount = getModificationCount(inventory);
+            this.blockedHopperModificationCount = getModificationCount(hopper);
+        }
+    }
+
+    private static boolean isInvalid(@Nullable IInventory inventory) {
+        if (inventory instanceof TileEntity) {
+            return ((TileEntity) inventory).isInvalid();
+        }
+        if (inventory instanceof InventoryLargeChest) {
+            return isInvalid(((InventoryLargeChest) inventory).upperChest) || isInvalid(((InventoryLargeChest) inventory).lowerChest);
+        }
+        return false;
+    }
+
+    private static long getModificationCount(@Nullable IInventory inventory) {
+        if (inventory instanceof TileEntity) {
+            return ((IMixinTileEntity) inventory).getModificationCount() & 0xFFFFFFFFL;
+        }
+        if (inventory instanceof InventoryLargeChest) {
+            final long upper = getModificationCount(((InventoryLargeChest) inventory).upperChest);
+            final long lower = getModificationCount(((InventoryLargeChest) inventory).lowerChest);
+            if (upper == UNTRACKED || lower == UNTRACKED) {
+                return UNTRACKED;
+            }
+            return upper << 32 | lower;
+        }
+        return UNTRACKED;
+    }
+}
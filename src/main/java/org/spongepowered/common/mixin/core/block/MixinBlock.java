@@ -546,7 +546,7 @@ public void initializeTrackerState() {
         }
 
         if (blockTracker.autoPopulateData()) {
-            trackerConfig.save();
+            trackerConfig.queueSave();
         }
     }
 }
@@ -24,6 +24,8 @@
  */
 package org.spongepowered.common.mixin.core.block.properties;
 
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.minecraft.block.properties.IProperty;
 import net.minecraft.block.properties.PropertyHelper;
 import org.spongepowered.api.block.trait.BlockTrait;
@@ -31,10 +33,17 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Overwrite;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.interfaces.block.IMixinIndexedProperty;
 import org.spongepowered.common.interfaces.block.IMixinPropertyHolder;
 import org.spongepowered.common.registry.type.BlockTypeRegistryModule;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
 
 /**
  * This is retained solely for simplification not having to perform any
@@ -43,13 +52,43 @@
  * @param <T> The type of comparable
  */
 @Mixin(value = PropertyHelper.class)
-public abstract class MixinPropertyHelper<T extends Comparable<T>> implements BlockTrait<T>, IMixinPropertyHolder {
+public abstract class MixinPropertyHelper<T extends Comparable<T>> implements BlockTrait<T>, IMixinPropertyHolder, IMixinIndexedProperty {
+
+    private static final AtomicInteger NEXT_ORDINAL = new AtomicInteger();
 
     private Integer hashCode;
     private String idString;
+    private int ordinal;
+    // Built on first use, as the allowed values are only known once the subclass is constructed
+    @Nullable private volatile Object2IntMap<Object> valueIndices;
     @Shadow @Final private Class<T> valueClass;
     @Shadow @Final private String name;
 
+    @Inject(method = "<init>", at = @At("RETURN"))
+    private void onConstruct(CallbackInfo ci) {
+        this.ordinal = NEXT_ORDINAL.getAndIncrement();
+    }
+
+    @Override
+    public int getPropertyOrdinal() {
+        return this.ordinal;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public int getValueIndex(Object value) {
+        Object2IntMap<Object> valueIndices = this.valueIndices;
+        if (valueIndices == null) {
+            valueIndices = new Object2IntOpenHashMap<>();
+            valueIndices.defaultReturnValue(-1);
+            for (Object allowed : ((IProperty<T>) this).getAllowedValues()) {
+                valueIndices.put(allowed, valueIndices.size());
+            }
+            this.valueIndices = valueIndices;
+        }
+        return valueIndices.getInt(value);
+    }
+
     @Override
     public String getId() {
         return this.idString;
@@ -53,6 +53,8 @@
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.common.block.BlockStateKeyTable;
+import org.spongepowered.common.block.KeyTransitionTable;
 import org.spongepowered.common.block.SpongeBlockSnapshotBuilder;
 import org.spongepowered.common.data.util.DataQueries;
 import org.spongepowered.common.data.util.DataVersions;
@@ -89,6 +91,8 @@ public abstract class MixinStateImplementation extends BlockStateBase implements
     @Nullable private ImmutableSet<Key<?>> keys;
     @Nullable private ImmutableList<ImmutableDataManipulator<?, ?>> manipulators;
     @Nullable private ImmutableMap<Key<?>, Object> keyMap;
+    // Flat key and value arrays backing get(Key) and with(Key, Object)
+    @Nullable private volatile BlockStateKeyTable keyTable;
     @Nullable private ImmutableMap<Class<? extends Property<?, ?>>, Property<?, ?>> dataProperties;
     @Nullable private String id;
 
@@ -135,14 +139,6 @@ public BlockSnapshot snapshotFor(Location<World> location) {
         return lazyLoadManipulatorsAndKeys();
     }
 
-    @Nullable
-    private ImmutableMap<Key<?>, Object> getKeyMap() {
-        if (this.keyMap == null) {
-            lazyLoadManipulatorsAndKeys();
-        }
-        return this.keyMap;
-    }
-
     private ImmutableList<ImmutableDataManipulator<?, ?>> lazyLoadManipulatorsAndKeys() {
         if (this.manipulators == null) {
             this.manipulators = ImmutableList.copyOf(((IMixinBlock) this.block).getManipulators(this));
@@ -160,7 +156,9 @@ private ImmutableMap<Key<?>, Object> getKeyMap() {
             }
             this.values = valueBuilder.build();
             this.keys = keyBuilder.build();
-            this.keyMap = builder.build();
+            final ImmutableMap<Key<?>, Object> keyMap = builder.build();
+            this.keyTable = new BlockStateKeyTable(keyMap);
+            this.keyMap = keyMap;
         }
         return this.manipulators;
     }
@@ -201,10 +199,35 @@ public <E> Optional<BlockState> transform(Key<? extends BaseValue<E>> key, Funct
 
     @Override
     public <E> Optional<BlockState> with(Key<? extends BaseValue<E>> key, E value) {
-        if (!supports(key)) {
+        final int index = indexOf(key);
+        if (index < 0) {
             return Optional.empty();
         }
-        return ((IMixinBlock) this.block).getStateWithValue(this, key, value);
+        if (value == null) {
+            return ((IMixinBlock) this.block).getStateWithValue(this, key, value);
+        }
+        // Block states are immutable, so the resulting state of setting a value never changes
+        final BlockStateKeyTable keyTable = getKeyTable();
+        final KeyTransitionTable table = keyTable.getTransitions(index);
+        Optional<BlockState> state = table.get(value);
+        if (state == null) {
+            state = ((IMixinBlock) this.block).getStateWithValue(this, key, value);
+            keyTable.setTransitions(index, table.with(value, state));
+        }
+        return state;
+    }
+
+    private BlockStateKeyTable getKeyTable() {
+        BlockStateKeyTable keyTable = this.keyTable;
+        if (keyTable == null) {
+            lazyLoadManipulatorsAndKeys();
+            keyTable = this.keyTable;
+        }
+        return keyTable;
+    }
+
+    private int indexOf(Key<?> key) {
+        return getKeyTable().indexOf(checkNotNull(key));
     }
 
     @SuppressWarnings("unchecked")
@@ -302,7 +325,8 @@ public BlockState merge(BlockState that, MergeFunction function) {
     @SuppressWarnings("unchecked")
     @Override
     public <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
-        return Optional.ofNullable((E) this.getKeyMap().get(key));
+        final int index = indexOf(key);
+        return index < 0 ? Optional.empty() : Optional.ofNullable((E) getKeyTable().getValue(index));
     }
 
     @SuppressWarnings("unchecked")
@@ -319,7 +343,7 @@ public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
 
     @Override
     public boolean supports(Key<?> key) {
-        return this.getKeys().contains(checkNotNull(key));
+        return indexOf(key) >= 0;
     }
 
     @Override
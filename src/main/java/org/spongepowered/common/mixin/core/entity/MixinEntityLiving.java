@@ -178,7 +178,7 @@ public <T extends Agent> Optional<Goal<T>> getGoal(GoalType type) {
     @ModifyConstant(method = "despawnEntity", constant = @Constant(doubleValue = 16384.0D))
     private double getHardDespawnRange(double value) {
         if (!this.world.isRemote) {
-            return Math.pow(((IMixinWorldServer) this.world).getWorldConfig().getConfig().getEntity().getHardDespawnRange(), 2);
+            return ((IMixinWorldServer) this.world).getWorldConfig().getSnapshot().getHardDespawnRangeSquared();
         }
         return value;
     }
@@ -187,7 +187,7 @@ private double getHardDespawnRange(double value) {
     @ModifyConstant(method = "despawnEntity", constant = @Constant(doubleValue = 1024.0D), expect = 2)
     private double getSoftDespawnRange(double value) {
         if (!this.world.isRemote) {
-            return Math.pow(((IMixinWorldServer) this.world).getWorldConfig().getConfig().getEntity().getSoftDespawnRange(), 2);
+            return ((IMixinWorldServer) this.world).getWorldConfig().getSnapshot().getSoftDespawnRangeSquared();
         }
         return value;
     }
@@ -195,7 +195,7 @@ private double getSoftDespawnRange(double value) {
     @ModifyConstant(method = "despawnEntity", constant = @Constant(intValue = 600))
     private int getMinimumLifetime(int value) {
         if (!this.world.isRemote) {
-            return ((IMixinWorldServer) this.world).getWorldConfig().getConfig().getEntity().getMinimumLife() * 20;
+            return ((IMixinWorldServer) this.world).getWorldConfig().getSnapshot().getMinimumLifeTicks();
         }
         return value;
     }
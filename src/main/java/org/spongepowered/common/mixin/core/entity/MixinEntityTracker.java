@@ -26,6 +26,8 @@
 
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityTracker;
+import net.minecraft.entity.EntityTrackerEntry;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.world.WorldServer;
 import org.spongepowered.api.world.World;
 import org.spongepowered.asm.mixin.Final;
@@ -36,14 +38,22 @@
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.entity.EntityTrackerVisibilityUpdater;
 import org.spongepowered.common.entity.living.human.EntityHuman;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.interfaces.IMixinEntityTracker;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 @Mixin(EntityTracker.class)
 public abstract class MixinEntityTracker implements IMixinEntityTracker {
 
     @Shadow @Final private WorldServer world;
+    @Shadow @Final private Set<EntityTrackerEntry> entries;
+
+    private final EntityTrackerVisibilityUpdater visibilityUpdater = new EntityTrackerVisibilityUpdater();
 
     @Shadow
     public abstract void track(Entity entityIn, int trackingRange, int updateFrequency);
@@ -88,6 +98,30 @@ public void onUntrackEntity(Entity entityIn, CallbackInfo ci) {
         }
     }
 
+    @Inject(method = "tick", at = @At("HEAD"), cancellable = true)
+    private void onTick(CallbackInfo ci) {
+        if (!SpongeImpl.getTrackerConfig().getConfig().getEntityTracker().useParallelVisibilityUpdates()) {
+            return;
+        }
+        ci.cancel();
+
+        // Same as vanilla, except that visibility updates are deferred and checked in parallel
+        final List<EntityPlayerMP> movedPlayers = new ArrayList<>();
+        this.visibilityUpdater.startCapturing();
+        for (EntityTrackerEntry entry : this.entries) {
+            entry.updatePlayerList(this.world.playerEntities);
+            if (entry.playerEntitiesUpdated && entry.getTrackedEntity() instanceof EntityPlayerMP) {
+                movedPlayers.add((EntityPlayerMP) entry.getTrackedEntity());
+            }
+        }
+        this.visibilityUpdater.update(this.entries, this.world.playerEntities, movedPlayers);
+    }
+
+    @Override
+    public boolean captureVisibilityUpdate(EntityTrackerEntry entry) {
+        return this.visibilityUpdater.capture(entry);
+    }
+
     @Override
     public net.minecraft.world.World getWorld() {
         return this.world;
@@ -27,11 +27,13 @@
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityTrackerEntry;
 import net.minecraft.entity.ai.attributes.IAttributeInstance;
+import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.network.NetHandlerPlayServer;
 import net.minecraft.network.Packet;
 import net.minecraft.network.datasync.EntityDataManager;
 import net.minecraft.network.play.server.SPacketPlayerListItem;
+import net.minecraft.world.WorldServer;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -42,12 +44,14 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.entity.living.human.EntityHuman;
+import org.spongepowered.common.interfaces.IMixinEntityTracker;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
 import org.spongepowered.common.interfaces.entity.player.IMixinEntityPlayerMP;
 import org.spongepowered.common.mixin.core.network.datasync.IMixinEntityDataManager;
 import org.spongepowered.common.network.SpoofedEntityDataManager;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 @Mixin(EntityTrackerEntry.class)
@@ -80,6 +84,15 @@ public void onSendSpawnPacket(final NetHandlerPlayServer thisCtx, final Packet<?
         }
     }
 
+    @Redirect(method = "updatePlayerList", at = @At(value = "INVOKE", target = "Lnet/minecraft/entity/EntityTrackerEntry;updatePlayerEntities(Ljava/util/List;)V"))
+    private void onUpdatePlayerEntities(EntityTrackerEntry entityTrackerEntry, List<EntityPlayer> players) {
+        // Parallel visibility updates defer this to the end of the tracker tick
+        if (!(this.trackedEntity.world instanceof WorldServer)
+                || !((IMixinEntityTracker) ((WorldServer) this.trackedEntity.world).getEntityTracker()).captureVisibilityUpdate(entityTrackerEntry)) {
+            entityTrackerEntry.updatePlayerEntities(players);
+        }
+    }
+
     @Redirect(method = "updatePlayerList", at = @At(value = "INVOKE", target = "Lnet/minecraft/entity/EntityTrackerEntry;sendPacketToTrackedPlayers(Lnet/minecraft/network/Packet;)V", ordinal = 0))
     public void onSendPassengerPacket(EntityTrackerEntry entityTrackerEntry, Packet<?> packet) {
         // We need to notify a player of their passengers (since that can't normally happen in Vanilla)
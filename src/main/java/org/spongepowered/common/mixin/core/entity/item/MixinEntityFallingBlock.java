@@ -38,10 +38,13 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.data.util.NbtDataUtil;
+import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.event.damage.MinecraftFallingBlockDamageSource;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.TrackingUtil;
+import org.spongepowered.common.interfaces.entity.IMixinStackableEntity;
 import org.spongepowered.common.interfaces.world.IMixinWorld;
 import org.spongepowered.common.mixin.core.entity.MixinEntity;
 
@@ -55,6 +58,8 @@ public abstract class MixinEntityFallingBlock extends MixinEntity implements Fal
     @Shadow public float fallHurtAmount;
     @Shadow public NBTTagCompound tileEntityData;
 
+    private int savedStackCount;
+
 
     @Inject(method = "onUpdate",
         at = @At(value = "INVOKE",
@@ -111,4 +116,28 @@ private boolean spongeAttackFallingOrAnvil(Entity entity, DamageSource source, f
             }
         }
     }
+
+    @Inject(method = "readEntityFromNBT", at = @At("RETURN"))
+    private void onReadSavedStackCount(NBTTagCompound compound, CallbackInfo ci) {
+        // Without stacking, a stack saved while it was enabled is expanded on the first tick
+        if (!((Object) this instanceof IMixinStackableEntity) && compound.hasKey(NbtDataUtil.ENTITY_STACK_COUNT, NbtDataUtil.TAG_INT)) {
+            this.savedStackCount = compound.getInteger(NbtDataUtil.ENTITY_STACK_COUNT);
+        }
+    }
+
+    @Inject(method = "writeEntityToNBT", at = @At("RETURN"))
+    private void onWriteSavedStackCount(NBTTagCompound compound, CallbackInfo ci) {
+        if (this.savedStackCount > 1) {
+            compound.setInteger(NbtDataUtil.ENTITY_STACK_COUNT, this.savedStackCount);
+        }
+    }
+
+    @Inject(method = "onUpdate", at = @At("HEAD"))
+    private void onUpdateExpandSavedStack(CallbackInfo ci) {
+        if (this.savedStackCount > 1 && !this.world.isRemote) {
+            final int copies = this.savedStackCount - 1;
+            this.savedStackCount = 0;
+            EntityUtil.expandSavedStack((Entity) (Object) this, copies);
+        }
+    }
 }
@@ -66,12 +66,6 @@ public abstract class MixinEntityItem extends MixinEntity implements Item, IMixi
     @Shadow private int pickupDelay;
     @Shadow private int age;
     @Shadow public abstract ItemStack getItem();
-    /**
-     * A simple cached value of the merge radius for this item.
-     * Since the value is configurable, the first time searching for
-     * other items, this value is cached.
-     */
-    private double cachedRadius = -1;
 
     private int previousPickupDelay = MAGIC_PREVIOUS;
     private boolean infinitePickupDelay;
@@ -90,11 +84,7 @@ private double getSearchRadius(double originalRadius) {
         if (this.world.isRemote || ((IMixinWorld) this.world).isFake()) {
             return originalRadius;
         }
-        if (this.cachedRadius == -1) {
-            final double configRadius = ((IMixinWorldServer) this.world).getWorldConfig().getConfig().getWorld().getItemMergeRadius();
-            this.cachedRadius = configRadius < 0 ? 0 : configRadius;
-        }
-        return this.cachedRadius;
+        return ((IMixinWorldServer) this.world).getWorldConfig().getSnapshot().getItemMergeRadius();
     }
 
     @Override
@@ -30,6 +30,9 @@
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.item.EntityTNTPrimed;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.block.BlockType;
@@ -47,7 +50,10 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.data.util.NbtDataUtil;
+import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.interfaces.entity.IMixinEntityTNTPrimed;
+import org.spongepowered.common.interfaces.entity.IMixinStackableEntity;
 import org.spongepowered.common.mixin.core.entity.MixinEntity;
 
 import java.util.Optional;
@@ -71,6 +77,7 @@ public abstract class MixinEntityTNTPrimed extends MixinEntity implements Primed
     private int fuseDuration = 80;
     private boolean exploding;
     private boolean detonationCancelled;
+    private int savedStackCount;
 
     @Override
     public void setDetonator(EntityLivingBase detonator) {
@@ -93,6 +100,12 @@ public void defuse() {
             Sponge.getCauseStackManager().pushCause(this);
             getWorld().setBlock((int) this.posX, (int) this.posY, (int) this.posZ, BlockState.builder().blockType(BLOCK_TYPE).build(), BlockChangeFlags.ALL);
             Sponge.getCauseStackManager().popCause();
+            // Only a single block can be placed, the remaining TNT of a stack is dropped instead
+            final int stackCount = getStackCount();
+            if (stackCount > 1) {
+                ((IMixinStackableEntity) this).setStackCount(1);
+                this.entityDropItem(new ItemStack(Blocks.TNT, stackCount - 1), 0.0F);
+            }
             postDefuse();
         }
     }
@@ -142,12 +155,52 @@ public boolean isPrimed() {
     @Override
     public void detonate() {
         setDead();
-        explode();
+        explodeStack();
+    }
+
+    @Override
+    public void explodeStack() {
+        final int stackCount = getStackCount();
+        if (stackCount > 1) {
+            // Every explosion stands for a single TNT, so a cancelled one only defuses that TNT
+            ((IMixinStackableEntity) this).setStackCount(1);
+        }
+        for (int remaining = stackCount - 1; remaining >= 0; remaining--) {
+            explode();
+            if (this.detonationCancelled) {
+                // The remaining TNT of the stack each get their own detonation again
+                respawnStack(remaining);
+                return;
+            }
+        }
+    }
+
+    private int getStackCount() {
+        return (Object) this instanceof IMixinStackableEntity ? ((IMixinStackableEntity) this).getStackCount() : 1;
+    }
+
+    private void respawnStack(int stackCount) {
+        if (stackCount <= 0) {
+            return;
+        }
+        final EntityTNTPrimed tnt = new EntityTNTPrimed(this.world, this.posX, this.posY, this.posZ, this.tntPlacedBy);
+        tnt.motionX = this.motionX;
+        tnt.motionY = this.motionY;
+        tnt.motionZ = this.motionZ;
+        tnt.setFuse(this.fuse);
+        ((PrimedTNT) tnt).setFuseDuration(this.fuseDuration);
+        ((PrimedTNT) tnt).setExplosionRadius(Optional.of(this.explosionRadius));
+        if (this.detonator != null) {
+            ((IMixinEntityTNTPrimed) tnt).setDetonator(this.detonator);
+        }
+        ((IMixinStackableEntity) tnt).setStackCount(stackCount);
+        this.world.spawnEntity(tnt);
     }
 
     @Inject(method = "explode", at = @At("HEAD"))
     private void preExplode(CallbackInfo ci) {
         this.exploding = true;
+        this.detonationCancelled = false;
     }
 
     @Redirect(method = "explode", at = @At(value = "INVOKE", target = TARGET_NEW_EXPLOSION))
@@ -167,9 +220,9 @@ protected net.minecraft.world.Explosion onExplode(net.minecraft.world.World worl
 
     @Inject(method = "explode", at = @At("RETURN"))
     protected void postExplode(CallbackInfo ci) {
+        // The flag is kept until the next explosion, so explodeStack can tell the detonation was cancelled
         if (this.detonationCancelled) {
             defuse();
-            this.detonationCancelled = false;
         }
         this.exploding = false;
     }
@@ -187,4 +240,28 @@ private void onSpongeUpdateTNTPushPrime(CallbackInfo ci) {
         }
     }
 
+    @Inject(method = "readEntityFromNBT", at = @At("RETURN"))
+    private void onReadSavedStackCount(NBTTagCompound compound, CallbackInfo ci) {
+        // Without stacking, a stack saved while it was enabled is expanded on the first tick
+        if (!((Object) this instanceof IMixinStackableEntity) && compound.hasKey(NbtDataUtil.ENTITY_STACK_COUNT, NbtDataUtil.TAG_INT)) {
+            this.savedStackCount = compound.getInteger(NbtDataUtil.ENTITY_STACK_COUNT);
+        }
+    }
+
+    @Inject(method = "writeEntityToNBT", at = @At("RETURN"))
+    private void onWriteSavedStackCount(NBTTagCompound compound, CallbackInfo ci) {
+        if (this.savedStackCount > 1) {
+            compound.setInteger(NbtDataUtil.ENTITY_STACK_COUNT, this.savedStackCount);
+        }
+    }
+
+    @Inject(method = "onUpdate", at = @At("HEAD"))
+    private void onUpdateExpandSavedStack(CallbackInfo ci) {
+        if (this.savedStackCount > 1 && !this.world.isRemote) {
+            final int copies = this.savedStackCount - 1;
+            this.savedStackCount = 0;
+            EntityUtil.expandSavedStack((Entity) (Object) this, copies);
+        }
+    }
+
 }
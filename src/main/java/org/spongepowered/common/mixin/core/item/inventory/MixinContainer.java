@@ -70,13 +70,16 @@
 import org.spongepowered.common.event.tracking.phase.packet.PacketPhaseUtil;
 import org.spongepowered.common.interfaces.IMixinContainer;
 import org.spongepowered.common.interfaces.entity.player.IMixinEntityPlayer;
+import org.spongepowered.common.item.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.item.inventory.adapter.impl.MinecraftInventoryAdapter;
 import org.spongepowered.common.item.inventory.adapter.impl.SlotCollectionIterator;
 import org.spongepowered.common.item.inventory.adapter.impl.slots.SlotAdapter;
 import org.spongepowered.common.item.inventory.lens.Fabric;
 import org.spongepowered.common.item.inventory.lens.Lens;
+import org.spongepowered.common.item.inventory.lens.LensProvider;
 import org.spongepowered.common.item.inventory.lens.SlotProvider;
 import org.spongepowered.common.item.inventory.lens.impl.MinecraftFabric;
+import org.spongepowered.common.item.inventory.lens.impl.ReusableLens;
 import org.spongepowered.common.item.inventory.util.ContainerUtil;
 import org.spongepowered.common.item.inventory.util.ItemStackUtil;
 
@@ -163,9 +166,23 @@ private void spongeInit() {
         this.initialized = true;
         this.adapters.clear();
         this.fabric = MinecraftFabric.of(this);
-        this.slots = ContainerUtil.countSlots((Container) (Object) this, this.fabric);
         this.lens = null;
-        this.lens = this.spectatorChest ? null : ContainerUtil.getLens(this.fabric, (Container) (Object) this, this.slots); // TODO handle spectator
+        if (this instanceof LensProvider && !this.spectatorChest) {
+            // The lens of a container providing its own lens only depends on the container class and size,
+            // share it with all other containers of the same kind
+            final InventoryAdapter adapter = (InventoryAdapter) this;
+            final ReusableLens<Lens> reusableLens = ReusableLens.getLens(Lens.class, adapter,
+                    () -> ((LensProvider) this).slotProvider(this.fabric, adapter),
+                    slots -> {
+                        this.slots = slots;
+                        return ((LensProvider) this).rootLens(this.fabric, adapter);
+                    });
+            this.slots = reusableLens.getSlots();
+            this.lens = reusableLens.getLens();
+        } else {
+            this.slots = ContainerUtil.countSlots((Container) (Object) this, this.fabric);
+            this.lens = this.spectatorChest ? null : ContainerUtil.getLens(this.fabric, (Container) (Object) this, this.slots); // TODO handle spectator
+        }
         this.archetype = ContainerUtil.getArchetype((Container) (Object) this);
         this.carrier = Optional.ofNullable(ContainerUtil.getCarrier(this));
 
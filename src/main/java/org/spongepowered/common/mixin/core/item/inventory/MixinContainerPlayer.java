@@ -54,11 +54,12 @@ public Lens rootLens(Fabric fabric, InventoryAdapter adapter) {
         return new ContainerPlayerInventoryLens(adapter, inventory$getSlotProvider());
     }
 
-    private int offHandSlot = -1;
+    // Crafting output, crafting grid, armor and main inventory come before the off hand
+    private static final int OFF_HAND_SLOT = 1 + 4 + 4 + 36;
 
     @Override
     public int getOffHandSlot() {
-        return this.offHandSlot;
+        return OFF_HAND_SLOT;
     }
 
     @SuppressWarnings("unchecked")
@@ -76,10 +77,6 @@ public SlotProvider slotProvider(Fabric fabric, InventoryAdapter adapter) {
                 .add(36)
                 .add(EquipmentSlotAdapter.class, index -> new EquipmentSlotLensImpl(index, i -> true, t -> true, e -> e == EquipmentTypes.OFF_HAND));
 
-        if (this.offHandSlot == -1) {
-            this.offHandSlot = builder.size() - 1;
-        }
-
         builder.add(this.inventorySlots.size() - 46); // Add additional slots (e.g. from mods)
         return builder.build();
     }
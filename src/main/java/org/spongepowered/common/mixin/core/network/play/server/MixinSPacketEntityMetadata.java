@@ -0,0 +1,90 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.network.play.server;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.network.datasync.EntityDataManager;
+import net.minecraft.network.play.server.SPacketEntityMetadata;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import java.io.IOException;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * Metadata packets are created once per entity and tick and then sent to
+ * every tracking player, where each connection would encode the same
+ * entries again. The encoded body is cached on the packet instead, so the
+ * entries are only serialized once and later connections copy the bytes.
+ */
+@Mixin(SPacketEntityMetadata.class)
+public abstract class MixinSPacketEntityMetadata {
+
+    @Shadow private int entityId;
+    @Shadow private List<EntityDataManager.DataEntry<?>> dataManagerEntries;
+
+    // Written from the netty threads of the tracking players' connections
+    @Nullable private volatile EncodedMetadata encoded;
+
+    @Inject(method = "writePacketData", at = @At("HEAD"), cancellable = true)
+    private void onWritePacketData(PacketBuffer buf, CallbackInfo ci) throws IOException {
+        EncodedMetadata encoded = this.encoded;
+        if (encoded == null || encoded.entityId != this.entityId || encoded.entries != this.dataManagerEntries) {
+            final ByteBuf buffer = Unpooled.buffer();
+            try {
+                final PacketBuffer packetBuffer = new PacketBuffer(buffer);
+                packetBuffer.writeVarInt(this.entityId);
+                EntityDataManager.writeEntries(this.dataManagerEntries, packetBuffer);
+                final byte[] bytes = new byte[buffer.readableBytes()];
+                buffer.readBytes(bytes);
+                this.encoded = encoded = new EncodedMetadata(this.entityId, this.dataManagerEntries, bytes);
+            } finally {
+                buffer.release();
+            }
+        }
+        buf.writeBytes(encoded.bytes);
+        ci.cancel();
+    }
+
+    private static final class EncodedMetadata {
+
+        final int entityId;
+        @Nullable final List<EntityDataManager.DataEntry<?>> entries;
+        final byte[] bytes;
+
+        EncodedMetadata(int entityId, @Nullable List<EntityDataManager.DataEntry<?>> entries, byte[] bytes) {
+            this.entityId = entityId;
+            this.entries = entries;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -125,6 +125,7 @@
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
@@ -373,7 +374,16 @@ public void prepareSpawnArea(WorldServer worldServer) {
             int i = 0;
             this.setUserMessage("menu.generatingTerrain");
             LOGGER.info("Preparing start region for level {} ({})", ((IMixinWorldServer) worldServer).getDimensionId(), ((World) worldServer).getName());
+            final long startTime = System.nanoTime();
             BlockPos blockpos = worldServer.getSpawnPoint();
+            // Request the whole spawn area up front so stored chunks are read on worker threads,
+            // but create and populate the chunks here in the fixed vanilla order. Population
+            // depends on which neighbours exist, so the spawn area of a seed stays the same.
+            for (int k = -192; k <= 192; k += 16) {
+                for (int l = -192; l <= 192; l += 16) {
+                    chunkProviderServer.loadChunkAsync(blockpos.getX() + k >> 4, blockpos.getZ() + l >> 4, true);
+                }
+            }
             long j = MinecraftServer.getCurrentTimeMillis();
             for (int k = -192; k <= 192 && this.isServerRunning(); k += 16) {
                 for (int l = -192; l <= 192 && this.isServerRunning(); l += 16) {
@@ -385,10 +395,12 @@ public void prepareSpawnArea(WorldServer worldServer) {
                     }
 
                     ++i;
-                    worldServer.getChunkProvider().provideChunk(blockpos.getX() + k >> 4, blockpos.getZ() + l >> 4);
+                    chunkProviderServer.finishAsyncChunkLoad(blockpos.getX() + k >> 4, blockpos.getZ() + l >> 4);
                 }
             }
             this.clearCurrentTask();
+            LOGGER.info("Prepared start region for level {} ({}) in {}ms", ((IMixinWorldServer) worldServer).getDimensionId(),
+                    ((World) worldServer).getName(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
         }
         chunkProviderServer.setForceChunkRequests(false);
     }
@@ -571,6 +583,8 @@ public String toString() {
     @Inject(method = "tick", at = @At(value = "HEAD"))
     public void onServerTickStart(CallbackInfo ci) {
         TimingsManager.FULL_SERVER_TICK.startTiming();
+        // Serialize the configs populated during the last tick, they are written off the main thread
+        SpongeImpl.getConfigSaveManager().serializeQueued();
     }
 
     @Inject(method = "tick", at = @At(value = "RETURN"))
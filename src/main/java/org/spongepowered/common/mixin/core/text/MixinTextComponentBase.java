@@ -36,6 +36,7 @@
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.Style;
 import net.minecraft.util.text.TextComponentBase;
+import net.minecraft.util.text.TextComponentString;
 import net.minecraft.util.text.TextFormatting;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.action.TextActions;
@@ -104,6 +105,12 @@ public String getLegacyFormatting() {
 
     @Override
     public String toLegacy(char code) {
+        if ((Object) this instanceof TextComponentString && this.siblings.isEmpty()
+                && (this.style == null || (this.style.isEmpty() && this.style.parentStyle == null))) {
+            // Fast path: a single plain string without any formatting, neither set nor inherited
+            return getUnformattedComponentText();
+        }
+
         StringBuilder builder = new StringBuilder();
 
         ResolvedChatStyle current = null;
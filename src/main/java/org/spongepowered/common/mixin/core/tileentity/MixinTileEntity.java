@@ -57,6 +57,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.block.SpongeTileEntityArchetypeBuilder;
+import org.spongepowered.common.block.TileEntityDataHandle;
 import org.spongepowered.common.data.nbt.CustomDataNbtUtil;
 import org.spongepowered.common.data.persistence.NbtTranslator;
 import org.spongepowered.common.data.type.SpongeTileEntityType;
@@ -98,6 +99,8 @@ public abstract class MixinTileEntity implements TileEntity, IMixinTileEntity {
     private boolean allowsBlockEventCreation = true;
     private boolean allowsEntityEventCreation = true;
     private boolean isCaptured = false;
+    private int modificationCount;
+    @Nullable private TileEntityDataHandle snapshotDataHandle;
 
     @Shadow protected boolean tileEntityInvalid;
     @Shadow protected net.minecraft.world.World world;
@@ -121,6 +124,12 @@ public void onConstruction(CallbackInfo ci) {
 
     @Inject(method = "markDirty", at = @At(value = "HEAD"))
     public void onMarkDirty(CallbackInfo ci) {
+        // Pending snapshots are never handed to listeners, this only keeps the data of later changes out of them.
+        // Vanilla marks the tile entity dirty after changing it, see TileEntityDataHandle#capture.
+        if (this.snapshotDataHandle != null) {
+            this.snapshotDataHandle.materialize();
+        }
+        this.modificationCount++;
         if (this.world != null && !this.world.isRemote) {
             // This handles transfers to this TE from a source such as a Hopper
             PhaseTracker.getInstance().getCurrentContext().getSource(TileEntity.class).ifPresent(currentTick -> {
@@ -208,6 +217,10 @@ public BlockState getBlock() {
     @Inject(method = "invalidate", at = @At("RETURN"))
     public void onSpongeInvalidate(CallbackInfo ci) {
         this.setActiveChunk(null);
+        // Snapshots can't defer reading data from a removed tile entity
+        if (this.snapshotDataHandle != null) {
+            this.snapshotDataHandle.materialize();
+        }
     }
 
     /**
@@ -398,6 +411,22 @@ public boolean isCaptured() {
         return this.isCaptured;
     }
 
+    @Override
+    public int getModificationCount() {
+        return this.modificationCount;
+    }
+
+    @Nullable
+    @Override
+    public TileEntityDataHandle getSnapshotDataHandle() {
+        return this.snapshotDataHandle;
+    }
+
+    @Override
+    public void setSnapshotDataHandle(@Nullable TileEntityDataHandle handle) {
+        this.snapshotDataHandle = handle;
+    }
+
     @Override
     public void setCaptured(boolean captured) {
         this.isCaptured = captured;
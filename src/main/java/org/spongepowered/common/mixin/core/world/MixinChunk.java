@@ -39,7 +39,6 @@
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.init.Blocks;
-import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.server.management.PlayerChunkMapEntry;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.ClassInheritanceMultiMap;
@@ -63,8 +62,8 @@
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.block.ScheduledBlockUpdate;
+import org.spongepowered.api.block.tileentity.TileEntityType;
 import org.spongepowered.api.data.DataContainer;
-import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.entity.EntitySnapshot;
 import org.spongepowered.api.entity.EntityType;
 import org.spongepowered.api.entity.living.player.User;
@@ -97,6 +96,7 @@
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.block.SpongeBlockSnapshotBuilder;
+import org.spongepowered.common.block.TileEntityDataHandle;
 import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
@@ -109,13 +109,14 @@
 import org.spongepowered.common.interfaces.IMixinCachable;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
-import org.spongepowered.common.interfaces.data.IMixinCustomDataHolder;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
 import org.spongepowered.common.interfaces.server.management.IMixinPlayerChunkMapEntry;
 import org.spongepowered.common.interfaces.world.IMixinWorld;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.registry.type.world.BlockChangeFlagRegistryModule;
+import org.spongepowered.common.relocate.co.aikar.timings.TimingRegionCounts;
+import org.spongepowered.common.relocate.co.aikar.timings.WorldTimingsHandler;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
@@ -257,23 +258,104 @@ public void setIsSpawning(boolean spawning) {
 
     @Inject(method = "addEntity", at = @At("RETURN"))
     private void onChunkAddEntity(Entity entityIn, CallbackInfo ci) {
+        countEntity(getRegionCounts(), entityIn, 1);
         ((IMixinEntity) entityIn).setActiveChunk(this);
     }
 
     @Inject(method = "addTileEntity(Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/tileentity/TileEntity;)V", at = @At(value = "INVOKE", target = "Lnet/minecraft/tileentity/TileEntity;validate()V"))
     private void onChunkAddTileEntity(BlockPos pos, TileEntity tileEntityIn, CallbackInfo ci) {
+        countTileEntity(getRegionCounts(), tileEntityIn, 1);
         ((IMixinTileEntity) tileEntityIn).setActiveChunk(this);
+        this.incrementTileEntityGeneration();
     }
 
     @Inject(method = "removeEntityAtIndex", at = @At("RETURN"))
     private void onChunkRemoveEntityAtIndex(Entity entityIn, int index, CallbackInfo ci) {
+        if (((IMixinEntity) entityIn).getActiveChunk() == this) {
+            countEntity(getRegionCounts(), entityIn, -1);
+        }
         ((IMixinEntity) entityIn).setActiveChunk(null);
     }
 
     @Redirect(method = "removeTileEntity", at = @At(value = "INVOKE", target = "Lnet/minecraft/tileentity/TileEntity;invalidate()V"))
     private void onChunkRemoveTileEntity(TileEntity tileEntityIn) {
+        countTileEntity(getRegionCounts(), tileEntityIn, -1);
         ((IMixinTileEntity) tileEntityIn).setActiveChunk(null);
         tileEntityIn.invalidate();
+        this.incrementTileEntityGeneration();
+    }
+
+    /**
+     * Looking up an invalidated tile entity removes it from the chunk without
+     * going through {@code removeTileEntity}, so it is uncounted here.
+     */
+    @Redirect(method = "getTileEntity(Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/world/chunk/Chunk$EnumCreateEntityType;)Lnet/minecraft/tileentity/TileEntity;",
+            at = @At(value = "INVOKE", target = "Ljava/util/Map;remove(Ljava/lang/Object;)Ljava/lang/Object;", remap = false))
+    private Object onGetTileEntityRemoveInvalid(Map<BlockPos, TileEntity> tileEntities, Object pos) {
+        final TileEntity removed = tileEntities.remove(pos);
+        if (removed != null) {
+            countTileEntity(getRegionCounts(), removed, -1);
+            ((IMixinTileEntity) removed).setActiveChunk(null);
+            this.incrementTileEntityGeneration();
+        }
+        return removed;
+    }
+
+    /**
+     * Gets the timings region counts to update, only while this chunk is
+     * loaded as its contents are counted in bulk on load and unload.
+     */
+    @Nullable
+    private TimingRegionCounts getRegionCounts() {
+        return this.loaded ? getWorldRegionCounts() : null;
+    }
+
+    @Nullable
+    private TimingRegionCounts getWorldRegionCounts() {
+        if (!(this.world instanceof IMixinWorldServer)) {
+            return null;
+        }
+        final WorldTimingsHandler timings = ((IMixinWorldServer) this.world).getTimingsHandler();
+        return timings == null ? null : timings.regionCounts;
+    }
+
+    private void countEntity(@Nullable TimingRegionCounts counts, Entity entity, int delta) {
+        if (counts != null) {
+            final EntityType type = ((org.spongepowered.api.entity.Entity) entity).getType();
+            if (type != null) {
+                counts.addEntity(this.x, this.z, type, delta);
+            }
+        }
+    }
+
+    private void countTileEntity(@Nullable TimingRegionCounts counts, TileEntity tileEntity, int delta) {
+        if (counts != null) {
+            final TileEntityType type = ((org.spongepowered.api.block.tileentity.TileEntity) tileEntity).getType();
+            if (type != null) {
+                counts.addTileEntity(this.x, this.z, type, delta);
+            }
+        }
+    }
+
+    private void countContents(int delta) {
+        final TimingRegionCounts counts = getWorldRegionCounts();
+        if (counts == null) {
+            return;
+        }
+        for (ClassInheritanceMultiMap<Entity> entityList : this.entityLists) {
+            for (Entity entity : entityList) {
+                countEntity(counts, entity, delta);
+            }
+        }
+        for (TileEntity tileEntity : this.tileEntities.values()) {
+            countTileEntity(counts, tileEntity, delta);
+        }
+    }
+
+    private void incrementTileEntityGeneration() {
+        if (this.world instanceof IMixinWorldServer) {
+            ((IMixinWorldServer) this.world).incrementTileEntityGeneration();
+        }
     }
 
     @Inject(method = "onLoad", at = @At("HEAD"), cancellable = true)
@@ -283,7 +365,9 @@ public void onLoadHead(CallbackInfo ci) {
                 // If we are loading an existing chunk for the sole purpose of 
                 // regenerating, we can skip loading TE's and Entities into the world
                 ci.cancel();
+                return;
             }
+            countContents(1);
         }
     }
 
@@ -325,7 +409,9 @@ public void onUnload(CallbackInfo ci) {
             }
         }
 
+        this.incrementTileEntityGeneration();
         if (!this.world.isRemote) {
+            countContents(-1);
             SpongeImpl.postEvent(SpongeEventFactory.createUnloadChunkEvent(Sponge.getCauseStackManager().getCurrentCause(), (Chunk) this));
             SpongeHooks.logChunkUnload(this.world, this.chunkPos);
         }
@@ -703,6 +789,7 @@ public IBlockState setBlockState(BlockPos pos, IBlockState newState, IBlockState
                         }
                         transaction.enqueueChanges(mixinWorld.getProxyAccess(), peek.getCapturedBlockSupplier());
                     } else {
+                        TileEntityDataHandle.materializePending(existing);
                         currentBlock.breakBlock(this.world, pos, currentState);
                     }
                 }
@@ -725,6 +812,7 @@ public IBlockState setBlockState(BlockPos pos, IBlockState newState, IBlockState
                 transaction = null;
                 // Sponge - Forge adds this change for block changes to only fire events when necessary
                 if (currentBlock != newBlock && (state == null || !state.isRestoring())) { // cache the block break in the event we're capturing tiles
+                    TileEntityDataHandle.materializePending(existing);
                     currentBlock.breakBlock(this.world, pos, currentState);
                 }
                 // Sponge - Add several tile entity hook checks. Mainly for forge added hooks, but these
@@ -868,7 +956,9 @@ public IBlockState setBlockState(BlockPos pos, IBlockState newState, IBlockState
     @Override
     public void removeTileEntity(TileEntity removed) {
         TileEntity tileentity = this.tileEntities.remove(removed.getPos());
-        if (tileentity != removed && tileentity != null) {
+        if (tileentity == removed) {
+            countTileEntity(getRegionCounts(), removed, -1);
+        } else if (tileentity != null) {
             // Because multiple requests to remove a tile entity could cause for checks
             // without actually knowing if the chunk doesn't have the tile entity, this
             // avoids storing nulls.
@@ -887,10 +977,14 @@ public void setTileEntity(BlockPos pos, TileEntity added) {
             added.setWorld(this.world);
         }
         added.setPos(pos);
+        final TimingRegionCounts counts = getRegionCounts();
         if (this.tileEntities.containsKey(pos)) {
-            this.tileEntities.get(pos).invalidate();
+            final TileEntity existing = this.tileEntities.get(pos);
+            countTileEntity(counts, existing, -1);
+            existing.invalidate();
         }
         added.validate();
+        countTileEntity(counts, added, 1);
         ((IMixinTileEntity) added).setActiveChunk(this);
         this.tileEntities.put(pos, added);
     }
@@ -908,19 +1002,8 @@ private SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockS
         notifier.ifPresent(builder::notifier);
         if (existing != null) {
             // We MUST only check to see if a TE exists to avoid creating a new one.
-            org.spongepowered.api.block.tileentity.TileEntity tile = (org.spongepowered.api.block.tileentity.TileEntity) existing;
-            for (DataManipulator<?, ?> manipulator : ((IMixinCustomDataHolder) tile).getCustomManipulators()) {
-                builder.add(manipulator);
-            }
-            NBTTagCompound nbt = new NBTTagCompound();
-            // Some mods like OpenComputers assert if attempting to save robot while moving
-            try {
-                existing.writeToNBT(nbt);
-                builder.unsafeNbt(nbt);
-            }
-            catch(Throwable t) {
-                // ignore
-            }
+            // The data is only written once read, or right before the tile entity is broken or removed.
+            builder.tileEntity(existing);
         }
         builder.flag(updateFlag);
         return builder.build();
@@ -1456,6 +1539,7 @@ public void fill(ChunkPrimer primer) {
     @Redirect(method = "addTileEntity(Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/tileentity/TileEntity;)V", at = @At(target =
             "Lnet/minecraft/tileentity/TileEntity;invalidate()V", value = "INVOKE"))
     private void redirectInvalidate(TileEntity te) {
+        countTileEntity(getRegionCounts(), te, -1);
         SpongeImplHooks.onTileEntityInvalidate(te);
     }
 
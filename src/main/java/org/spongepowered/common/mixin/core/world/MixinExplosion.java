@@ -25,7 +25,13 @@
 package org.spongepowered.common.mixin.core.world;
 
 import com.flowpowered.math.vector.Vector3d;
-import com.google.common.collect.Sets;
+import it.unimi.dsi.fastutil.longs.Long2FloatMap;
+import it.unimi.dsi.fastutil.longs.Long2FloatOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
@@ -61,19 +67,21 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.entity.EntityUtil;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.interfaces.world.IMixinExplosion;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.ExplosionExposureCache;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
-import java.util.Set;
 
 import javax.annotation.Nullable;
 
@@ -170,7 +178,13 @@ public void doExplosionA() {
         // Sponge Start - If the explosion should not break blocks, don't bother calculating it
         if (this.shouldBreakBlocks) {
             // Sponge End
-            Set<BlockPos> set = Sets.<BlockPos>newHashSet();
+            // Sponge Start - Trace the rays with a single mutable position, collecting the affected positions as packed longs.
+            // Every block is looked up and has its resistance calculated only once, even though most are hit by several rays.
+            final LongSet set = new LongOpenHashSet();
+            final Long2ObjectMap<IBlockState> states = new Long2ObjectOpenHashMap<>();
+            final Long2FloatMap resistances = new Long2FloatOpenHashMap();
+            final BlockPos.MutableBlockPos blockpos = new BlockPos.MutableBlockPos();
+            // Sponge End
             int i = 16;
 
             for (int j = 0; j < 16; ++j) {
@@ -190,21 +204,34 @@ public void doExplosionA() {
                             double d8 = this.z;
 
                             for (float f1 = 0.3F; f > 0.0F; f -= 0.22500001F) {
-                                BlockPos blockpos = new BlockPos(d4, d6, d8);
-                                IBlockState iblockstate = this.world.getBlockState(blockpos);
+                                // Sponge Start - Reuse the position and cache the block state and resistance
+                                blockpos.setPos(d4, d6, d8);
+                                final long packedPos = blockpos.toLong();
+                                IBlockState iblockstate = states.get(packedPos);
+                                if (iblockstate == null) {
+                                    iblockstate = this.world.getBlockState(blockpos);
+                                    states.put(packedPos, iblockstate);
+                                }
 
                                 if (iblockstate.getMaterial() != Material.AIR) {
-                                    float f2 = this.exploder != null
-                                               ? this.exploder.getExplosionResistance((net.minecraft.world.Explosion) (Object) this
-                                            , this.world, blockpos, iblockstate)
-                                               : iblockstate.getBlock().getExplosionResistance((Entity) null);
+                                    float f2;
+                                    if (resistances.containsKey(packedPos)) {
+                                        f2 = resistances.get(packedPos);
+                                    } else {
+                                        f2 = this.exploder != null
+                                             ? this.exploder.getExplosionResistance((net.minecraft.world.Explosion) (Object) this
+                                                , this.world, blockpos, iblockstate)
+                                             : iblockstate.getBlock().getExplosionResistance((Entity) null);
+                                        resistances.put(packedPos, f2);
+                                    }
                                     f -= (f2 + 0.3F) * 0.3F;
                                 }
 
-                                if (f > 0.0F && (this.exploder == null || this.exploder
+                                if (f > 0.0F && !set.contains(packedPos) && (this.exploder == null || this.exploder
                                         .canExplosionDestroyBlock((net.minecraft.world.Explosion) (Object) this, this.world, blockpos, iblockstate, f))) {
-                                    set.add(blockpos);
+                                    set.add(packedPos);
                                 }
+                                // Sponge End
 
                                 d4 += d0 * 0.30000001192092896D;
                                 d6 += d1 * 0.30000001192092896D;
@@ -215,7 +242,12 @@ public void doExplosionA() {
                 }
             }
 
-            this.affectedBlockPositions.addAll(set);
+            // Sponge Start - Only now create the positions that are actually affected
+            final LongIterator iterator = set.iterator();
+            while (iterator.hasNext()) {
+                this.affectedBlockPositions.add(BlockPos.fromLong(iterator.nextLong()));
+            }
+            // Sponge End
         } // Sponge - Finish if statement
         float f3 = this.size * 2.0F;
         int k1 = MathHelper.floor(this.x - (double) f3 - 1.0D);
@@ -229,41 +261,49 @@ public void doExplosionA() {
         List<Entity> list = this.shouldDamageEntities
                             ? this.world.getEntitiesWithinAABBExcludingEntity(this.exploder, new AxisAlignedBB((double) k1, (double) i2, (double) j2, (double) l1, (double) i1, (double) j1))
                             : Collections.emptyList();
-        // Now we can throw our Detonate Event
-        final List<Location<World>> blockPositions = new ArrayList<>(this.affectedBlockPositions.size());
-        final List<org.spongepowered.api.entity.Entity> entities = new ArrayList<>(list.size());
-        for (BlockPos pos : this.affectedBlockPositions) {
-            blockPositions.add(new Location<>((World) this.world, pos.getX(), pos.getY(), pos.getZ()));
-        }
-        for (Entity entity : list) {
-            entities.add((org.spongepowered.api.entity.Entity) entity);
-        }
-        ExplosionEvent.Detonate detonate = SpongeEventFactory.createExplosionEventDetonate(Sponge.getCauseStackManager().getCurrentCause(), blockPositions, entities, this, (World) this.world);
-        SpongeImpl.postEvent(detonate);
-        if (detonate.isCancelled()) {
+        // Now we can throw our Detonate Event, the locations are only created if someone listens to it
+        if (ShouldFire.EXPLOSION_EVENT_DETONATE) {
+            final List<Location<World>> blockPositions = new ArrayList<>(this.affectedBlockPositions.size());
+            final List<org.spongepowered.api.entity.Entity> entities = new ArrayList<>(list.size());
+            for (BlockPos pos : this.affectedBlockPositions) {
+                blockPositions.add(new Location<>((World) this.world, pos.getX(), pos.getY(), pos.getZ()));
+            }
+            for (Entity entity : list) {
+                entities.add((org.spongepowered.api.entity.Entity) entity);
+            }
+            ExplosionEvent.Detonate detonate = SpongeEventFactory.createExplosionEventDetonate(Sponge.getCauseStackManager().getCurrentCause(), blockPositions, entities, this, (World) this.world);
+            SpongeImpl.postEvent(detonate);
+            if (detonate.isCancelled()) {
+                this.affectedBlockPositions.clear();
+                return;
+            }
             this.affectedBlockPositions.clear();
-            return;
-        }
-        this.affectedBlockPositions.clear();
-        if (this.shouldBreakBlocks) {
-            for (Location<World> worldLocation : detonate.getAffectedLocations()) {
-                this.affectedBlockPositions.add(VecHelper.toBlockPos(worldLocation));
+            if (this.shouldBreakBlocks) {
+                for (Location<World> worldLocation : detonate.getAffectedLocations()) {
+                    this.affectedBlockPositions.add(VecHelper.toBlockPos(worldLocation));
+                }
             }
-        }
-        list.clear();
-
-        if (this.shouldDamageEntities) {
-            for (org.spongepowered.api.entity.Entity entity : detonate.getEntities()) {
-                try {
-                    list.add(EntityUtil.toNative(entity));
-                } catch (Exception e) {
-                    // Do nothing, a plugin tried to use the wrong entity somehow.
+            list = new ArrayList<>(detonate.getEntities().size());
+
+            if (this.shouldDamageEntities) {
+                for (org.spongepowered.api.entity.Entity entity : detonate.getEntities()) {
+                    try {
+                        list.add(EntityUtil.toNative(entity));
+                    } catch (Exception e) {
+                        // Do nothing, a plugin tried to use the wrong entity somehow.
+                    }
                 }
             }
         }
         // Sponge End
 
         Vec3d vec3d = new Vec3d(this.x, this.y, this.z);
+        // Sponge Start - Entities sharing a bounding box, like stacked TNT, share their exposure
+        final ExplosionExposureCache exposureCache = this.world instanceof IMixinWorldServer
+                && SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useMergeExplosionExposure()
+                ? ((IMixinWorldServer) this.world).getExplosionExposureCache() : null;
+        Map<AxisAlignedBB, Float> densities = null;
+        // Sponge End
 
         for (int k2 = 0; k2 < list.size(); ++k2) {
             Entity entity = list.get(k2);
@@ -281,7 +321,23 @@ public void doExplosionA() {
                         d5 = d5 / d13;
                         d7 = d7 / d13;
                         d9 = d9 / d13;
-                        double d14 = (double) this.world.getBlockDensity(vec3d, entity.getEntityBoundingBox());
+                        // Sponge Start - Cache the exposure per bounding box
+                        final AxisAlignedBB boundingBox = entity.getEntityBoundingBox();
+                        final double d14;
+                        if (exposureCache != null) {
+                            d14 = exposureCache.getBlockDensity(this.world, vec3d, boundingBox);
+                        } else {
+                            if (densities == null) {
+                                densities = new HashMap<>();
+                            }
+                            Float density = densities.get(boundingBox);
+                            if (density == null) {
+                                density = this.world.getBlockDensity(vec3d, boundingBox);
+                                densities.put(boundingBox, density);
+                            }
+                            d14 = density;
+                        }
+                        // Sponge End
                         double d10 = (1.0D - d12) * d14;
                         entity.attackEntityFrom(
                                 DamageSource.causeExplosionDamage((net.minecraft.world.Explosion) (Object) this), (float) ((int) ((d10 * d10 + d10) / 2.0D * 7.0D * (double) f3 + 1.0D)));
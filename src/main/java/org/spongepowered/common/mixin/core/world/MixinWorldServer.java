@@ -196,6 +196,7 @@
 import org.spongepowered.common.util.NonNullArrayList;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.ExplosionExposureCache;
 import org.spongepowered.common.world.SpongeLocatableBlockBuilder;
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.common.world.WorldUtil;
@@ -1321,11 +1322,12 @@ private void checkBlockBounds(int x, int y, int z) {
     public BlockSnapshot createSnapshot(int x, int y, int z) {
         BlockPos pos = new BlockPos(x, y, z);
         IBlockState currentState = this.getBlockState(pos);
+        // API snapshots may outlive any tracked change of the tile entity, so its data is captured right away.
         return this.createSpongeBlockSnapshot(currentState, currentState.getActualState((WorldServer) (Object) this, pos), pos,
             // PHYSICS_OBSERVER does not actually perform any changes except running physics
             // and notifying observer blocks. It does NOT perform Neighbor notifications, and
             // it DOES tell the client about the block change.
-            BlockChangeFlags.PHYSICS_OBSERVER);
+            BlockChangeFlags.PHYSICS_OBSERVER, false);
     }
 
     @Override
@@ -1956,6 +1958,11 @@ private boolean forceSpawnEntity(net.minecraft.entity.Entity entity, int chunkX,
 
     @Override
     public SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockState extended, BlockPos pos, BlockChangeFlag updateFlag) {
+        return this.createSpongeBlockSnapshot(state, extended, pos, updateFlag, true);
+    }
+
+    private SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockState extended, BlockPos pos, BlockChangeFlag updateFlag,
+        boolean deferTileData) {
         this.builder.reset();
         this.builder.blockState((BlockState) state)
                 .extendedState((BlockState) extended)
@@ -1973,7 +1980,10 @@ public SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockSt
         final net.minecraft.tileentity.TileEntity tileEntity = this.getChunk(pos).getTileEntity(pos, Chunk.EnumCreateEntityType.CHECK);
         if (hasTileEntity || tileEntity != null) {
             // We MUST only check to see if a TE exists to avoid creating a new one.
-            if (tileEntity != null) {
+            if (tileEntity != null && deferTileData) {
+                // The data is only written once read, or right before the tile entity is changed or removed.
+                this.builder.tileEntity(tileEntity);
+            } else if (tileEntity != null) {
                 TileEntity tile = (TileEntity) tileEntity;
                 for (DataManipulator<?, ?> manipulator : ((IMixinCustomDataHolder) tile).getCustomManipulators()) {
                     this.builder.add(manipulator);
@@ -2048,12 +2058,40 @@ public Explosion newExplosion(@Nullable net.minecraft.entity.Entity entityIn, do
     }
 
     private SpongeProxyBlockAccess proxyBlockAccess = new SpongeProxyBlockAccess(this);
+    private final ExplosionExposureCache explosionExposureCache = new ExplosionExposureCache();
+    private long mergedEntityCount;
+    private long tileEntityGeneration;
 
     @Override
     public SpongeProxyBlockAccess getProxyAccess() {
         return this.proxyBlockAccess;
     }
 
+    @Override
+    public ExplosionExposureCache getExplosionExposureCache() {
+        return this.explosionExposureCache;
+    }
+
+    @Override
+    public void onEntitiesMerged(int count) {
+        this.mergedEntityCount += count;
+    }
+
+    @Override
+    public long getMergedEntityCount() {
+        return this.mergedEntityCount;
+    }
+
+    @Override
+    public long getTileEntityGeneration() {
+        return this.tileEntityGeneration;
+    }
+
+    @Override
+    public void incrementTileEntityGeneration() {
+        this.tileEntityGeneration++;
+    }
+
     /**
      * @author gabizou - August 4th, 2016
      * @author blood - May 11th, 2017 - Forces chunk requests if TE is ticking.
@@ -28,9 +28,12 @@
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
 import net.minecraft.entity.item.EntityMinecart;
+import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.datafix.DataFixer;
+import net.minecraft.util.datafix.FixTypes;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
@@ -68,12 +71,16 @@
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
 import org.spongepowered.common.util.QueuedChunk;
 
+import java.io.DataInputStream;
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
+import javax.annotation.Nullable;
+
 @Mixin(AnvilChunkLoader.class)
 @Implements(@Interface(iface = IMixinAnvilChunkLoader.class, prefix = "loader$"))
 public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
@@ -89,8 +96,11 @@ public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
     @Shadow @Final private File chunkSaveLocation;
     @Shadow private boolean flushing;
 
+    @Shadow @Final private DataFixer fixer;
+
     @Shadow
     public abstract void writeChunkData(ChunkPos pos, NBTTagCompound compound);
+    @Shadow @Nullable protected abstract Chunk checkedReadChunkFromNBT(World worldIn, int x, int z, NBTTagCompound compound);
 
     @Inject(method = "writeChunkToNBT", at = @At(value = "RETURN"))
     public void onWriteChunkToNBT(net.minecraft.world.chunk.Chunk chunkIn, World worldIn, NBTTagCompound compound, CallbackInfo ci) {
@@ -303,4 +313,34 @@ public Path getWorldDir() {
         return this.chunkSaveLocation.toPath();
     }
 
+    @Nullable
+    @Override
+    public NBTTagCompound readChunkData(int x, int z) throws IOException {
+        // Same lookup as loadChunk, without creating the chunk
+        final NBTTagCompound pending = this.chunksToSave.get(new ChunkPos(x, z));
+        if (pending != null) {
+            return pending;
+        }
+        final DataInputStream stream = RegionFileCache.getChunkInputStream(this.chunkSaveLocation, x, z);
+        if (stream == null) {
+            return null;
+        }
+        try (DataInputStream input = stream) {
+            return this.fixer.process(FixTypes.CHUNK, CompressedStreamTools.read(input));
+        }
+    }
+
+    @Nullable
+    @Override
+    public Chunk readChunk(World world, int x, int z, @Nullable NBTTagCompound compound) {
+        if (compound == null) {
+            return null;
+        }
+        final Chunk chunk = this.checkedReadChunkFromNBT(world, x, z, compound);
+        if (chunk != null) {
+            SpongeImplHooks.loadChunkEntities((AnvilChunkLoader) (Object) this, world, compound, chunk);
+        }
+        return chunk;
+    }
+
 }
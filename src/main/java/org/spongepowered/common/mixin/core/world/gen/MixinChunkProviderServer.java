@@ -26,7 +26,9 @@
 
 import com.flowpowered.math.vector.Vector3i;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.storage.IChunkLoader;
@@ -37,6 +39,7 @@
 import org.spongepowered.api.world.storage.ChunkDataStream;
 import org.spongepowered.api.world.storage.WorldProperties;
 import org.spongepowered.api.world.storage.WorldStorage;
+import org.spongepowered.asm.lib.Opcodes;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Mutable;
@@ -50,6 +53,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.config.SpongeConfig;
+import org.spongepowered.common.config.category.AsyncChunkLoadingCategory;
 import org.spongepowered.common.config.type.GeneralConfigBase;
 import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseTracker;
@@ -65,22 +69,37 @@
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.util.CachedLong2ObjectMap;
 import org.spongepowered.common.util.SpongeHooks;
+import org.spongepowered.common.world.ChunkLoadPipeline;
+import org.spongepowered.common.world.ChunkUnloadQueue;
 import org.spongepowered.common.world.SpongeEmptyChunk;
 import org.spongepowered.common.world.storage.SpongeChunkDataStream;
 import org.spongepowered.common.world.storage.WorldStorageUtil;
 
-import java.util.Iterator;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
 
 @Mixin(ChunkProviderServer.class)
 public abstract class MixinChunkProviderServer implements WorldStorage, IMixinChunkProviderServer {
 
+    // The time in nanoseconds that may be spent per tick on creating the chunks that were read asynchronously
+    private static final long ASYNC_LOAD_TIME_BUDGET = TimeUnit.MILLISECONDS.toNanos(20);
+
     private SpongeEmptyChunk EMPTY_CHUNK;
     private boolean denyChunkRequests = true;
     private boolean forceChunkRequests = false;
     private long chunkUnloadDelay = 15000;
     private int maxChunkUnloads = 100;
+    private final ChunkUnloadQueue unloadQueue = new ChunkUnloadQueue();
+    @Nullable private ChunkLoadPipeline loadPipeline;
+    private int maxAsyncLoadsPerTick = 49;
+    private int maxAsyncGenerationsPerTick = 4;
+    private int asyncGenerationRequests;
 
     @Shadow @Final public WorldServer world;
     @Shadow @Final private IChunkLoader chunkLoader;
@@ -106,6 +125,9 @@ private void onConstruct(WorldServer worldObjIn, IChunkLoader chunkLoaderIn, ICh
         this.denyChunkRequests = spongeConfig.getConfig().getWorld().getDenyChunkRequests();
         this.chunkUnloadDelay = spongeConfig.getConfig().getWorld().getChunkUnloadDelay() * 1000;
         this.maxChunkUnloads = spongeConfig.getConfig().getWorld().getMaxChunkUnloads();
+        final AsyncChunkLoadingCategory asyncCategory = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getAsyncChunkLoadingCategory();
+        this.maxAsyncLoadsPerTick = asyncCategory.getMaxLoadsPerTick();
+        this.maxAsyncGenerationsPerTick = asyncCategory.getMaxGenerationsPerTick();
     }
 
     @Override
@@ -143,7 +165,8 @@ public WorldProperties getWorldProperties() {
 
     /**
      * @author blood - October 25th, 2016
-     * @reason Removes usage of droppedChunksSet in favor of unloaded flag.
+     * @reason Removes usage of droppedChunksSet in favor of unloaded flag
+     * and a queue ordered by the time the chunk may unload.
      *
      * @param chunkIn The chunk to queue
      */
@@ -152,10 +175,27 @@ public void queueUnload(Chunk chunkIn)
     {
         if (!((IMixinChunk) chunkIn).isPersistedChunk() && this.world.provider.canDropChunk(chunkIn.x, chunkIn.z))
         {
-            // Sponge - we avoid using the queue and simply check the unloaded flag during unloads
+            // Sponge - we avoid using the droppedChunksSet and use the unloaded flag together with our own unload queue
             //this.droppedChunksSet.add(Long.valueOf(ChunkPos.asLong(chunkIn.x, chunkIn.z)));
             chunkIn.unloadQueued = true;
+            this.unloadQueue.add(chunkIn, this.getUnloadTime(chunkIn), System.currentTimeMillis());
+        }
+    }
+
+    private long getUnloadTime(Chunk chunk) {
+        if (this.chunkUnloadDelay <= 0) {
+            return 0;
         }
+        // Chunks which were never scheduled are due right away
+        return ((IMixinChunk) chunk).getScheduledForUnload() + this.chunkUnloadDelay;
+    }
+
+    @Redirect(method = "getLoadedChunk", at = @At(value = "FIELD", target = "Lnet/minecraft/world/chunk/Chunk;unloadQueued:Z", opcode = Opcodes.PUTFIELD))
+    private void onMarkChunkActive(Chunk chunk, boolean unloadQueued) {
+        if (chunk.unloadQueued && !unloadQueued) {
+            this.unloadQueue.remove(chunk);
+        }
+        chunk.unloadQueued = unloadQueued;
     }
 
     // split from loadChunk to avoid 2 lookups with our inject
@@ -172,6 +212,95 @@ private Chunk loadChunkForce(int x, int z) {
         return chunk;
     }
 
+    @Override
+    public CompletableFuture<Chunk> loadChunkAsync(int x, int z, boolean generate) {
+        final Chunk loaded = this.getLoadedChunk(x, z);
+        if (loaded != null) {
+            return CompletableFuture.completedFuture(loaded);
+        }
+        if (this.loadPipeline == null) {
+            if (!(this.chunkLoader instanceof IMixinAnvilChunkLoader) || ((IMixinWorld) this.world).isFake()) {
+                return CompletableFuture.completedFuture(generate ? this.provideChunk(x, z) : this.loadChunk(x, z));
+            }
+            this.loadPipeline = new ChunkLoadPipeline((IMixinAnvilChunkLoader) this.chunkLoader);
+        }
+        return this.loadPipeline.request(x, z, generate).getFuture();
+    }
+
+    @Nullable
+    @Override
+    public Chunk finishAsyncChunkLoad(int x, int z) {
+        final ChunkLoadPipeline.PendingLoad load = this.loadPipeline == null ? null : this.loadPipeline.getPending(x, z);
+        if (load == null) {
+            return this.getLoadedChunk(x, z);
+        }
+        this.finishAsyncChunkLoad(load);
+        return load.getFuture().join();
+    }
+
+    @Override
+    public boolean acquireAsyncChunkGeneration() {
+        return this.asyncGenerationRequests++ < this.maxAsyncGenerationsPerTick;
+    }
+
+    // Creates the chunks whose data was read asynchronously, the loads that don't fit
+    // into the given budget stay queued for the next tick
+    private void finishAsyncChunkLoads(int maxLoads, int maxGenerations, long deadline) {
+        List<ChunkLoadPipeline.PendingLoad> deferred = null;
+        int loads = 0;
+        int generations = 0;
+        ChunkLoadPipeline.PendingLoad load;
+        while (loads < maxLoads && System.nanoTime() < deadline && (load = this.loadPipeline.pollCompleted()) != null) {
+            if (load.needsGeneration() && generations++ >= maxGenerations) {
+                if (deferred == null) {
+                    deferred = new ArrayList<>();
+                }
+                deferred.add(load);
+                continue;
+            }
+            this.finishAsyncChunkLoad(load);
+            loads++;
+        }
+        if (deferred != null) {
+            // Keep the order in which the reads completed
+            for (int i = deferred.size() - 1; i >= 0; i--) {
+                this.loadPipeline.defer(deferred.get(i));
+            }
+        }
+    }
+
+    private void finishAsyncChunkLoad(ChunkLoadPipeline.PendingLoad load) {
+        Chunk chunk = null;
+        try {
+            // The regular load path fires all events and joins the data of the pending load instead of reading the region file again
+            chunk = this.loadChunk(load.x, load.z);
+            if (chunk == null && load.shouldGenerate()) {
+                // The chunk was explicitly requested, it must not be denied
+                final boolean forceChunkRequests = this.forceChunkRequests;
+                this.forceChunkRequests = true;
+                try {
+                    chunk = this.provideChunk(load.x, load.z);
+                } finally {
+                    this.forceChunkRequests = forceChunkRequests;
+                }
+            }
+        } finally {
+            this.loadPipeline.complete(load, chunk);
+        }
+    }
+
+    // Joins a read that is already in flight instead of reading the region file again
+    @Redirect(method = "loadChunkFromFile", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/chunk/storage/IChunkLoader;loadChunk(Lnet/minecraft/world/World;II)Lnet/minecraft/world/chunk/Chunk;"))
+    private Chunk onLoadChunkFromFile(IChunkLoader chunkLoader, World world, int x, int z) throws IOException {
+        final ChunkLoadPipeline.PendingLoad load = this.loadPipeline == null ? null : this.loadPipeline.getPending(x, z);
+        if (load == null) {
+            return chunkLoader.loadChunk(world, x, z);
+        }
+        final NBTTagCompound compound = load.join();
+        this.loadPipeline.consume(load);
+        return ((IMixinAnvilChunkLoader) chunkLoader).readChunk(world, x, z, compound);
+    }
+
     @Redirect(method = "provideChunk", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/gen/ChunkProviderServer;loadChunk(II)Lnet/minecraft/world/chunk/Chunk;"))
     public Chunk onProvideChunkHead(ChunkProviderServer chunkProviderServer, int x, int z) {
         if (!this.denyChunkRequests) {
@@ -273,36 +402,54 @@ public long getChunkUnloadDelay() {
     /**
      * @author blood - October 20th, 2016
      * @reason Refactors entire method to not use the droppedChunksSet by
-     * simply looping through all loaded chunks and determining whether it
-     * can unload or not.
+     * polling the chunks that are due from the unload queue and determining
+     * whether they can unload or not.
      *
      * @return true if unload queue was processed
      */
     @Overwrite
     public boolean tick()
     {
+        if (this.loadPipeline != null) {
+            this.asyncGenerationRequests = 0;
+            this.finishAsyncChunkLoads(this.maxAsyncLoadsPerTick, this.maxAsyncGenerationsPerTick,
+                    System.nanoTime() + ASYNC_LOAD_TIME_BUDGET);
+        }
+
         if (!this.world.disableLevelSaving && !((IMixinWorld) this.world).isFake())
         {
             ((IMixinWorldServer) this.world).getTimingsHandler().doChunkUnload.startTiming();
-            Iterator<Chunk> iterator = this.loadedChunks.values().iterator();
             int chunksUnloaded = 0;
             long now = System.currentTimeMillis();
-            while (chunksUnloaded < this.maxChunkUnloads && iterator.hasNext()) {
-                Chunk chunk = iterator.next();
+            ChunkUnloadQueue.Entry entry;
+            while (chunksUnloaded < this.maxChunkUnloads && (entry = this.unloadQueue.poll(now)) != null) {
+                Chunk chunk = entry.getChunk();
                 IMixinChunk spongeChunk = (IMixinChunk) chunk;
-                if (chunk != null && chunk.unloadQueued && !spongeChunk.isPersistedChunk()) {
-                    if (this.getChunkUnloadDelay() > 0) {
-                        if ((now - spongeChunk.getScheduledForUnload()) < this.chunkUnloadDelay) {
-                            continue;
-                        }
-                        spongeChunk.setScheduledForUnload(-1);
-                    }
-                    chunk.onUnload();
-                    this.saveChunkData(chunk);
-                    this.saveChunkExtraData(chunk);
-                    iterator.remove();
-                    chunksUnloaded++;
+                long index = ChunkPos.asLong(chunk.x, chunk.z);
+                if (this.loadedChunks.get(index) != chunk || !chunk.unloadQueued) {
+                    // Already unloaded or active again
+                    continue;
+                }
+                if (spongeChunk.isPersistedChunk()) {
+                    // Persisted since it was queued, the chunk is no longer queued for unload
+                    chunk.unloadQueued = false;
+                    continue;
                 }
+                long unloadTime = this.getUnloadTime(chunk);
+                if (unloadTime > now) {
+                    // Rescheduled since it was queued
+                    this.unloadQueue.add(chunk, unloadTime, now);
+                    continue;
+                }
+                if (this.getChunkUnloadDelay() > 0) {
+                    spongeChunk.setScheduledForUnload(-1);
+                }
+                chunk.onUnload();
+                this.saveChunkData(chunk);
+                this.saveChunkExtraData(chunk);
+                this.loadedChunks.remove(index);
+                this.unloadQueue.onUnloaded(entry, now);
+                chunksUnloaded++;
             }
             ((IMixinWorldServer) this.world).getTimingsHandler().doChunkUnload.stopTiming();
         }
@@ -311,6 +458,11 @@ public boolean tick()
         return false;
     }
 
+    @Override
+    public ChunkUnloadQueue getUnloadQueue() {
+        return this.unloadQueue;
+    }
+
     // Copy of getLoadedChunk without marking chunk active.
     // This allows the chunk to unload if currently queued.
     @Override
@@ -355,6 +507,7 @@ public void unloadChunkAndSave(Chunk chunk) {
         }
 
         this.loadedChunks.remove(ChunkPos.asLong(chunk.x, chunk.z));
+        this.unloadQueue.remove(chunk);
         ((IMixinChunk) chunk).setScheduledForUnload(-1);
     }
 }
@@ -46,7 +46,7 @@ public void inactiveTick() {
             --this.pickupDelay;
         }
 
-        if (!this.world.isRemote && this.age >= ((IMixinWorldServer) this.world).getWorldConfig().getConfig().getEntity().getItemDespawnRate()) {
+        if (!this.world.isRemote && this.age >= ((IMixinWorldServer) this.world).getWorldConfig().getSnapshot().getItemDespawnRate()) {
             this.setDead();
         }
     }
@@ -100,7 +100,7 @@ public void initializeCollisionState(World worldIn) {
             globalCollMod = new CollisionModCategory(modId);
             globalCollCat.getModList().put(modId, globalCollMod);
             globalCollMod.getBlockList().put(name, this.getMaxCollisions());
-            globalConfig.save();
+            globalConfig.queueSave();
             return;
         } else if (worldCollMod != null) {
             if (!worldCollMod.isEnabled()) {
@@ -129,7 +129,7 @@ public void initializeCollisionState(World worldIn) {
         }
 
         if (requiresSave) {
-            globalConfig.save();
+            globalConfig.queueSave();
         }
     }
 }
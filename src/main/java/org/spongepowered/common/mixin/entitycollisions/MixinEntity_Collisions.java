@@ -128,7 +128,7 @@ public void initializeCollisionState(World worldObj) {
             globalCollMod = new CollisionModCategory(this.getModDataId());
             globalCollCat.getModList().put(this.getModDataId(), globalCollMod);
             globalCollMod.getEntityList().put(this.getModDataName(), this.getMaxCollisions());
-            globalConfig.save();
+            globalConfig.queueSave();
             return;
         } else if (worldCollMod != null) {
             if (!worldCollMod.isEnabled()) {
@@ -166,7 +166,7 @@ public void initializeCollisionState(World worldObj) {
         }
 
         if (requiresSave) {
-            globalConfig.save();
+            globalConfig.queueSave();
         }
     }
 
@@ -35,26 +35,135 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Overwrite;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.block.BlockPropertyIndex;
+import org.spongepowered.common.interfaces.block.IMixinIndexedProperty;
+import org.spongepowered.common.interfaces.block.IMixinStateImplementation;
 
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * Replaces the {@link ImmutableTable} lookups of state transitions with a
+ * flat array per state, indexed by property and by the position of the value
+ * within the property's allowed values. Both positions are found in constant
+ * time through the {@link BlockPropertyIndex} shared by the states of a block
+ * and the value index of each {@link IMixinIndexedProperty}.
+ */
 @Mixin(BlockStateContainer.StateImplementation.class)
-public abstract class MixinStateImplementation extends BlockStateBase {
+public abstract class MixinStateImplementation extends BlockStateBase implements IMixinStateImplementation {
 
     @Shadow @Final private Block block;
     @Shadow @Final private ImmutableMap<IProperty<?>, Comparable<?>> properties;
     @Shadow private ImmutableTable<IProperty<?>, Comparable<?>, IBlockState> propertyValueTable;
 
+    // The properties of this state, the allowed values of property i are
+    // stored from offsets[i] until offsets[i + 1], and the states for each
+    // of those values use the same index. This state is stored for its own
+    // values, whose indices are kept in valueIndices. All of them are null
+    // if the table of this state wasn't built by buildPropertyValueTable.
+    @Nullable private BlockPropertyIndex transitionProperties;
+    @Nullable private int[] transitionOffsets;
+    @Nullable private Comparable<?>[] transitionValues;
+    @Nullable private IBlockState[] transitionStates;
+    @Nullable private int[] valueIndices;
+
+    @Inject(method = "buildPropertyValueTable", at = @At("RETURN"))
+    private void onBuildPropertyValueTable(Map<Map<IProperty<?>, Comparable<?>>, BlockStateContainer.StateImplementation> map, CallbackInfo ci) {
+        final int propertyCount = this.properties.size();
+        final IProperty<?>[] properties = new IProperty<?>[propertyCount];
+        final int[] offsets = new int[propertyCount + 1];
+        final int[] valueIndices = new int[propertyCount];
+        int index = 0;
+        int valueCount = 0;
+        for (IProperty<?> property : this.properties.keySet()) {
+            properties[index] = property;
+            offsets[index] = valueCount;
+            valueCount += property.getAllowedValues().size();
+            index++;
+        }
+        offsets[propertyCount] = valueCount;
+
+        final Comparable<?>[] values = new Comparable<?>[valueCount];
+        final IBlockState[] states = new IBlockState[valueCount];
+        for (int i = 0; i < propertyCount; i++) {
+            final IProperty<?> property = properties[i];
+            final Comparable<?> current = this.properties.get(property);
+            int valueIndex = offsets[i];
+            for (Comparable<?> value : property.getAllowedValues()) {
+                values[valueIndex] = value;
+                if (value.equals(current)) {
+                    states[valueIndex] = this;
+                    valueIndices[i] = valueIndex;
+                } else {
+                    states[valueIndex] = this.propertyValueTable.get(property, value);
+                }
+                valueIndex++;
+            }
+        }
+        this.transitionProperties = sharePropertyIndex(properties, states);
+        this.transitionOffsets = offsets;
+        this.transitionValues = values;
+        this.valueIndices = valueIndices;
+        // Assigned last, as the other arrays are only used once it is set
+        this.transitionStates = states;
+    }
+
+    // All states of a block have the same properties, so the index is shared with any state built before this one
+    private static BlockPropertyIndex sharePropertyIndex(IProperty<?>[] properties, IBlockState[] states) {
+        for (IBlockState state : states) {
+            final BlockPropertyIndex index = state instanceof IMixinStateImplementation ? ((IMixinStateImplementation) state).getPropertyIndex() : null;
+            if (index != null) {
+                return index;
+            }
+        }
+        return new BlockPropertyIndex(properties);
+    }
+
+    @Nullable
+    @Override
+    public BlockPropertyIndex getPropertyIndex() {
+        return this.transitionProperties;
+    }
+
+    private int indexOfProperty(IProperty<?> property) {
+        final int index = this.transitionProperties.indexOf(property);
+        if (index < 0) {
+            throw new IllegalArgumentException("Cannot set property " + property + " as it does not exist in " + this.block.getBlockState());
+        }
+        return index;
+    }
+
+    private int getValueIndex(int propertyIndex, Object value) {
+        final IProperty<?> property = this.transitionProperties.getProperties()[propertyIndex];
+        final int start = this.transitionOffsets[propertyIndex];
+        if (property instanceof IMixinIndexedProperty) {
+            final int valueIndex = ((IMixinIndexedProperty) property).getValueIndex(value);
+            if (valueIndex >= 0) {
+                return start + valueIndex;
+            }
+        } else {
+            final Comparable<?>[] values = this.transitionValues;
+            final int end = this.transitionOffsets[propertyIndex + 1];
+            for (int i = start; i < end; i++) {
+                if (values[i] == value || values[i].equals(value)) {
+                    return i;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Cannot set property " + property + " to " + value + " on block "
+                                           + Block.REGISTRY.getNameForObject(this.block) + ", it is not an allowed value");
+    }
+
     /**
      * @author gabizou - April 8th, 2016
      *
-     * @reason This is done to improve the performance of the method by removing an
-     * unnecessary hash lookup. The same logic can be computed with 1 hash
-     * lookup instead of 2.
-     *
-     * <p>Normally, all lookups are with proper properties anyways, the only corner
-     * cases that they fail will result in null block states. Throwing exceptions
-     * is an option, however, for the sake of speed, these methods are otherwise
-     * patched for speed. If issues arrise, disabling this mixin is easily done
-     * in the sponge global config.</p>
+     * @reason This is one of the hottest methods during world generation and
+     * redstone updates. Looking up the transition in the flat arrays avoids
+     * both the property map and the transition table hash lookups.
      *
      * <p>This is partially contributed code from Aikar in PaperSpigot.</p>
      *
@@ -65,18 +174,51 @@ public abstract class MixinStateImplementation extends BlockStateBase {
      * @return The block state, if not already this block state
      */
     @Overwrite
-    @Final
     @Override
     public <T extends Comparable<T>, V extends T> IBlockState withProperty(IProperty<T> property, V value) {
-        // Sponge - eliminate the hash lookups and validation lookups
-        if (this.properties.get(property) == value) {
+        final IBlockState[] states = this.transitionStates;
+        if (states == null) {
+            return this.withPropertyFromTable(property, value);
+        }
+        return states[getValueIndex(indexOfProperty(property), value)];
+    }
+
+    // States whose table wasn't built by buildPropertyValueTable, like those
+    // copying the table of another state, don't have the flat arrays
+    private IBlockState withPropertyFromTable(IProperty<?> property, Object value) {
+        final Comparable<?> current = this.properties.get(property);
+        if (current == null) {
+            throw new IllegalArgumentException("Cannot set property " + property + " as it does not exist in " + this.block.getBlockState());
+        }
+        if (current == value) {
             return this;
         }
-        final IBlockState blockState = this.propertyValueTable.get(property, value);
-        if (blockState == null) {
-            throw new IllegalArgumentException("No mapping found for the blockstate: " + Block.REGISTRY.getNameForObject(this.block) + " of property: " + property.getName() + " and value: " + value);
+        final IBlockState state = this.propertyValueTable.get(property, value);
+        if (state == null) {
+            throw new IllegalArgumentException("Cannot set property " + property + " to " + value + " on block "
+                                               + Block.REGISTRY.getNameForObject(this.block) + ", it is not an allowed value");
+        }
+        return state;
+    }
+
+    /**
+     * @reason Cycles to the next allowed value by index, instead of iterating
+     * over the allowed values to find the current one.
+     *
+     * @param property The property to cycle
+     * @param <T> The type of property
+     * @return The block state with the next value of the property
+     */
+    @Overwrite
+    @Override
+    public <T extends Comparable<T>> IBlockState cycleProperty(IProperty<T> property) {
+        final IBlockState[] states = this.transitionStates;
+        if (states == null) {
+            return this.withPropertyFromTable(property, cyclePropertyValue(property.getAllowedValues(), this.getValue(property)));
         }
-        return blockState;
+        final int propertyIndex = indexOfProperty(property);
+        final int next = this.valueIndices[propertyIndex] + 1;
+        return states[next == this.transitionOffsets[propertyIndex + 1] ? this.transitionOffsets[propertyIndex] : next];
     }
 
 }
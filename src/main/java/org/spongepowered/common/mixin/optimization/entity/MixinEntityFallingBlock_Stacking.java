@@ -0,0 +1,203 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.entity;
+
+import net.minecraft.entity.item.EntityFallingBlock;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.MathHelper;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.EntityStackingCategory;
+import org.spongepowered.common.data.util.NbtDataUtil;
+import org.spongepowered.common.interfaces.entity.IMixinStackableEntity;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.mixin.core.entity.MixinEntity;
+
+import java.util.List;
+
+/**
+ * Merges falling blocks of the same block state that share the exact same
+ * position, motion and fall time into a single entity. When the merged
+ * entity lands, the entities it represents are spawned again from the
+ * state it had before landing and land individually on the next tick.
+ */
+@Mixin(EntityFallingBlock.class)
+public abstract class MixinEntityFallingBlock_Stacking extends MixinEntity implements IMixinStackableEntity {
+
+    @Shadow public int fallTime;
+    @Shadow public boolean shouldDropItem;
+    @Shadow public boolean dontSetBlock;
+    @Shadow public boolean hurtEntities;
+    @Shadow public NBTTagCompound tileEntityData;
+
+    private int stackCount = 1;
+    private boolean stackMergeable = true;
+    // The state before the current tick, the only parts of a falling stack that change while it falls
+    private boolean stackTicking;
+    private double stackPosX;
+    private double stackPosY;
+    private double stackPosZ;
+    private double stackMotionX;
+    private double stackMotionY;
+    private double stackMotionZ;
+    private float stackFallDistance;
+    private int stackFallTime;
+    private boolean stackOnGround;
+
+    @Override
+    public int getStackCount() {
+        return this.stackCount;
+    }
+
+    @Override
+    public void setStackCount(int count) {
+        this.stackCount = Math.max(1, count);
+    }
+
+    @Override
+    public void setStackMergeable(boolean mergeable) {
+        this.stackMergeable = mergeable;
+    }
+
+    @Override
+    public boolean isStackMergeable() {
+        return this.stackMergeable;
+    }
+
+    @Inject(method = "onUpdate", at = @At("HEAD"))
+    private void onUpdateMergeStack(CallbackInfo ci) {
+        if (this.world.isRemote || this.isDead) {
+            return;
+        }
+        // Falling blocks remove their block on the first tick, only merge afterwards
+        if (this.stackMergeable && this.fallTime > 0) {
+            mergeStack();
+        }
+        this.stackTicking = this.stackCount > 1;
+        if (this.stackTicking) {
+            this.stackPosX = this.posX;
+            this.stackPosY = this.posY;
+            this.stackPosZ = this.posZ;
+            this.stackMotionX = this.motionX;
+            this.stackMotionY = this.motionY;
+            this.stackMotionZ = this.motionZ;
+            this.stackFallDistance = this.fallDistance;
+            this.stackFallTime = this.fallTime;
+            this.stackOnGround = this.onGround;
+        }
+    }
+
+    private void mergeStack() {
+        final EntityStackingCategory stacking = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getEntityStackingCategory();
+        // Identical falling blocks are spawned at the same tick, so all of them look for others on the same ticks
+        if (this.fallTime > 2 && this.fallTime % Math.max(1, stacking.getMergeInterval()) != 0) {
+            return;
+        }
+        final int maxStackSize = stacking.getMaxStackSize();
+        if (this.stackCount >= maxStackSize) {
+            return;
+        }
+        final EntityFallingBlock self = (EntityFallingBlock) (Object) this;
+        final List<EntityFallingBlock> candidates = this.world.getEntitiesWithinAABB(EntityFallingBlock.class, this.getEntityBoundingBox(),
+                other -> other != self && canMergeWith(other));
+        int merged = 0;
+        for (EntityFallingBlock other : candidates) {
+            final int otherCount = ((IMixinStackableEntity) other).getStackCount();
+            if (this.stackCount + otherCount > maxStackSize) {
+                continue;
+            }
+            this.stackCount += otherCount;
+            merged += otherCount;
+            other.setDead();
+        }
+        if (merged > 0) {
+            ((IMixinWorldServer) this.world).onEntitiesMerged(merged);
+        }
+    }
+
+    private boolean canMergeWith(EntityFallingBlock other) {
+        if (other.isDead || !((IMixinStackableEntity) other).isStackMergeable() || other.isBeingRidden() || other.isRiding()) {
+            return false;
+        }
+        // Tile entity data is applied to the placed block, never merge those
+        if (this.tileEntityData != null || other.tileEntityData != null) {
+            return false;
+        }
+        return other.getBlock() == ((EntityFallingBlock) (Object) this).getBlock()
+                && other.posX == this.posX && other.posY == this.posY && other.posZ == this.posZ
+                && other.motionX == this.motionX && other.motionY == this.motionY && other.motionZ == this.motionZ
+                && other.fallTime == this.fallTime
+                && other.shouldDropItem == this.shouldDropItem
+                && other.dontSetBlock == this.dontSetBlock
+                && other.hurtEntities == this.hurtEntities;
+    }
+
+    @Inject(method = "onUpdate", at = @At("RETURN"))
+    private void onUpdateExpandStack(CallbackInfo ci) {
+        if (!this.stackTicking || !this.isDead) {
+            return;
+        }
+        this.stackTicking = false;
+        // Landed, the remaining entities continue from the state before this tick
+        final NBTTagCompound compound = this.writeToNBT(new NBTTagCompound());
+        for (int i = 1; i < this.stackCount; i++) {
+            final EntityFallingBlock copy = new EntityFallingBlock(this.world);
+            copy.readFromNBT(compound);
+            copy.setPosition(this.stackPosX, this.stackPosY, this.stackPosZ);
+            copy.prevPosX = this.stackPosX;
+            copy.prevPosY = this.stackPosY;
+            copy.prevPosZ = this.stackPosZ;
+            copy.motionX = this.stackMotionX;
+            copy.motionY = this.stackMotionY;
+            copy.motionZ = this.stackMotionZ;
+            copy.fallDistance = this.stackFallDistance;
+            copy.fallTime = this.stackFallTime;
+            copy.onGround = this.stackOnGround;
+            copy.setUniqueId(MathHelper.getRandomUUID(this.rand));
+            ((IMixinStackableEntity) copy).setStackCount(1);
+            ((IMixinStackableEntity) copy).setStackMergeable(false);
+            this.world.spawnEntity(copy);
+        }
+        this.stackCount = 1;
+    }
+
+    @Inject(method = "writeEntityToNBT", at = @At("RETURN"))
+    private void onWriteStackCount(NBTTagCompound compound, CallbackInfo ci) {
+        if (this.stackCount > 1) {
+            compound.setInteger(NbtDataUtil.ENTITY_STACK_COUNT, this.stackCount);
+        }
+    }
+
+    @Inject(method = "readEntityFromNBT", at = @At("RETURN"))
+    private void onReadStackCount(NBTTagCompound compound, CallbackInfo ci) {
+        if (compound.hasKey(NbtDataUtil.ENTITY_STACK_COUNT, NbtDataUtil.TAG_INT)) {
+            setStackCount(compound.getInteger(NbtDataUtil.ENTITY_STACK_COUNT));
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.entity;
+
+import net.minecraft.entity.item.EntityTNTPrimed;
+import net.minecraft.nbt.NBTTagCompound;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.EntityStackingCategory;
+import org.spongepowered.common.data.util.NbtDataUtil;
+import org.spongepowered.common.interfaces.entity.IMixinEntityTNTPrimed;
+import org.spongepowered.common.interfaces.entity.IMixinStackableEntity;
+import org.spongepowered.common.interfaces.entity.explosive.IMixinExplosive;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.mixin.core.entity.MixinEntity;
+
+import java.util.List;
+
+/**
+ * Merges primed TNT that shares the exact same position, motion and fuse
+ * into a single entity. Such TNT is indistinguishable until it detonates,
+ * at which point the merged entity explodes once for every entity it
+ * represents.
+ */
+@Mixin(EntityTNTPrimed.class)
+public abstract class MixinEntityTNTPrimed_Stacking extends MixinEntity implements IMixinStackableEntity {
+
+    @Shadow private int fuse;
+
+    private int stackCount = 1;
+    private boolean stackMergeable = true;
+
+    @Override
+    public int getStackCount() {
+        return this.stackCount;
+    }
+
+    @Override
+    public void setStackCount(int count) {
+        this.stackCount = Math.max(1, count);
+    }
+
+    @Override
+    public void setStackMergeable(boolean mergeable) {
+        this.stackMergeable = mergeable;
+    }
+
+    @Override
+    public boolean isStackMergeable() {
+        return this.stackMergeable;
+    }
+
+    @Inject(method = "onUpdate", at = @At("HEAD"))
+    private void onUpdateMergeStack(CallbackInfo ci) {
+        if (this.world.isRemote || this.isDead || !this.stackMergeable) {
+            return;
+        }
+        final EntityStackingCategory stacking = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getEntityStackingCategory();
+        // Identical TNT is spawned at the same tick, so all of it looks for others on the same ticks
+        if (this.ticksExisted > 2 && this.ticksExisted % Math.max(1, stacking.getMergeInterval()) != 0) {
+            return;
+        }
+        final int maxStackSize = stacking.getMaxStackSize();
+        if (this.stackCount >= maxStackSize) {
+            return;
+        }
+        final EntityTNTPrimed self = (EntityTNTPrimed) (Object) this;
+        final List<EntityTNTPrimed> candidates = this.world.getEntitiesWithinAABB(EntityTNTPrimed.class, this.getEntityBoundingBox(),
+                other -> other != self && canMergeWith(other));
+        int merged = 0;
+        for (EntityTNTPrimed other : candidates) {
+            final int otherCount = ((IMixinStackableEntity) other).getStackCount();
+            if (this.stackCount + otherCount > maxStackSize) {
+                continue;
+            }
+            this.stackCount += otherCount;
+            merged += otherCount;
+            other.setDead();
+        }
+        if (merged > 0) {
+            ((IMixinWorldServer) this.world).onEntitiesMerged(merged);
+        }
+    }
+
+    private boolean canMergeWith(EntityTNTPrimed other) {
+        if (other.isDead || !((IMixinStackableEntity) other).isStackMergeable() || other.isBeingRidden() || other.isRiding()) {
+            return false;
+        }
+        final EntityTNTPrimed self = (EntityTNTPrimed) (Object) this;
+        return other.posX == this.posX && other.posY == this.posY && other.posZ == this.posZ
+                && other.motionX == this.motionX && other.motionY == this.motionY && other.motionZ == this.motionZ
+                && other.getFuse() == this.fuse
+                && other.getTntPlacedBy() == self.getTntPlacedBy()
+                && ((IMixinExplosive) other).getExplosionRadius().equals(((IMixinExplosive) self).getExplosionRadius());
+    }
+
+    /**
+     * Expands the stack on detonation, each merged entity explodes
+     * at the position of this entity until a detonation is cancelled.
+     *
+     * @param self This entity
+     */
+    @Redirect(method = "onUpdate", at = @At(value = "INVOKE", target = "Lnet/minecraft/entity/item/EntityTNTPrimed;explode()V"))
+    private void onUpdateExplodeStack(EntityTNTPrimed self) {
+        ((IMixinEntityTNTPrimed) self).explodeStack();
+    }
+
+    @Inject(method = "writeEntityToNBT", at = @At("RETURN"))
+    private void onWriteStackCount(NBTTagCompound compound, CallbackInfo ci) {
+        if (this.stackCount > 1) {
+            compound.setInteger(NbtDataUtil.ENTITY_STACK_COUNT, this.stackCount);
+        }
+    }
+
+    @Inject(method = "readEntityFromNBT", at = @At("RETURN"))
+    private void onReadStackCount(NBTTagCompound compound, CallbackInfo ci) {
+        if (compound.hasKey(NbtDataUtil.ENTITY_STACK_COUNT, NbtDataUtil.TAG_INT)) {
+            setStackCount(compound.getInteger(NbtDataUtil.ENTITY_STACK_COUNT));
+        }
+    }
+}
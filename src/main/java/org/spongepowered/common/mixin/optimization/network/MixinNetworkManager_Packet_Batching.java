@@ -0,0 +1,125 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.network;
+
+import com.google.common.collect.ImmutableSet;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.GenericFutureListener;
+import net.minecraft.network.EnumConnectionState;
+import net.minecraft.network.INetHandler;
+import net.minecraft.network.NetHandlerPlayServer;
+import net.minecraft.network.NetworkManager;
+import net.minecraft.network.Packet;
+import net.minecraft.network.play.server.SPacketChat;
+import net.minecraft.network.play.server.SPacketDisconnect;
+import net.minecraft.network.play.server.SPacketKeepAlive;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.network.IMixinNetworkManagerBatching;
+
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * Queues packets that are sent to players from the main thread instead of
+ * flushing the channel for each of them. The queued packets are flushed
+ * once per player at the end of the server tick, see
+ * {@link org.spongepowered.common.mixin.optimization.server.MixinMinecraftServer_Packet_Batching}.
+ */
+@Mixin(NetworkManager.class)
+public abstract class MixinNetworkManager_Packet_Batching implements IMixinNetworkManagerBatching {
+
+    // Packets that are time sensitive and are always flushed right away
+    private static final Set<Class<?>> IMMEDIATE_FLUSH_PACKETS = ImmutableSet.of(
+            SPacketKeepAlive.class,
+            SPacketChat.class,
+            SPacketDisconnect.class
+    );
+
+    @Shadow private Channel channel;
+    @Shadow private INetHandler packetListener;
+
+    private int batchedPackets;
+    private long flushCount;
+    private long flushedPacketCount;
+
+    @Inject(method = "dispatchPacket", at = @At("HEAD"), cancellable = true)
+    private void onDispatchPacket(Packet<?> packet, @Nullable GenericFutureListener<? extends Future<? super Void>>[] futureListeners,
+            CallbackInfo ci) {
+        if (!(this.packetListener instanceof NetHandlerPlayServer) || !SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+            return;
+        }
+        // Listeners usually expect the packet to be sent right away, and any state
+        // change needs to go through the vanilla code
+        if (futureListeners != null || IMMEDIATE_FLUSH_PACKETS.contains(packet.getClass())
+                || EnumConnectionState.getFromPacket(packet) != this.channel.attr(NetworkManager.PROTOCOL_ATTRIBUTE_KEY).get()) {
+            // The vanilla flush also writes out every packet that was queued before this one
+            recordFlush(this.batchedPackets + 1);
+            return;
+        }
+
+        this.channel.write(packet).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
+        this.batchedPackets++;
+        ci.cancel();
+    }
+
+    private void recordFlush(int packets) {
+        this.batchedPackets = 0;
+        this.flushCount++;
+        this.flushedPacketCount += packets;
+    }
+
+    @Override
+    public boolean flushBatchedPackets() {
+        if (this.batchedPackets == 0) {
+            return false;
+        }
+        recordFlush(this.batchedPackets);
+        this.channel.flush();
+        return true;
+    }
+
+    @Override
+    public int getBatchedPacketCount() {
+        return this.batchedPackets;
+    }
+
+    @Override
+    public long getFlushCount() {
+        return this.flushCount;
+    }
+
+    @Override
+    public long getFlushedPacketCount() {
+        return this.flushedPacketCount;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.server.management;
+
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nullable;
+
+@Mixin(PlayerChunkMapEntry.class)
+public abstract class MixinPlayerChunkMapEntry_Async_Chunk_Loading {
+
+    private static final String LOAD_CHUNK = "Lnet/minecraft/world/gen/ChunkProviderServer;loadChunk(II)Lnet/minecraft/world/chunk/Chunk;";
+    // Forge loads the chunks of new entries with a callback instead
+    private static final String LOAD_CHUNK_CALLBACK =
+            "Lnet/minecraft/world/gen/ChunkProviderServer;loadChunk(IILjava/lang/Runnable;)Lnet/minecraft/world/chunk/Chunk;";
+    private static final String PROVIDE_CHUNK = "Lnet/minecraft/world/gen/ChunkProviderServer;provideChunk(II)Lnet/minecraft/world/chunk/Chunk;";
+
+    @Redirect(method = "<init>", at = @At(value = "INVOKE", target = LOAD_CHUNK), require = 0)
+    private Chunk onConstructLoadChunk(ChunkProviderServer chunkProvider, int x, int z) {
+        return requestChunk(chunkProvider, x, z, false);
+    }
+
+    @Redirect(method = {"<init>", "providePlayerChunk"}, at = @At(value = "INVOKE", target = LOAD_CHUNK_CALLBACK, remap = false), require = 0)
+    private Chunk onLoadChunkWithCallback(ChunkProviderServer chunkProvider, int x, int z, Runnable callback) {
+        final CompletableFuture<Chunk> future = ((IMixinChunkProviderServer) chunkProvider).loadChunkAsync(x, z, false);
+        // Runs right away if the chunk is already loaded, otherwise on the main thread once the load finished
+        future.thenRun(callback);
+        return future.getNow(null);
+    }
+
+    @Redirect(method = "providePlayerChunk", at = @At(value = "INVOKE", target = LOAD_CHUNK), require = 0)
+    private Chunk onProvideLoadChunk(ChunkProviderServer chunkProvider, int x, int z) {
+        return requestChunk(chunkProvider, x, z, false);
+    }
+
+    @Redirect(method = "providePlayerChunk", at = @At(value = "INVOKE", target = PROVIDE_CHUNK))
+    private Chunk onProvideGenerateChunk(ChunkProviderServer chunkProvider, int x, int z) {
+        return requestChunk(chunkProvider, x, z, true);
+    }
+
+    // The entry stays in the list of entries without chunks and is polled again
+    // every tick until the asynchronous load has finished. Vanilla only counts
+    // provided chunks against its budget per tick, so the generations requested
+    // while loads are in flight are limited by the chunk provider instead.
+    @Nullable
+    private static Chunk requestChunk(ChunkProviderServer chunkProvider, int x, int z, boolean generate) {
+        final IMixinChunkProviderServer mixinChunkProvider = (IMixinChunkProviderServer) chunkProvider;
+        return mixinChunkProvider.loadChunkAsync(x, z, generate && mixinChunkProvider.acquireAsyncChunkGeneration()).getNow(null);
+    }
+}
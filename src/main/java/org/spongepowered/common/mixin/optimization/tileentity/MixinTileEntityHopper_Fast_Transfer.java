@@ -0,0 +1,164 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.tileentity;
+
+import net.minecraft.block.BlockHopper;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.tileentity.IHopper;
+import net.minecraft.tileentity.TileEntityHopper;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.world.World;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.event.ShouldFire;
+import org.spongepowered.common.interfaces.block.tile.IMixinTileEntityHopper;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.item.inventory.util.HopperTransferCache;
+import org.spongepowered.common.mixin.core.tileentity.MixinTileEntityLockableLoot;
+
+import javax.annotation.Nullable;
+
+/**
+ * Caches the inventories a hopper pushes items into and pulls items from,
+ * and skips transfer attempts that already failed as long as neither the
+ * hopper nor the other inventory changed. Skipped attempts don't resolve
+ * any inventory and don't construct any transfer event.
+ */
+@Mixin(TileEntityHopper.class)
+public abstract class MixinTileEntityHopper_Fast_Transfer extends MixinTileEntityLockableLoot implements IMixinTileEntityHopper {
+
+    @Shadow private IInventory getInventoryForHopperTransfer() {
+        throw new AbstractMethodError("Shadow");
+    }
+    @Shadow public static IInventory getSourceInventory(IHopper hopper) {
+        throw new AbstractMethodError("Shadow");
+    }
+    @Shadow private static boolean isInventoryEmpty(IInventory inventoryIn, EnumFacing side) {
+        throw new AbstractMethodError("Shadow");
+    }
+    @Shadow protected abstract boolean isInventoryFull(IInventory inventoryIn, EnumFacing side);
+
+    private final HopperTransferCache transferCache = new HopperTransferCache();
+
+    @Override
+    public HopperTransferCache getTransferCache() {
+        return this.transferCache;
+    }
+
+    @Inject(method = "transferItemsOut", at = @At("HEAD"), cancellable = true)
+    private void onTransferItemsOutSkipBlocked(CallbackInfoReturnable<Boolean> cir) {
+        if (isBlocked(this.transferCache, this.transferCache.getTarget(), this.world, (IInventory) this)) {
+            cir.setReturnValue(false);
+        }
+    }
+
+    @Nullable
+    @Redirect(method = "transferItemsOut",
+            at = @At(value = "INVOKE", target = "Lnet/minecraft/tileentity/TileEntityHopper;getInventoryForHopperTransfer()Lnet/minecraft/inventory/IInventory;"))
+    private IInventory onGetTransferTarget(TileEntityHopper self) {
+        final HopperTransferCache.Side target = this.transferCache.getTarget();
+        if (!(this.world instanceof IMixinWorldServer)) {
+            return this.getInventoryForHopperTransfer();
+        }
+        final long generation = ((IMixinWorldServer) this.world).getTileEntityGeneration();
+        if (target.isResolved(generation)) {
+            return target.getInventory();
+        }
+        final IInventory inventory = this.getInventoryForHopperTransfer();
+        target.resolve(inventory, generation);
+        return inventory;
+    }
+
+    @Inject(method = "transferItemsOut", at = @At("RETURN"))
+    private void onTransferItemsOutReturn(CallbackInfoReturnable<Boolean> cir) {
+        final IInventory inventory = this.transferCache.getTarget().getInventory();
+        if (cir.getReturnValueZ() || inventory == null) {
+            return;
+        }
+        // A cancelled pre event is not remembered, plugins may allow the transfer at a later time
+        final EnumFacing facing = BlockHopper.getFacing(((TileEntityHopper) (Object) this).getBlockMetadata()).getOpposite();
+        if (!ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_PRE || this.isInventoryFull(inventory, facing)) {
+            this.transferCache.getTarget().setBlocked(inventory, (IInventory) this);
+        }
+    }
+
+    @Inject(method = "pullItems", at = @At("HEAD"), cancellable = true)
+    private static void onPullItemsSkipBlocked(IHopper hopper, CallbackInfoReturnable<Boolean> cir) {
+        if (!(hopper instanceof IMixinTileEntityHopper)) {
+            return;
+        }
+        final HopperTransferCache cache = ((IMixinTileEntityHopper) hopper).getTransferCache();
+        if (isBlocked(cache, cache.getSource(), hopper.getWorld(), hopper)) {
+            cir.setReturnValue(false);
+        }
+    }
+
+    @Nullable
+    @Redirect(method = "pullItems",
+            at = @At(value = "INVOKE", target = "Lnet/minecraft/tileentity/TileEntityHopper;getSourceInventory(Lnet/minecraft/tileentity/IHopper;)Lnet/minecraft/inventory/IInventory;"))
+    private static IInventory onGetPullSource(IHopper hopper) {
+        if (!(hopper instanceof IMixinTileEntityHopper) || !(hopper.getWorld() instanceof IMixinWorldServer)) {
+            return getSourceInventory(hopper);
+        }
+        final HopperTransferCache.Side source = ((IMixinTileEntityHopper) hopper).getTransferCache().getSource();
+        final long generation = ((IMixinWorldServer) hopper.getWorld()).getTileEntityGeneration();
+        if (source.isResolved(generation)) {
+            return source.getInventory();
+        }
+        final IInventory inventory = getSourceInventory(hopper);
+        source.resolve(inventory, generation);
+        return inventory;
+    }
+
+    @Inject(method = "pullItems", at = @At("RETURN"))
+    private static void onPullItemsReturn(IHopper hopper, CallbackInfoReturnable<Boolean> cir) {
+        if (cir.getReturnValueZ() || !(hopper instanceof IMixinTileEntityHopper)) {
+            return;
+        }
+        final HopperTransferCache.Side source = ((IMixinTileEntityHopper) hopper).getTransferCache().getSource();
+        final IInventory inventory = source.getInventory();
+        if (inventory == null) {
+            return;
+        }
+        if (!ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_PRE || isInventoryEmpty(inventory, EnumFacing.DOWN)) {
+            source.setBlocked(inventory, hopper);
+        }
+    }
+
+    private static boolean isBlocked(HopperTransferCache cache, HopperTransferCache.Side side, World world, IInventory hopper) {
+        if (!(world instanceof IMixinWorldServer) || !side.isResolved(((IMixinWorldServer) world).getTileEntityGeneration())) {
+            return false;
+        }
+        if (side.isBlocked(hopper)) {
+            cache.onTransferSkipped();
+            return true;
+        }
+        return false;
+    }
+}
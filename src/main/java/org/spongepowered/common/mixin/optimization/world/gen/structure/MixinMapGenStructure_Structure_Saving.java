@@ -66,7 +66,7 @@ public void onConstruction(CallbackInfo ci) {
                 if (structureSaveCategory.autoPopulateData()) {
                     structureMod = new StructureModCategory();
                     structureSaveCategory.getModList().put(this.modId, structureMod);
-                    SpongeImpl.getGlobalConfig().save();
+                    SpongeImpl.getGlobalConfig().queueSave();
                 }
             } else {
                 Boolean canSave = structureMod.getStructureList().get(structureName);
@@ -74,7 +74,7 @@ public void onConstruction(CallbackInfo ci) {
                     this.canSaveStructures = canSave;
                 } else if (structureSaveCategory.autoPopulateData()) {
                     structureMod.getStructureList().put(structureName, true);
-                    SpongeImpl.getGlobalConfig().save();
+                    SpongeImpl.getGlobalConfig().queueSave();
                 }
             }
         }
@@ -98,8 +98,16 @@ public void postApply(String targetClassName, ClassNode targetClass, String mixi
                     OptimizationCategory::useEigenRedstone)
             .put("org.spongepowered.common.mixin.optimization.block.MixinBlockRedstoneWire",
                     OptimizationCategory::usePandaRedstone)
+            .put("org.spongepowered.common.mixin.optimization.block.state.MixinStateImplementation",
+                    OptimizationCategory::useBlockStateTransitionTable)
             .put("org.spongepowered.common.mixin.optimization.entity.MixinEntityTameable_Cached_Owner",
                     OptimizationCategory::useCacheTameableOwners)
+            .put("org.spongepowered.common.mixin.optimization.entity.MixinEntityTNTPrimed_Stacking",
+                    OptimizationCategory::useTntStacking)
+            .put("org.spongepowered.common.mixin.optimization.entity.MixinEntityFallingBlock_Stacking",
+                    OptimizationCategory::useFallingBlockStacking)
+            .put("org.spongepowered.common.mixin.optimization.tileentity.MixinTileEntityHopper_Fast_Transfer",
+                    OptimizationCategory::useFastHopperTransfers)
             .put("org.spongepowered.common.mixin.optimization.network.play.server.MixinSPacketChunkData_Async_Lighting",
                     OptimizationCategory::useAsyncLighting)
             .put("org.spongepowered.common.mixin.optimization.world.MixinChunk_Async_Lighting",
@@ -122,6 +130,12 @@ public void postApply(String targetClassName, ClassNode targetClass, String mixi
                     OptimizationCategory::useMapOptimization)
             .put("org.spongepowered.common.mixin.optimization.mapoptimization.MixinMinecraftServer_MapOptimization",
                     OptimizationCategory::useMapOptimization)
+            .put("org.spongepowered.common.mixin.optimization.network.MixinNetworkManager_Packet_Batching",
+                    OptimizationCategory::usePacketBatching)
+            .put("org.spongepowered.common.mixin.optimization.server.MixinMinecraftServer_Packet_Batching",
+                    OptimizationCategory::usePacketBatching)
+            .put("org.spongepowered.common.mixin.optimization.server.management.MixinPlayerChunkMapEntry_Async_Chunk_Loading",
+                    OptimizationCategory::useAsyncChunkLoading)
             .build();
 
 }
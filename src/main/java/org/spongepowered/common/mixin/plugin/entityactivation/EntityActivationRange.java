@@ -485,7 +485,7 @@ public static void addEntityToConfig(World world, SpongeEntityType type, byte ac
         }
 
         if (autoPopulate && requiresSave) {
-            globalConfig.save();
+            globalConfig.queueSave();
         }
     }
 }
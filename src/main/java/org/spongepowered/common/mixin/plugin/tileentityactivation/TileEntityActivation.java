@@ -268,7 +268,7 @@ public static void addTileEntityToConfig(World world, SpongeTileEntityType type)
         }
 
         if (requiresSave) {
-            globalConfig.save();
+            globalConfig.queueSave();
         }
     }
 }
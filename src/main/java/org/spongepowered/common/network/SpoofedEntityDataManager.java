@@ -33,7 +33,6 @@
 import org.spongepowered.common.mixin.core.network.datasync.IMixinEntityDataManager;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
 import javax.annotation.Nullable;
@@ -75,13 +74,15 @@ public boolean isDirty() {
     @Nullable
     @Override
     public List<DataEntry<?>> getDirty() {
-         final List<DataEntry<?>> dirtyEntries = this.cached.getDirty();
-        final List<DataEntry<?>> dirty = new ArrayList<>(dirtyEntries.size());
-        for (DataEntry<?> dataEntry : dirtyEntries) {
-            if (dataEntry.getKey() == EntityLivingBase.HEALTH) {
-                dirty.add(new DataEntry<>(EntityLivingBase.HEALTH, ((IMixinEntityPlayerMP) ((IMixinEntityDataManager) this).getEntity()).getInternalScaledHealth()));
-            } else {
-                dirty.add(dataEntry);
+        // The returned list is a fresh copy, so only the spoofed entry needs to be replaced
+        final List<DataEntry<?>> dirty = this.cached.getDirty();
+        if (dirty != null) {
+            for (int i = 0; i < dirty.size(); i++) {
+                if (dirty.get(i).getKey() == EntityLivingBase.HEALTH) {
+                    dirty.set(i, new DataEntry<>(EntityLivingBase.HEALTH,
+                            ((IMixinEntityPlayerMP) ((IMixinEntityDataManager) this).getEntity()).getInternalScaledHealth()));
+                    break;
+                }
             }
         }
         return dirty;
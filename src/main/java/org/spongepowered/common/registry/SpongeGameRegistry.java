@@ -127,6 +127,9 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
@@ -153,6 +156,7 @@ public class SpongeGameRegistry implements GameRegistry {
     final Map<Class<? extends RegistryModule>, RegistryModule> classMap = new IdentityHashMap<>();
     private final Map<Class<?>, Supplier<?>> builderSupplierMap = new IdentityHashMap<>();
     private final Set<RegistryModule> registryModules = new HashSet<>();
+    private final Map<Class<? extends RegistryModule>, Long> moduleTimings = new ConcurrentHashMap<>();
 
     @Inject
     public SpongeGameRegistry(SpongePropertyRegistry propertyRegistry) {
@@ -526,15 +530,93 @@ public Locale getLocale(String locale) {
     }
 
     private void registerModulePhase() {
+        if (this.phase == RegistrationPhase.PRE_REGISTRY && SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useParallelRegistryInit()) {
+            registerModulesInParallel();
+        } else {
+            for (Class<? extends RegistryModule> moduleClass : this.orderedModules) {
+                if (!this.classMap.containsKey(moduleClass)) {
+                    throw new IllegalStateException("Something funky happened!");
+                }
+                final RegistryModule module = this.classMap.get(moduleClass);
+                registerModule(module);
+                throwRegistryEvent(module);
+            }
+        }
+        registerAdditionalPhase();
+    }
+
+    /**
+     * Registers the modules level by level of the dependency graph, where
+     * the modules of a level only depend on modules of previous levels. The
+     * modules of a level marked with {@link ParallelRegistration} are
+     * registered on the common fork join pool, all other modules and the
+     * registry events are still handled on the calling thread.
+     */
+    private void registerModulesInParallel() {
+        final Map<Class<? extends RegistryModule>, Integer> levels = new IdentityHashMap<>();
+        final List<List<RegistryModule>> modulesByLevel = new ArrayList<>();
+        // The ordered modules always come after their dependencies
         for (Class<? extends RegistryModule> moduleClass : this.orderedModules) {
             if (!this.classMap.containsKey(moduleClass)) {
                 throw new IllegalStateException("Something funky happened!");
             }
-            final RegistryModule module = this.classMap.get(moduleClass);
-            RegistryModuleLoader.tryModulePhaseRegistration(module);
-            throwRegistryEvent(module);
+            int level = 0;
+            final RegistrationDependency dependency = moduleClass.getAnnotation(RegistrationDependency.class);
+            if (dependency != null) {
+                for (Class<? extends RegistryModule> dependent : dependency.value()) {
+                    final Integer dependentLevel = levels.get(dependent);
+                    if (dependentLevel != null) {
+                        level = Math.max(level, dependentLevel + 1);
+                    }
+                }
+            }
+            levels.put(moduleClass, level);
+            while (modulesByLevel.size() <= level) {
+                modulesByLevel.add(new ArrayList<>());
+            }
+            modulesByLevel.get(level).add(this.classMap.get(moduleClass));
+        }
+        for (List<RegistryModule> modules : modulesByLevel) {
+            final List<ForkJoinTask<?>> tasks = new ArrayList<>();
+            for (RegistryModule module : modules) {
+                if (RegistryModuleLoader.canRegisterAsync(module)) {
+                    tasks.add(ForkJoinPool.commonPool().submit(() -> registerModule(module)));
+                }
+            }
+            for (RegistryModule module : modules) {
+                if (!RegistryModuleLoader.canRegisterAsync(module)) {
+                    registerModule(module);
+                }
+            }
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+            for (RegistryModule module : modules) {
+                throwRegistryEvent(module);
+            }
         }
-        registerAdditionalPhase();
+    }
+
+    private void registerModule(RegistryModule module) {
+        final long start = System.nanoTime();
+        RegistryModuleLoader.tryModulePhaseRegistration(module);
+        this.moduleTimings.merge(module.getClass(), System.nanoTime() - start, Long::sum);
+    }
+
+    private void printModuleTimings() {
+        final List<Map.Entry<Class<? extends RegistryModule>, Long>> timings = new ArrayList<>(this.moduleTimings.entrySet());
+        timings.sort(Map.Entry.<Class<? extends RegistryModule>, Long>comparingByValue().reversed());
+        long total = 0;
+        for (Map.Entry<Class<? extends RegistryModule>, Long> entry : timings) {
+            total += entry.getValue();
+        }
+        final PrettyPrinter printer = new PrettyPrinter(100).add("Registry Module Timings").centre().hr()
+            .add("%-80s %10.2f ms", "Total", total / 1000000.0)
+            .hr();
+        for (Map.Entry<Class<? extends RegistryModule>, Long> entry : timings) {
+            printer.add("%-80s %10.2f ms", entry.getKey().getSimpleName(), entry.getValue() / 1000000.0);
+        }
+        printer.log(SpongeImpl.getLogger(), Level.INFO);
     }
 
     private void registerAdditionalPhase() {
@@ -570,6 +652,9 @@ public void postInit() {
         this.propertyRegistry.completeRegistration();
         SpongeDataManager.finalizeRegistration();
         this.phase = RegistrationPhase.LOADED;
+        if (SpongeImpl.getGlobalConfig().getConfig().getDebug().printRegistryTimings()) {
+            printModuleTimings();
+        }
     }
 
     public void registerAdditionals() {
@@ -26,10 +26,13 @@
 
 import org.spongepowered.api.CatalogType;
 import org.spongepowered.api.registry.AlternateCatalogRegistryModule;
+import org.spongepowered.common.registry.ParallelRegistration;
 
 import java.util.HashMap;
 import java.util.Map;
 
+// Registering only maps the values of a Minecraft enum to the catalog fields
+@ParallelRegistration
 public abstract class MinecraftEnumBasedCatalogTypeModule<E extends Enum<E>, T extends CatalogType>
         extends AbstractPrefixCheckCatalogRegistryModule<T> implements AlternateCatalogRegistryModule<T> {
 
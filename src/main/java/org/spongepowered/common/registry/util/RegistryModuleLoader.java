@@ -36,6 +36,7 @@
 import org.spongepowered.api.registry.util.DelayedRegistration;
 import org.spongepowered.api.registry.util.RegisterCatalog;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.registry.ParallelRegistration;
 import org.spongepowered.common.registry.RegistryHelper;
 
 import java.lang.reflect.Field;
@@ -43,29 +44,38 @@
 import java.lang.reflect.Method;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
 
 public final class RegistryModuleLoader {
 
+    // The annotations of a module class never change, so the reflective
+    // lookups are only done once per class instead of once per phase.
+    private static final Map<Class<?>, ModuleInfo> moduleInfos = new ConcurrentHashMap<>();
+
     private RegistryModuleLoader() {
     }
 
+    private static ModuleInfo getInfo(RegistryModule module) {
+        return moduleInfos.computeIfAbsent(module.getClass(), ModuleInfo::new);
+    }
+
     public static void tryModulePhaseRegistration(RegistryModule module) {
         try {
-            if (requiresCustomRegistration(module)) {
-                if (isCustomProperPhase(module)) {
-                    Method method = getCustomRegistration(module);
-                    invokeCustomRegistration(module, checkNotNull(method, "Custom registration module was null!"));
+            final ModuleInfo info = getInfo(module);
+            if (info.customRegistration != null) {
+                if (isCustomProperPhase(info)) {
+                    invokeCustomRegistration(module, info.customRegistration);
                 }
-            } else if (isDefaultProperPhase(module)) {
+            } else if (isDefaultProperPhase(info)) {
                 module.registerDefaults();
-                if (hasCatalogRegistration(module)) {
-                    Map<String, ?> map = getCatalogMap(module);
+                if (info.catalog != null) {
+                    Map<String, ?> map = getCatalogMap(module, info);
                     if (map.isEmpty()) {
                         return;
                     }
-                    RegisterCatalog regAnnot = getRegisterCatalogAnnot(module);
-                    Set<String> ignored = regAnnot.ignoredFields().length == 0 ? null : Sets.newHashSet(regAnnot.ignoredFields());
-                    RegistryHelper.mapFields(regAnnot.value(), map, ignored);
+                    RegistryHelper.mapFields(info.catalog.value(), map, info.ignoredFields);
                 }
             }
         } catch (Exception e) {
@@ -73,109 +83,35 @@ public static void tryModulePhaseRegistration(RegistryModule module) {
         }
     }
 
-    private static Method getCustomRegistration(RegistryModule module) {
-        for (Method method : module.getClass().getMethods()) {
-            CustomCatalogRegistration registration = method.getDeclaredAnnotation(CustomCatalogRegistration.class);
-            if (registration != null) {
-                return method;
-            }
-        }
-        return null;
-    }
-
-    private static boolean requiresCustomRegistration(RegistryModule module) {
-        for (Method method : module.getClass().getMethods()) {
-            CustomCatalogRegistration registration = method.getDeclaredAnnotation(CustomCatalogRegistration.class);
-            if (registration != null) {
-                return true;
-            }
-        }
-        return false;
+    private static boolean isDefaultProperPhase(ModuleInfo info) {
+        return SpongeImpl.getRegistry().getPhase() == info.defaultPhase;
     }
 
-    private static boolean hasCatalogRegistration(RegistryModule module) {
-        final RegisterCatalog catalog = module.getClass().getAnnotation(RegisterCatalog.class);
-        if (catalog != null) {
-            return true;
-        }
-        for (Field field : module.getClass().getDeclaredFields()) {
-            RegisterCatalog annotation = field.getAnnotation(RegisterCatalog.class);
-            if (annotation != null) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private static boolean isDefaultProperPhase(RegistryModule module) {
-        try {
-            Method method = module.getClass().getMethod("registerDefaults");
-            DelayedRegistration delay = method.getDeclaredAnnotation(DelayedRegistration.class);
-            if (delay == null) {
-                return SpongeImpl.getRegistry().getPhase() == RegistrationPhase.PRE_REGISTRY;
-            }
-            return SpongeImpl.getRegistry().getPhase() == delay.value();
-        } catch (NoSuchMethodException e) {
-            e.printStackTrace();
-        }
-        return false;
-    }
-
-    private static boolean isCustomProperPhase(RegistryModule module) {
-        for (Method method : module.getClass().getMethods()) {
-            CustomCatalogRegistration registration = method.getDeclaredAnnotation(CustomCatalogRegistration.class);
-            DelayedRegistration delay = method.getDeclaredAnnotation(DelayedRegistration.class);
-            if (registration != null) {
-                if (delay == null) {
-                    return SpongeImpl.getRegistry().getPhase() == RegistrationPhase.PRE_REGISTRY;
-                }
-                return SpongeImpl.getRegistry().getPhase() == delay.value();
-            }
-        }
-        return false;
+    private static boolean isCustomProperPhase(ModuleInfo info) {
+        return SpongeImpl.getRegistry().getPhase() == info.customPhase;
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private static Map<String, ?> getCatalogMap(RegistryModule module) {
+    private static Map<String, ?> getCatalogMap(RegistryModule module, ModuleInfo info) {
         if (module instanceof AlternateCatalogRegistryModule) {
             return checkNotNull(((AlternateCatalogRegistryModule) module).provideCatalogMap());
         }
-        for (Field field : module.getClass().getDeclaredFields()) {
-            RegisterCatalog annotation = field.getAnnotation(RegisterCatalog.class);
-            if (annotation != null) {
-                try {
-                    field.setAccessible(true);
-                    Map<String, ?> map = (Map<String, ?>) field.get(module);
-                    checkState(!map.isEmpty(), "The registered module: "+ module.getClass().getSimpleName()
-                                               + " cannot have an empty mapping during registration!");
-                    return checkNotNull(map);
-                } catch (Exception e) {
-                    SpongeImpl.getLogger().error("Failed to retrieve a registry field from module: " + module.getClass().getCanonicalName());
-                }
+        if (info.catalogField != null) {
+            try {
+                Map<String, ?> map = (Map<String, ?>) info.catalogField.get(module);
+                checkState(!map.isEmpty(), "The registered module: "+ module.getClass().getSimpleName()
+                                           + " cannot have an empty mapping during registration!");
+                return checkNotNull(map);
+            } catch (Exception e) {
+                SpongeImpl.getLogger().error("Failed to retrieve a registry field from module: " + module.getClass().getCanonicalName());
             }
         }
         throw new IllegalStateException("Registry module does not have a catalog map! Registry: " + module.getClass().getCanonicalName());
     }
 
-    private static RegisterCatalog getRegisterCatalogAnnot(RegistryModule module) {
-        final RegisterCatalog catalog = module.getClass().getAnnotation(RegisterCatalog.class);
-        if (catalog != null) {
-            return catalog;
-        }
-        for (Field field : module.getClass().getDeclaredFields()) {
-            RegisterCatalog annotation = field.getAnnotation(RegisterCatalog.class);
-            if (annotation != null) {
-                return annotation;
-            }
-        }
-        throw new IllegalArgumentException("The module does not have a registry to register! " + module.getClass().getCanonicalName());
-    }
-
     private static void invokeCustomRegistration(RegistryModule module, Method method) {
         try {
-            if (isCustomProperPhase(module)) {
-                method.invoke(module);
-            }
+            method.invoke(module);
         } catch (IllegalAccessException | InvocationTargetException e) {
             SpongeImpl.getLogger().error("Error when calling custom catalog registration for module: "
                     + module.getClass().getCanonicalName(), e);
@@ -183,7 +119,7 @@ private static void invokeCustomRegistration(RegistryModule module, Method metho
     }
 
     public static void tryAdditionalRegistration(RegistryModule module) {
-        Method additionalRegistration = getAdditionalMethod(module);
+        Method additionalRegistration = getInfo(module).additionalRegistration;
         if (additionalRegistration != null) {
             try {
                 additionalRegistration.invoke(module);
@@ -193,13 +129,74 @@ public static void tryAdditionalRegistration(RegistryModule module) {
         }
     }
 
-    private static Method getAdditionalMethod(RegistryModule module) {
-        for (Method method : module.getClass().getMethods()) {
-            AdditionalRegistration registration = method.getDeclaredAnnotation(AdditionalRegistration.class);
-            if (registration != null) {
-                return method;
+    /**
+     * Gets whether the given module can be registered off the main thread
+     * when registry modules are initialized in parallel. Only modules
+     * marked with {@link ParallelRegistration} are, all other modules are
+     * always registered on the main thread.
+     *
+     * @param module The module
+     * @return True if the module may be registered asynchronously
+     */
+    public static boolean canRegisterAsync(RegistryModule module) {
+        return getInfo(module).parallelRegistration;
+    }
+
+    private static final class ModuleInfo {
+
+        @Nullable final Method customRegistration;
+        @Nullable final RegistrationPhase customPhase;
+        final RegistrationPhase defaultPhase;
+        @Nullable final RegisterCatalog catalog;
+        @Nullable final Set<String> ignoredFields;
+        @Nullable final Field catalogField;
+        @Nullable final Method additionalRegistration;
+        final boolean parallelRegistration;
+
+        ModuleInfo(Class<?> moduleClass) {
+            Method customRegistration = null;
+            Method additionalRegistration = null;
+            for (Method method : moduleClass.getMethods()) {
+                if (customRegistration == null && method.getDeclaredAnnotation(CustomCatalogRegistration.class) != null) {
+                    customRegistration = method;
+                }
+                if (additionalRegistration == null && method.getDeclaredAnnotation(AdditionalRegistration.class) != null) {
+                    additionalRegistration = method;
+                }
+            }
+            this.customRegistration = customRegistration;
+            this.additionalRegistration = additionalRegistration;
+            this.customPhase = customRegistration == null ? null : getPhase(customRegistration);
+            RegistrationPhase defaultPhase = RegistrationPhase.PRE_REGISTRY;
+            try {
+                defaultPhase = getPhase(moduleClass.getMethod("registerDefaults"));
+            } catch (NoSuchMethodException e) {
+                e.printStackTrace();
             }
+            this.defaultPhase = defaultPhase;
+
+            RegisterCatalog catalog = moduleClass.getAnnotation(RegisterCatalog.class);
+            Field catalogField = null;
+            for (Field field : moduleClass.getDeclaredFields()) {
+                RegisterCatalog annotation = field.getAnnotation(RegisterCatalog.class);
+                if (annotation != null) {
+                    if (catalog == null) {
+                        catalog = annotation;
+                    }
+                    field.setAccessible(true);
+                    catalogField = field;
+                    break;
+                }
+            }
+            this.catalog = catalog;
+            this.catalogField = catalogField;
+            this.ignoredFields = catalog == null || catalog.ignoredFields().length == 0 ? null : Sets.newHashSet(catalog.ignoredFields());
+            this.parallelRegistration = moduleClass.isAnnotationPresent(ParallelRegistration.class);
+        }
+
+        private static RegistrationPhase getPhase(Method method) {
+            final DelayedRegistration delay = method.getDeclaredAnnotation(DelayedRegistration.class);
+            return delay == null ? RegistrationPhase.PRE_REGISTRY : delay.value();
         }
-        return null;
     }
 }
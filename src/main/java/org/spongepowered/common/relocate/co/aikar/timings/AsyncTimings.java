@@ -0,0 +1,124 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.relocate.co.aikar.timings;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records time spent in asynchronous tasks and event listeners, which the
+ * regular {@link TimingHandler}s ignore as they are bound to the main
+ * thread's timing stack.
+ *
+ * <p>Time is accumulated per {@link Id} in striped counters, so recording
+ * from many threads takes no locks and nothing is kept per thread. The main
+ * thread folds the new time of every id into the matching handler when a
+ * history frame or a report is taken. Async time is not part of any tick,
+ * so it is never added to a parent or group handler.</p>
+ */
+public final class AsyncTimings {
+
+    /**
+     * Identifies what is being timed. Ids are interned, so the handler
+     * behind them is only resolved once, on the main thread.
+     */
+    public static final class Id {
+
+        final String group;
+        final String name;
+        final LongAdder count = new LongAdder();
+        final LongAdder totalTime = new LongAdder();
+        // Only accessed by the main thread
+        TimingHandler handler;
+        long mergedCount;
+        long mergedTime;
+
+        Id(String group, String name) {
+            this.group = group;
+            this.name = name;
+        }
+    }
+
+    private static final Map<String, Id> IDS = new ConcurrentHashMap<>();
+
+    static volatile boolean enabled;
+
+    private AsyncTimings() {
+    }
+
+    public static Id id(String group, String name) {
+        return IDS.computeIfAbsent(group + ':' + name, key -> new Id(group, name));
+    }
+
+    /**
+     * Gets the start time to later pass to {@link #stop(Id, long)}.
+     *
+     * @return The start time, or 0 if timings are disabled
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    public static void stop(Id id, long start) {
+        if (start == 0) {
+            return;
+        }
+        id.totalTime.add(System.nanoTime() - start);
+        id.count.increment();
+    }
+
+    /**
+     * Adds the time recorded since the previous merge to the handlers, so it
+     * is part of the next {@link TimingHistory}. Must be called from the main
+     * thread.
+     */
+    static void merge() {
+        for (Id id : IDS.values()) {
+            // The count is read first, so the merged time never lags behind the merged count
+            final long count = id.count.sum();
+            if (count == id.mergedCount) {
+                continue;
+            }
+            final long totalTime = id.totalTime.sum();
+            if (id.handler == null) {
+                id.handler = SpongeTimingsFactory.ofSafe(id.group, id.name);
+            }
+            id.handler.addAsync(count - id.mergedCount, totalTime - id.mergedTime);
+            id.mergedCount = count;
+            id.mergedTime = totalTime;
+        }
+    }
+
+    /**
+     * Drops any time that has not been merged yet, used on full resets.
+     */
+    static void discard() {
+        for (Id id : IDS.values()) {
+            id.mergedCount = id.count.sum();
+            id.mergedTime = id.totalTime.sum();
+        }
+    }
+}
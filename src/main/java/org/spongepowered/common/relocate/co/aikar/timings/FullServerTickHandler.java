@@ -95,6 +95,7 @@ public void stopTiming() {
             this.minuteData.reset();
         }
         if (TimingHistory.timedTicks % Timings.getHistoryInterval() == 0) {
+            AsyncTimings.merge();
             TimingsManager.HISTORY.add(new TimingHistory());
             TimingsManager.resetTimings();
         }
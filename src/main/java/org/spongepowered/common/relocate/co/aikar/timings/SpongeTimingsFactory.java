@@ -29,12 +29,18 @@
 import co.aikar.timings.Timing;
 import co.aikar.timings.TimingsFactory;
 import com.google.common.collect.EvictingQueue;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.channel.MessageChannel;
+import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.config.category.TimingsCategory;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.TimeUnit;
@@ -61,6 +67,7 @@ public void init() {
         setTimingsEnabled(this.moduleEnabled && config.isEnabled());
         setHistoryInterval(config.getHistoryInterval());
         setHistoryLength(config.getHistoryLength());
+        setHistogramsEnabled(config.isHistograms());
 
         SpongeImpl.getLogger().debug("Sponge Timings: " + this.timingsEnabled +
                                     " - Verbose: " + this.verboseEnabled +
@@ -104,6 +111,7 @@ public void setTimingsEnabled(boolean enabled) {
             return;
         }
         this.timingsEnabled = enabled;
+        AsyncTimings.enabled = enabled;
         reset();
     }
 
@@ -182,6 +190,60 @@ public void generateReport(MessageChannel channel) {
         TimingsExport.requestingReport.add(channel);
     }
 
+    /**
+     * Requests a report that is written to disk instead of being uploaded.
+     *
+     * @param sender Who to report to
+     */
+    public static void generateLocalReport(CommandSource sender) {
+        TimingsExport.requestingLocalReport.add(MessageChannel.fixed(sender));
+    }
+
+    public static boolean isHistogramsEnabled() {
+        return TimingsManager.histogramsEnabled;
+    }
+
+    public static void setHistogramsEnabled(boolean enabled) {
+        TimingsManager.histogramsEnabled = enabled;
+        TimingsManager.needsRecheckEnabled = true;
+    }
+
+    /**
+     * Sends the handlers with the slowest 99th percentile tick time over the
+     * retained history and the current interval.
+     *
+     * @param sender Who to report to
+     * @param limit The maximum number of handlers to list
+     */
+    public static void sendHistogramReport(CommandSource sender, int limit) {
+        final Int2ObjectMap<TimingHistogram> histograms = TimingsManager.collectHistograms(TimingsManager.HISTORY, TimingsManager.HANDLERS);
+        final List<TimingHandler> handlers = new ArrayList<>();
+        synchronized (TimingsManager.TIMING_MAP) {
+            for (TimingHandler handler : TimingsManager.TIMING_MAP.values()) {
+                if (histograms.containsKey(handler.id)) {
+                    handlers.add(handler);
+                }
+            }
+        }
+        if (handlers.isEmpty()) {
+            sender.sendMessage(Text.of(TextColors.RED, "No histogram data has been recorded yet."));
+            return;
+        }
+        handlers.sort(Comparator.comparingLong((TimingHandler handler) -> histograms.get(handler.id).getValueAtPercentile(99)).reversed());
+        sender.sendMessage(Text.of(TextColors.GREEN, "Ticks, p50 / p90 / p99 / max in milliseconds:"));
+        for (TimingHandler handler : handlers.subList(0, Math.min(limit, handlers.size()))) {
+            final TimingHistogram histogram = histograms.get(handler.id);
+            sender.sendMessage(Text.of(TextColors.YELLOW, histogram.getTotalCount(), " ",
+                    TextColors.WHITE, toMillis(histogram.getValueAtPercentile(50)), " / ", toMillis(histogram.getValueAtPercentile(90)), " / ",
+                    TextColors.GOLD, toMillis(histogram.getValueAtPercentile(99)), TextColors.WHITE, " / ", toMillis(histogram.getMax()), " ",
+                    TextColors.GRAY, handler.name));
+        }
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.2f", nanos / 1000000D);
+    }
+
     public static long getCost() {
         return TimingsExport.getCost();
     }
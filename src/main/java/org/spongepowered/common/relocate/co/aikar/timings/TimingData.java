@@ -68,6 +68,11 @@ void add(long diff) {
         this.curTickTotal += diff;
     }
 
+    void addAsync(long count, long totalTime) {
+        this.count += count;
+        this.totalTime += totalTime;
+    }
+
     void processTick(boolean violated) {
         this.totalTime += this.curTickTotal;
         this.count += this.curTickCount;
@@ -106,6 +111,10 @@ public JsonArray export() {
         return array;
     }
 
+    int getId() {
+        return this.id;
+    }
+
     boolean hasData() {
         return count > 0;
     }
@@ -32,6 +32,8 @@
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.relocate.co.aikar.util.LoadingIntMap;
 
+import javax.annotation.Nullable;
+
 class TimingHandler implements Timing {
 
     private static int idPool = 1;
@@ -44,6 +46,11 @@ class TimingHandler implements Timing {
 
     final TimingData record;
     private final TimingHandler groupHandler;
+    /**
+     * The distribution of per tick time, only present while histograms are
+     * enabled.
+     */
+    @Nullable TimingHistogram histogram;
 
     private long start = 0;
     private int timingDepth = 0;
@@ -70,6 +77,11 @@ class TimingHandler implements Timing {
 
     final void checkEnabled() {
         this.enabled = Timings.isTimingsEnabled() && (!this.verbose || Timings.isVerboseTimingsEnabled());
+        if (!this.enabled || !TimingsManager.histogramsEnabled) {
+            this.histogram = null;
+        } else if (this.histogram == null) {
+            this.histogram = new TimingHistogram();
+        }
     }
 
     void processTick(boolean violated) {
@@ -79,6 +91,9 @@ void processTick(boolean violated) {
             return;
         }
 
+        if (this.histogram != null) {
+            this.histogram.record(this.record.curTickTotal);
+        }
         this.record.processTick(violated);
         for (TimingData handler : this.children.values()) {
             handler.processTick(violated);
@@ -165,6 +180,19 @@ void addDiff(long diff) {
         }
     }
 
+    /**
+     * Adds time recorded off the main thread by {@link AsyncTimings}. This
+     * goes straight into the totals as it does not belong to any tick.
+     */
+    void addAsync(long count, long totalTime) {
+        this.record.addAsync(count, totalTime);
+        if (!this.added) {
+            this.added = true;
+            this.timed = true;
+            TimingsManager.HANDLERS.add(this);
+        }
+    }
+
     /**
      * Reset this timer, setting all values to zero.
      *
@@ -172,6 +200,9 @@ void addDiff(long diff) {
      */
     void reset(boolean full) {
         this.record.reset();
+        if (this.histogram != null) {
+            this.histogram.reset();
+        }
         if (full) {
             this.timed = false;
         }
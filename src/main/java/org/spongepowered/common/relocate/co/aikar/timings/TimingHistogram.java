@@ -0,0 +1,151 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.relocate.co.aikar.timings;
+
+import com.google.gson.JsonObject;
+import org.spongepowered.common.relocate.co.aikar.util.JSONUtil;
+
+import java.util.Arrays;
+
+/**
+ * A fixed size, log bucketed histogram of per tick handler time.
+ *
+ * <p>Every power of two between {@link #MIN_NANOS} and {@link #MAX_NANOS}
+ * is split into {@link #SUB_BUCKETS} linear buckets, in the style of an
+ * HDR histogram, which bounds the error of any reported percentile to one
+ * sub bucket (12.5%). Recording is a couple of bit operations and an array
+ * increment, and never allocates.</p>
+ */
+final class TimingHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MIN_MAGNITUDE = 10; // ~1 microsecond
+    private static final int MAX_MAGNITUDE = 36; // ~68 seconds
+    private static final long MIN_NANOS = 1L << MIN_MAGNITUDE;
+    private static final long MAX_NANOS = (1L << MAX_MAGNITUDE) - 1;
+    private static final int BUCKETS = (MAX_MAGNITUDE - MIN_MAGNITUDE) * SUB_BUCKETS + 1;
+
+    private final int[] counts;
+    private long totalCount;
+    private long max;
+
+    TimingHistogram() {
+        this.counts = new int[BUCKETS];
+    }
+
+    private TimingHistogram(TimingHistogram histogram) {
+        this.counts = histogram.counts.clone();
+        this.totalCount = histogram.totalCount;
+        this.max = histogram.max;
+    }
+
+    void record(long nanos) {
+        this.counts[indexOf(nanos)]++;
+        this.totalCount++;
+        if (nanos > this.max) {
+            this.max = nanos;
+        }
+    }
+
+    void add(TimingHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            this.counts[i] += other.counts[i];
+        }
+        this.totalCount += other.totalCount;
+        this.max = Math.max(this.max, other.max);
+    }
+
+    void reset() {
+        Arrays.fill(this.counts, 0);
+        this.totalCount = 0;
+        this.max = 0;
+    }
+
+    TimingHistogram copy() {
+        return new TimingHistogram(this);
+    }
+
+    long getTotalCount() {
+        return this.totalCount;
+    }
+
+    long getMax() {
+        return this.max;
+    }
+
+    /**
+     * Gets the upper bound of the bucket containing the given percentile.
+     *
+     * @param percentile The percentile, between 0 and 100
+     * @return The value in nanoseconds
+     */
+    long getValueAtPercentile(double percentile) {
+        if (this.totalCount == 0) {
+            return 0;
+        }
+        final long target = Math.max(1, (long) Math.ceil(this.totalCount * Math.min(100D, percentile) / 100D));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += this.counts[i];
+            if (seen >= target) {
+                return Math.min(upperBoundOf(i), this.max);
+            }
+        }
+        return this.max;
+    }
+
+    JsonObject export() {
+        return JSONUtil.objectBuilder()
+                .add("count", this.totalCount)
+                .add("p50", getValueAtPercentile(50))
+                .add("p90", getValueAtPercentile(90))
+                .add("p99", getValueAtPercentile(99))
+                .add("p999", getValueAtPercentile(99.9))
+                .add("max", this.max)
+                .build();
+    }
+
+    private static int indexOf(long nanos) {
+        if (nanos < MIN_NANOS) {
+            return 0;
+        }
+        if (nanos > MAX_NANOS) {
+            nanos = MAX_NANOS;
+        }
+        final int magnitude = 63 - Long.numberOfLeadingZeros(nanos);
+        final int subBucket = (int) (nanos >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return 1 + (magnitude - MIN_MAGNITUDE) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBoundOf(int index) {
+        if (index == 0) {
+            return MIN_NANOS - 1;
+        }
+        final int magnitude = (index - 1) / SUB_BUCKETS + MIN_MAGNITUDE;
+        final int subBucket = (index - 1) % SUB_BUCKETS;
+        return (1L << magnitude) + ((long) (subBucket + 1) << (magnitude - SUB_BUCKET_BITS)) - 1;
+    }
+}
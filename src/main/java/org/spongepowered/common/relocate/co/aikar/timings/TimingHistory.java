@@ -24,27 +24,23 @@
  */
 package org.spongepowered.common.relocate.co.aikar.timings;
 
-import org.spongepowered.common.relocate.co.aikar.timings.TimingHistory.RegionData.RegionId;
 import org.spongepowered.common.relocate.co.aikar.util.JSONUtil;
 import org.spongepowered.common.relocate.co.aikar.util.LoadingMap;
-import org.spongepowered.common.relocate.co.aikar.util.MRUMapCache;
-import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
-import org.spongepowered.api.block.tileentity.TileEntity;
 import org.spongepowered.api.block.tileentity.TileEntityType;
-import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.EntityType;
 import org.spongepowered.api.entity.EntityTypes;
 import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.world.World;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 
 import java.lang.management.ManagementFactory;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Function;
 
 public class TimingHistory {
 
@@ -66,7 +62,8 @@ public class TimingHistory {
     final TimingHistoryEntry[] entries;
     final Set<TileEntityType> tileEntityTypeSet = Sets.newHashSet();
     final Set<EntityType> entityTypeSet = Sets.newHashSet();
-    final JsonObject worlds;
+    private final String[] worldIds;
+    private final TimingRegionCounts.Region[][] worldRegions;
 
     TimingHistory() {
         this.endTime = System.currentTimeMillis() / 1000;
@@ -90,107 +87,43 @@ public class TimingHistory {
             this.entries[i++] = new TimingHistoryEntry(handler);
         }
 
-        // Information about all loaded chunks/entities
-        this.worlds = JSONUtil.mapArrayToObject(SpongeImpl.getGame().getServer().getWorlds(), (world) -> {
-            Map<RegionId, RegionData> regions = LoadingMap.newHashMap(RegionData.LOADER);
-            return JSONUtil.singleObjectPair(String.valueOf(worldMap.get(world.getName())), JSONUtil.mapArray(world.getLoadedChunks(), (chunk) -> {
-                RegionData data = regions.get(new RegionId(chunk.getPosition().getX(), chunk.getPosition().getZ()));
-
-                for (Entity entity : chunk.getEntities()) {
-                    if (entity.getType() == null) {
-                        continue;
+        // Information about all loaded chunks/entities, maintained by the chunk hooks
+        final Collection<World> loadedWorlds = SpongeImpl.getGame().getServer().getWorlds();
+        this.worldIds = new String[loadedWorlds.size()];
+        this.worldRegions = new TimingRegionCounts.Region[loadedWorlds.size()][];
+        int w = 0;
+        for (World world : loadedWorlds) {
+            this.worldIds[w] = String.valueOf(worldMap.get(world.getName()));
+            final WorldTimingsHandler timings = ((IMixinWorldServer) world).getTimingsHandler();
+            this.worldRegions[w] = timings == null ? new TimingRegionCounts.Region[0] : timings.regionCounts.snapshot();
+            for (TimingRegionCounts.Region region : this.worldRegions[w]) {
+                for (EntityType type : region.entityCounts.keySet()) {
+                    if (type != EntityTypes.UNKNOWN) {
+                        this.entityTypeSet.add(type);
                     }
-                    data.entityCounts.get(entity.getType()).increment();
-                }
-
-                for (TileEntity tileEntity : chunk.getTileEntities()) {
-                    if (tileEntity.getType() == null) {
-                        continue;
-                    }
-                    data.tileEntityCounts.get(tileEntity.getType()).increment();
-                }
-
-                if (data.tileEntityCounts.isEmpty() && data.entityCounts.isEmpty()) {
-                    return null;
                 }
-                return JSONUtil.arrayOf(
-                        chunk.getPosition().getX(),
-                        chunk.getPosition().getZ(),
-                        JSONUtil.mapArrayToObject(data.entityCounts.entrySet(), (entry) -> {
-                            if (entry.getKey() == EntityTypes.UNKNOWN) {
-                                return null;
-                            }
-                            this.entityTypeSet.add(entry.getKey());
-                            return JSONUtil.singleObjectPair(TimingsPls.getEntityId(entry.getKey()), entry.getValue().count());
-                        }),
-                        JSONUtil.mapArrayToObject(data.tileEntityCounts.entrySet(), (entry) -> {
-                            this.tileEntityTypeSet.add(entry.getKey());
-                            return JSONUtil.singleObjectPair(TimingsPls.getTileEntityId(entry.getKey()), entry.getValue().count());
-                        }));
-            }));
-        });
-    }
-    static class RegionData {
-        final RegionId regionId;
-        @SuppressWarnings("Guava")
-        static Function<RegionId, RegionData> LOADER = new Function<RegionId, RegionData>() {
-            @Override
-            public RegionData apply(RegionId id) {
-                return new RegionData(id);
+                this.tileEntityTypeSet.addAll(region.tileEntityCounts.keySet());
             }
-        };
-        RegionData(RegionId id) {
-            this.regionId = id;
+            w++;
         }
+    }
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
-            }
-
-            RegionData that = (RegionData) o;
-
-            return regionId.equals(that.regionId);
-
-        }
-
-        final Map<EntityType, Counter> entityCounts = MRUMapCache.of(LoadingMap.of(Maps.newHashMap(), Counter.loader()));
-        final Map<TileEntityType, Counter> tileEntityCounts = MRUMapCache.of(LoadingMap.of(Maps.newHashMap(), Counter.loader()));
-
-        @Override
-        public int hashCode() {
-            return regionId.hashCode();
-        }
-
-        static class RegionId {
-            final int x, z;
-            final long regionId;
-            RegionId(int x, int z) {
-                this.x = x >> 5 << 5;
-                this.z = z >> 5 << 5;
-                this.regionId = ((long) (this.x) << 32) + (this.z >> 5 << 5) - Integer.MIN_VALUE;
-            }
-
-            @Override
-            public boolean equals(Object o) {
-                if (this == o) return true;
-                if (o == null || getClass() != o.getClass()) return false;
-
-                RegionId regionId1 = (RegionId) o;
-
-                return regionId == regionId1.regionId;
-
-            }
-
-            @Override
-            public int hashCode() {
-                return (int) (regionId ^ (regionId >>> 32));
-            }
+    private JsonObject exportWorlds() {
+        final JsonObject worlds = new JsonObject();
+        for (int w = 0; w < this.worldIds.length; w++) {
+            worlds.add(this.worldIds[w], JSONUtil.mapArray(this.worldRegions[w], (region) -> JSONUtil.arrayOf(
+                    region.x,
+                    region.z,
+                    JSONUtil.mapArrayToObject(region.entityCounts.object2IntEntrySet(), (entry) -> {
+                        if (entry.getKey() == EntityTypes.UNKNOWN) {
+                            return null;
+                        }
+                        return JSONUtil.singleObjectPair(TimingsPls.getEntityId(entry.getKey()), entry.getIntValue());
+                    }),
+                    JSONUtil.mapArrayToObject(region.tileEntityCounts.object2IntEntrySet(), (entry) ->
+                            JSONUtil.singleObjectPair(TimingsPls.getTileEntityId(entry.getKey()), entry.getIntValue())))));
         }
+        return worlds;
     }
 
     public static void resetTicks(boolean fullReset) {
@@ -211,7 +144,7 @@ JsonObject export() {
                 .add("e", this.endTime)
                 .add("tk", this.totalTicks)
                 .add("tm", this.totalTime)
-                .add("w", this.worlds)
+                .add("w", exportWorlds())
                 .add("h", JSONUtil.mapArray(this.entries, (entry) -> entry.data.count == 0 ? null : entry.export()))
                 .add("mp", JSONUtil.mapArray(this.minuteReports, MinuteReport::export))
                 .build();
@@ -277,29 +210,4 @@ static class PingRecord {
             this.avg = onlinePlayers.isEmpty() ? 0 : totalPing / onlinePlayers.size();
         }
     }
-
-    static class Counter {
-
-        int count = 0;
-        private static final Function<?, Counter> LOADER = new LoadingMap.Feeder<Counter>() {
-
-            @Override
-            public Counter apply() {
-                return new Counter();
-            }
-        };
-
-        @SuppressWarnings("unchecked")
-        static <T> Function<T, Counter> loader() {
-            return (Function<T, Counter>) LOADER;
-        }
-
-        public int increment() {
-            return ++this.count;
-        }
-
-        public int count() {
-            return this.count;
-        }
-    }
 }
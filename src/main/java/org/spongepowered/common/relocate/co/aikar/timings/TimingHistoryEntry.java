@@ -27,13 +27,17 @@
 import org.spongepowered.common.relocate.co.aikar.util.JSONUtil;
 import com.google.gson.JsonArray;
 
+import javax.annotation.Nullable;
+
 class TimingHistoryEntry {
 
     final TimingData data;
     final TimingData[] children;
+    @Nullable final TimingHistogram histogram;
 
     TimingHistoryEntry(TimingHandler handler) {
         this.data = handler.record.clone();
+        this.histogram = handler.histogram == null ? null : handler.histogram.copy();
         this.children = new TimingData[handler.children.size()];
         int i = 0;
         for (TimingData child : handler.children.values()) {
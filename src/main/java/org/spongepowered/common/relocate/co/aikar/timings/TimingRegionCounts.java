@@ -0,0 +1,124 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.relocate.co.aikar.timings;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.util.math.ChunkPos;
+import org.spongepowered.api.block.tileentity.TileEntityType;
+import org.spongepowered.api.entity.EntityType;
+
+/**
+ * Entity and tile entity counts of a world, per 32x32 chunk region.
+ *
+ * <p>Counts are kept up to date by the chunk hooks as entities and tile
+ * entities enter and leave loaded chunks, so a {@link TimingHistory} only
+ * has to copy the regions instead of walking every loaded chunk. Only
+ * accessed from the main thread.</p>
+ */
+public final class TimingRegionCounts {
+
+    static final class Region {
+
+        final int x;
+        final int z;
+        final Object2IntOpenHashMap<EntityType> entityCounts;
+        final Object2IntOpenHashMap<TileEntityType> tileEntityCounts;
+
+        Region(int x, int z) {
+            this.x = x;
+            this.z = z;
+            this.entityCounts = new Object2IntOpenHashMap<>();
+            this.tileEntityCounts = new Object2IntOpenHashMap<>();
+        }
+
+        Region(Region region) {
+            this.x = region.x;
+            this.z = region.z;
+            this.entityCounts = new Object2IntOpenHashMap<>(region.entityCounts);
+            this.tileEntityCounts = new Object2IntOpenHashMap<>(region.tileEntityCounts);
+        }
+
+        boolean isEmpty() {
+            return this.entityCounts.isEmpty() && this.tileEntityCounts.isEmpty();
+        }
+    }
+
+    private final Long2ObjectMap<Region> regions = new Long2ObjectOpenHashMap<>();
+
+    public void addEntity(int chunkX, int chunkZ, EntityType type, int delta) {
+        final Region region = getRegion(chunkX, chunkZ);
+        update(region.entityCounts, type, delta);
+        removeIfEmpty(chunkX, chunkZ, region);
+    }
+
+    public void addTileEntity(int chunkX, int chunkZ, TileEntityType type, int delta) {
+        final Region region = getRegion(chunkX, chunkZ);
+        update(region.tileEntityCounts, type, delta);
+        removeIfEmpty(chunkX, chunkZ, region);
+    }
+
+    /**
+     * Copies the current counts. The copy is independent of this instance
+     * and may be read from any thread.
+     *
+     * @return The copied, non empty regions
+     */
+    Region[] snapshot() {
+        final Region[] copy = new Region[this.regions.size()];
+        int i = 0;
+        for (Region region : this.regions.values()) {
+            copy[i++] = new Region(region);
+        }
+        return copy;
+    }
+
+    private Region getRegion(int chunkX, int chunkZ) {
+        final long key = ChunkPos.asLong(chunkX >> 5, chunkZ >> 5);
+        Region region = this.regions.get(key);
+        if (region == null) {
+            region = new Region(chunkX >> 5 << 5, chunkZ >> 5 << 5);
+            this.regions.put(key, region);
+        }
+        return region;
+    }
+
+    private void removeIfEmpty(int chunkX, int chunkZ, Region region) {
+        if (region.isEmpty()) {
+            this.regions.remove(ChunkPos.asLong(chunkX >> 5, chunkZ >> 5));
+        }
+    }
+
+    private static <T> void update(Object2IntMap<T> counts, T type, int delta) {
+        final int count = counts.getInt(type) + delta;
+        if (count <= 0) {
+            counts.removeInt(type);
+        } else {
+            counts.put(type, count);
+        }
+    }
+}
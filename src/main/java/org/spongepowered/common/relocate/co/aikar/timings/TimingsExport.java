@@ -34,6 +34,8 @@
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import ninja.leaping.configurate.ConfigurationNode;
 import org.spongepowered.api.Platform;
 import org.spongepowered.api.Sponge;
@@ -52,11 +54,20 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.lang.management.ManagementFactory;
 import java.lang.management.RuntimeMXBean;
 import java.net.HttpURLConnection;
 import java.net.InetAddress;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -71,14 +82,22 @@ class TimingsExport extends Thread {
     private final TimingsReportListener listeners;
     private final JsonObject out;
     private final TimingHistory[] history;
+    private final boolean local;
+    private final Int2ObjectMap<String> handlerNames;
+    // Pastes and local exports are limited separately, the limit of pastes protects the remote site
     private static long lastReport = 0;
+    private static long lastLocalReport = 0;
     final static List<MessageChannel> requestingReport = Lists.newArrayList();
+    final static List<MessageChannel> requestingLocalReport = Lists.newArrayList();
 
-    TimingsExport(TimingsReportListener listeners, JsonObject out, TimingHistory[] history) {
-        super("Timings paste thread");
+    TimingsExport(TimingsReportListener listeners, JsonObject out, TimingHistory[] history, boolean local,
+            Int2ObjectMap<String> handlerNames) {
+        super(local ? "Timings export thread" : "Timings paste thread");
         this.listeners = listeners;
         this.out = out;
         this.history = history;
+        this.local = local;
+        this.handlerNames = handlerNames;
     }
 
     private static String getServerName() {
@@ -91,14 +110,25 @@ private static String getServerName() {
      * @param sender Who to report to
      */
     static void reportTimings() {
-        if (requestingReport.isEmpty()) {
-            return;
+        if (!requestingReport.isEmpty() && SpongeImpl.getGlobalConfig().getConfig().getTimings().isLocalExport()) {
+            // Reports are exported locally as well, a single export serves both
+            requestingLocalReport.addAll(requestingReport);
+            requestingReport.clear();
+        }
+        if (!requestingLocalReport.isEmpty()) {
+            reportTimings(requestingLocalReport, true);
         }
-        TimingsReportListener listeners = new TimingsReportListener(requestingReport);
+        if (!requestingReport.isEmpty()) {
+            reportTimings(requestingReport, false);
+        }
+    }
 
-        requestingReport.clear();
+    private static void reportTimings(List<MessageChannel> requesting, boolean local) {
+        TimingsReportListener listeners = new TimingsReportListener(requesting);
+
+        requesting.clear();
         long now = System.currentTimeMillis();
-        final long lastReportDiff = now - lastReport;
+        final long lastReportDiff = now - (local ? lastLocalReport : lastReport);
         if (lastReportDiff < 60000) {
             listeners.send(Text.of(TextColors.RED, "Please wait at least 1 minute in between Timings reports. (" + (int)((60000 - lastReportDiff) / 1000) + " seconds)"));
             listeners.done();
@@ -111,7 +141,11 @@ static void reportTimings() {
             return;
         }
         listeners.send(Text.of(TextColors.GREEN, "Preparing Timings Report..."));
-        lastReport = now;
+        if (local) {
+            lastLocalReport = now;
+        } else {
+            lastReport = now;
+        }
 
         Platform platform = SpongeImpl.getGame().getPlatform();
         JsonObjectBuilder builder = JSONUtil.objectBuilder()
@@ -156,11 +190,13 @@ static void reportTimings() {
             history[i++] = timingHistory;
         }
 
+        AsyncTimings.merge();
         history[i] = new TimingHistory(); // Current snapshot
         tileEntityTypeSet.addAll(history[i].tileEntityTypeSet);
         entityTypeSet.addAll(history[i].entityTypeSet);
 
         JsonObjectBuilder handlersBuilder = JSONUtil.objectBuilder();
+        Int2ObjectMap<String> handlerNames = new Int2ObjectOpenHashMap<>();
         for (TimingIdentifier.TimingGroup group : TimingIdentifier.GROUP_MAP.values()) {
             for (TimingHandler id : group.handlers) {
                 if (!id.timed && !id.isSpecial()) {
@@ -169,6 +205,7 @@ static void reportTimings() {
                 handlersBuilder.add(id.id, JSONUtil.arrayOf(
                         group.id,
                         id.name));
+                handlerNames.put(id.id, id.name);
             }
         }
 
@@ -206,7 +243,7 @@ static void reportTimings() {
         builder.add("config", JSONUtil.objectBuilder()
                 .add("sponge", serializeConfigNode(SpongeImpl.getGlobalConfig().getRootNode())));
 
-        new TimingsExport(listeners, builder.build(), history).start();
+        new TimingsExport(listeners, builder.build(), history, local, handlerNames).start();
     }
 
     static long getCost() {
@@ -289,6 +326,60 @@ public synchronized void start() {
     public void run() {
         this.out.add("data", JSONUtil.mapArray(this.history, TimingHistory::export));
 
+        if (this.local) {
+            final Int2ObjectMap<TimingHistogram> histograms =
+                    TimingsManager.collectHistograms(Arrays.asList(this.history), Collections.emptyList());
+            if (!histograms.isEmpty()) {
+                this.out.add("histograms", JSONUtil.mapArrayToObject(histograms.int2ObjectEntrySet(),
+                        (entry) -> JSONUtil.singleObjectPair(entry.getIntKey(), entry.getValue().export())));
+            }
+            export();
+        } else {
+            upload();
+        }
+    }
+
+    /**
+     * Writes the report next to the server instead of uploading it: the same
+     * gzipped JSON document the timings site receives, and the handler tree
+     * as folded stacks for flame graph tools.
+     */
+    private void export() {
+        String reportName = null;
+        try {
+            final Path directory = SpongeImpl.getGameDir().resolve("timings");
+            Files.createDirectories(directory);
+            reportName = "timings-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+
+            final Path report = directory.resolve(reportName + ".json.gz");
+            try (OutputStream stream = new GZIPOutputStream(Files.newOutputStream(report))) {
+                stream.write(JSONUtil.toString(this.out).getBytes(StandardCharsets.UTF_8));
+            }
+
+            final Path folded = directory.resolve(reportName + ".folded");
+            try (Writer writer = new OutputStreamWriter(Files.newOutputStream(folded), StandardCharsets.UTF_8)) {
+                new TimingsFlameGraph(this.handlerNames, this.history).write(writer, TimingsManager.FULL_SERVER_TICK.id);
+            }
+
+            this.listeners.send(Text.of(TextColors.GREEN, "Timings Report written to ", TextColors.YELLOW, report.toString()));
+            this.listeners.send(Text.of(TextColors.GREEN, "Flame graph stacks written to ", TextColors.YELLOW, folded.toString()));
+
+            if (TimingsSampler.getSampleCount() > 0) {
+                final Path sampled = directory.resolve(reportName + ".sampled.folded");
+                try (Writer writer = new OutputStreamWriter(Files.newOutputStream(sampled), StandardCharsets.UTF_8)) {
+                    TimingsSampler.write(writer);
+                }
+                this.listeners.send(Text.of(TextColors.GREEN, "Sampled stacks written to ", TextColors.YELLOW, sampled.toString()));
+            }
+        } catch (IOException ex) {
+            this.listeners.send(Text.of(TextColors.RED, "Error writing timings, check your logs for more information"));
+            SpongeImpl.getLogger().fatal("Could not write timings", ex);
+        } finally {
+            this.listeners.done(reportName);
+        }
+    }
+
+    private void upload() {
         String response = null;
         String timingsURL = null;
         try {
@@ -0,0 +1,110 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.relocate.co.aikar.timings;
+
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Renders timing history as folded stacks, the input format of the common
+ * flame graph tools.
+ *
+ * <p>Timings only record how much time each handler spent directly below
+ * each parent, not full stacks, so deeper frames are distributed over their
+ * callers proportionally to those parent/child totals. Values are written
+ * in microseconds.</p>
+ */
+final class TimingsFlameGraph {
+
+    private static final int MAX_DEPTH = 64;
+
+    private final Int2ObjectMap<String> names;
+    private final Int2LongMap totals = new Int2LongOpenHashMap();
+    private final Int2ObjectMap<Int2LongMap> children = new Int2ObjectOpenHashMap<>();
+
+    TimingsFlameGraph(Int2ObjectMap<String> names, TimingHistory[] history) {
+        this.names = names;
+        for (TimingHistory timingHistory : history) {
+            for (TimingHistoryEntry entry : timingHistory.entries) {
+                this.totals.put(entry.data.getId(), this.totals.get(entry.data.getId()) + entry.data.getTotalTime());
+                if (entry.children.length == 0) {
+                    continue;
+                }
+                Int2LongMap edges = this.children.get(entry.data.getId());
+                if (edges == null) {
+                    edges = new Int2LongOpenHashMap();
+                    this.children.put(entry.data.getId(), edges);
+                }
+                for (TimingData child : entry.children) {
+                    edges.put(child.getId(), edges.get(child.getId()) + child.getTotalTime());
+                }
+            }
+        }
+    }
+
+    void write(Writer writer, int rootId) throws IOException {
+        final IntArrayList path = new IntArrayList();
+        path.add(rootId);
+        write(writer, path, new StringBuilder(frameName(rootId)), this.totals.get(rootId), 1D);
+    }
+
+    private void write(Writer writer, IntArrayList path, StringBuilder stack, long total, double scale) throws IOException {
+        final int id = path.getInt(path.size() - 1);
+        final Int2LongMap edges = this.children.get(id);
+        long self = total;
+        if (edges != null && path.size() < MAX_DEPTH) {
+            for (Int2LongMap.Entry edge : edges.int2LongEntrySet()) {
+                final int childId = edge.getIntKey();
+                final long edgeTime = edge.getLongValue();
+                if (edgeTime <= 0 || path.contains(childId)) {
+                    continue;
+                }
+                self -= edgeTime;
+                final long childTotal = Math.max(this.totals.get(childId), edgeTime);
+                final int length = stack.length();
+                stack.append(';').append(frameName(childId));
+                path.add(childId);
+                write(writer, path, stack, childTotal, scale * edgeTime / childTotal);
+                path.removeInt(path.size() - 1);
+                stack.setLength(length);
+            }
+        }
+        final long micros = Math.round(Math.max(0, self) * scale / 1000D);
+        if (micros > 0) {
+            writer.append(stack).append(' ').append(Long.toString(micros)).append('\n');
+        }
+    }
+
+    private String frameName(int id) {
+        final String name = this.names.get(id);
+        return (name == null ? "#" + id : name).replace(';', ':');
+    }
+}
@@ -27,6 +27,8 @@
 import co.aikar.timings.Timing;
 import co.aikar.timings.Timings;
 import com.google.common.collect.EvictingQueue;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import org.spongepowered.api.command.CommandMapping;
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.common.SpongeImpl;
@@ -53,6 +55,7 @@ public final class TimingsManager {
     public static final Timing PLUGIN_GROUP_HANDLER = SpongeTimingsFactory.ofSafe("Plugins");
     public static List<String> hiddenConfigs = new ArrayList<>();
     public static boolean privacy = false;
+    static boolean histogramsEnabled = false;
 
     static final Collection<TimingHandler> HANDLERS = new ArrayDeque<>();
     static final ArrayDeque<TimingHistory.MinuteReport> MINUTE_REPORTS = new ArrayDeque<>();
@@ -122,6 +125,7 @@ static void resetTimings() {
                 SpongeImpl.getLogger().info("Timings reset");
             }
             HISTORY.clear();
+            AsyncTimings.discard();
             needsFullReset = false;
             needsRecheckEnabled = false;
             timingStart = System.currentTimeMillis();
@@ -140,6 +144,36 @@ static void resetTimings() {
         historyStart = System.currentTimeMillis();
     }
 
+    /**
+     * Merges the histograms of every history entry and, if given, of the
+     * handlers still collecting the current interval, by handler id.
+     */
+    static Int2ObjectMap<TimingHistogram> collectHistograms(Iterable<TimingHistory> history, Iterable<TimingHandler> live) {
+        final Int2ObjectMap<TimingHistogram> histograms = new Int2ObjectOpenHashMap<>();
+        for (TimingHistory timingHistory : history) {
+            for (TimingHistoryEntry entry : timingHistory.entries) {
+                if (entry.histogram != null) {
+                    addHistogram(histograms, entry.data.getId(), entry.histogram);
+                }
+            }
+        }
+        for (TimingHandler handler : live) {
+            if (handler.histogram != null) {
+                addHistogram(histograms, handler.id, handler.histogram);
+            }
+        }
+        return histograms;
+    }
+
+    private static void addHistogram(Int2ObjectMap<TimingHistogram> histograms, int id, TimingHistogram histogram) {
+        final TimingHistogram existing = histograms.get(id);
+        if (existing == null) {
+            histograms.put(id, histogram.copy());
+        } else {
+            existing.add(histogram);
+        }
+    }
+
     static TimingHandler getHandler(String group, String name, Timing parent, boolean protect) {
         return TIMING_MAP.get(new TimingIdentifier(group, name, parent, protect));
     }
@@ -46,7 +46,7 @@ final class TimingsPls {
         }
     }
 
-    public static int getEntityId(final EntityType type) {
+    public static synchronized int getEntityId(final EntityType type) {
         if (type instanceof SpongeEntityType) {
             return ((SpongeEntityType) type).entityTypeId;
         }
@@ -58,7 +58,7 @@ public static int getEntityId(final EntityType type) {
         return fake;
     }
 
-    public static int getTileEntityId(final TileEntityType type) {
+    public static synchronized int getTileEntityId(final TileEntityType type) {
         int fake;
         if ((fake = TILE_ENTITY_IDS.getInt(type)) == NOT_FOUND) {
             fake = nextTileEntityId++;
@@ -0,0 +1,239 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.relocate.co.aikar.timings;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.entity.Entity;
+import net.minecraft.tileentity.TileEntity;
+import org.spongepowered.api.block.tileentity.TileEntityType;
+import org.spongepowered.api.entity.EntityType;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+/**
+ * A sampling profiler for the main server thread.
+ *
+ * <p>A daemon thread periodically captures the stack of the main thread
+ * while it is running and files the sample under the phase tracker state
+ * and source current at that moment, followed by the stack frames from the
+ * outermost call inwards. Samples taken while the main thread is sleeping
+ * between ticks or blocked are skipped. The tree is bounded: once
+ * {@link #MAX_NODES} frames exist, deeper calls are folded into their
+ * deepest known frame.</p>
+ *
+ * <p>The result is written as folded stacks next to local timings
+ * exports.</p>
+ */
+public final class TimingsSampler {
+
+    private static final int MAX_NODES = 100000;
+    private static final int MAX_DEPTH = 256;
+
+    private static final class Node {
+
+        final String name;
+        final Map<String, Node> children = new HashMap<>();
+        long self;
+
+        Node(String name) {
+            this.name = name;
+        }
+    }
+
+    private static final Object LOCK = new Object();
+    private static Node root = new Node("root");
+    private static int nodeCount;
+    private static long samples;
+
+    @Nullable private static ScheduledExecutorService executor;
+    @Nullable private static ScheduledFuture<?> task;
+    @Nullable private static Thread target;
+
+    private TimingsSampler() {
+    }
+
+    public static synchronized boolean isRunning() {
+        return task != null;
+    }
+
+    /**
+     * Starts sampling the main server thread.
+     *
+     * @param intervalMillis The time between two samples
+     */
+    public static synchronized void start(int intervalMillis) {
+        if (task != null) {
+            return;
+        }
+        if (executor == null) {
+            executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                    .setNameFormat("Sponge - Sampling Profiler")
+                    .setDaemon(true)
+                    .build());
+        }
+        target = SpongeImpl.getServer().serverThread;
+        final long interval = Math.max(1, intervalMillis);
+        task = executor.scheduleAtFixedRate(TimingsSampler::sample, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public static synchronized void stop() {
+        if (task != null) {
+            task.cancel(false);
+            task = null;
+        }
+    }
+
+    public static void reset() {
+        synchronized (LOCK) {
+            root = new Node("root");
+            nodeCount = 0;
+            samples = 0;
+        }
+    }
+
+    public static long getSampleCount() {
+        synchronized (LOCK) {
+            return samples;
+        }
+    }
+
+    private static void sample() {
+        final Thread thread = target;
+        if (thread == null || thread.getState() != Thread.State.RUNNABLE) {
+            return;
+        }
+        final PhaseContext<?> context = PhaseTracker.getInstance().getPublishedContext();
+        final StackTraceElement[] stack = thread.getStackTrace();
+        if (stack.length == 0) {
+            return;
+        }
+        final String attribution = describe(context);
+
+        synchronized (LOCK) {
+            samples++;
+            Node node = child(root, attribution);
+            if (node == null) {
+                return;
+            }
+            final int outermost = stack.length - 1;
+            final int innermost = Math.max(0, stack.length - MAX_DEPTH);
+            for (int i = outermost; i >= innermost; i--) {
+                final Node next = child(node, stack[i].getClassName() + '.' + stack[i].getMethodName());
+                if (next == null) {
+                    break;
+                }
+                node = next;
+            }
+            node.self++;
+        }
+    }
+
+    @Nullable
+    private static Node child(Node parent, String name) {
+        Node node = parent.children.get(name);
+        if (node == null) {
+            if (nodeCount >= MAX_NODES) {
+                return null;
+            }
+            node = new Node(name);
+            parent.children.put(name, node);
+            nodeCount++;
+        }
+        return node;
+    }
+
+    private static String describe(@Nullable PhaseContext<?> context) {
+        if (context == null) {
+            return "[no phase]";
+        }
+        final Object source = context.getSource();
+        final String state = String.valueOf(context.state);
+        if (source == null) {
+            return "[" + state + "]";
+        }
+        final String sourceName;
+        if (source instanceof PluginContainer) {
+            sourceName = "plugin " + ((PluginContainer) source).getId();
+        } else if (source instanceof Entity) {
+            final EntityType type = ((org.spongepowered.api.entity.Entity) source).getType();
+            sourceName = "entity " + (type == null ? source.getClass().getName() : type.getId());
+        } else if (source instanceof TileEntity) {
+            final TileEntityType type = ((org.spongepowered.api.block.tileentity.TileEntity) source).getType();
+            sourceName = "tile " + (type == null ? source.getClass().getName() : type.getId());
+        } else {
+            sourceName = source.getClass().getSimpleName();
+        }
+        return "[" + state + " - " + sourceName + "]";
+    }
+
+    /**
+     * Writes the samples as folded stacks, one line per distinct stack with
+     * its sample count.
+     *
+     * @param writer The writer
+     * @return Whether any sample was written
+     */
+    static boolean write(Writer writer) throws IOException {
+        final StringBuilder out = new StringBuilder();
+        synchronized (LOCK) {
+            if (samples == 0) {
+                return false;
+            }
+            for (Node node : root.children.values()) {
+                fold(out, new StringBuilder(), node);
+            }
+        }
+        writer.append(out);
+        return true;
+    }
+
+    private static void fold(StringBuilder out, StringBuilder stack, Node node) {
+        final int length = stack.length();
+        if (length > 0) {
+            stack.append(';');
+        }
+        stack.append(node.name.replace(';', ':'));
+        if (node.self > 0) {
+            out.append(stack).append(' ').append(node.self).append('\n');
+        }
+        for (Node child : node.children.values()) {
+            fold(out, stack, child);
+        }
+        stack.setLength(length);
+    }
+}
@@ -76,6 +76,8 @@ public class WorldTimingsHandler {
     // Chunk population
     public final Timing chunkPopulate;
 
+    public final TimingRegionCounts regionCounts = new TimingRegionCounts();
+
     public WorldTimingsHandler(World world) {
         String name = world.getWorldInfo().getWorldName() + " - ";
 
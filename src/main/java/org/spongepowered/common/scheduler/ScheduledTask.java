@@ -26,6 +26,7 @@
 
 import com.google.common.base.MoreObjects;
 
+import org.spongepowered.common.relocate.co.aikar.timings.AsyncTimings;
 import org.spongepowered.common.relocate.co.aikar.timings.SpongeTimings;
 import co.aikar.timings.Timing;
 
@@ -54,6 +55,7 @@ public class ScheduledTask implements Task {
     private final TaskSynchronicity syncType;
     private final String stringRepresentation;
     private Timing taskTimer;
+    private AsyncTimings.Id asyncTimingsId;
 
     // Internal Task state. Not for user-service use.
     public enum ScheduledTaskState {
@@ -202,4 +204,12 @@ public Timing getTimingsHandler() {
         }
         return this.taskTimer;
     }
+
+    public AsyncTimings.Id getAsyncTimingsId() {
+        if (this.asyncTimingsId == null) {
+            // Per plugin like the synchronous task timings, task names and consumer classes are often unique per task
+            this.asyncTimingsId = AsyncTimings.id(this.owner.getName(), "Async Tasks");
+        }
+        return this.asyncTimingsId;
+    }
 }
@@ -25,6 +25,7 @@
 package org.spongepowered.common.scheduler;
 
 import co.aikar.timings.Timing;
+import org.spongepowered.common.relocate.co.aikar.timings.AsyncTimings;
 import org.spongepowered.common.relocate.co.aikar.timings.TimingsManager;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
@@ -188,12 +189,16 @@ protected void startTask(final ScheduledTask task) {
                 if (context != null) {
                     context.buildAndSwitch();
                 }
+                final long start = task.isAsynchronous() ? AsyncTimings.start() : 0;
                 try {
                     task.getConsumer().accept(task);
                 } catch (Throwable t) {
                     SpongeImpl.getLogger().error("The Scheduler tried to run the task {} owned by {}, but an error occured.", task.getName(),
                         task.getOwner(), t);
                 }
+                if (start != 0) {
+                    AsyncTimings.stop(task.getAsyncTimingsId(), start);
+                }
             }
         });
     }
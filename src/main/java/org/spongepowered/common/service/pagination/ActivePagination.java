@@ -204,7 +204,11 @@ protected Text calculateFooter(int currentPage) {
     }
 
     protected void padPage(final List<Text> currentPage, final int currentPageLines, final boolean addContinuation) {
-        final int maxContentLinesPerPage = getMaxContentLinesPerPage();
+        padPage(currentPage, currentPageLines, getMaxContentLinesPerPage(), addContinuation);
+    }
+
+    static void padPage(final List<Text> currentPage, final int currentPageLines, final int maxContentLinesPerPage,
+            final boolean addContinuation) {
         for (int i = currentPageLines; i < maxContentLinesPerPage; i++) {
             if (addContinuation && i == maxContentLinesPerPage - 1) {
                 currentPage.add(CONTINUATION_TEXT);
@@ -31,10 +31,8 @@
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.channel.MessageReceiver;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
@@ -43,44 +41,17 @@
  * Pagination working with a list of values.
  */
 class ListPagination extends ActivePagination {
-    private final List<List<Text>> pages;
+    private final PaginationLayout layout;
 
-    public ListPagination(Supplier<Optional<MessageReceiver>> src, PaginationCalculator calc, List<Map.Entry<Text, Integer>> lines,
+    public ListPagination(Supplier<Optional<MessageReceiver>> src, PaginationCalculator calc, IntFunction<PaginationLayout> layout,
             @Nullable Text title, @Nullable Text header, @Nullable Text footer, Text padding) {
         super(src, calc, title, header, footer, padding);
-        List<List<Text>> pages = new ArrayList<>();
-        List<Text> currentPage = new ArrayList<>();
-        int currentPageLines = 0;
-
-        for (Map.Entry<Text, Integer> ent : lines) {
-            final boolean finiteLinesPerPage  = getMaxContentLinesPerPage() > 0;
-            final boolean willExceedPageLength = ent.getValue() + currentPageLines > getMaxContentLinesPerPage();
-            final boolean currentPageNotEmpty = currentPageLines != 0;
-            final boolean spillToNextPage = finiteLinesPerPage && willExceedPageLength && currentPageNotEmpty;
-            if (spillToNextPage) {
-                padPage(currentPage, currentPageLines, true);
-                currentPageLines = 0;
-                pages.add(currentPage);
-                currentPage = new ArrayList<>();
-            }
-            currentPageLines += ent.getValue();
-            currentPage.add(ent.getKey());
-        }
-        //last page is not yet committed
-        final boolean lastPageNotEmpty = currentPageLines > 0;
-        if (lastPageNotEmpty) {
-            if (!pages.isEmpty()) {
-                // Only pad if we have a previous page
-                padPage(currentPage, currentPageLines, false);
-            }
-            pages.add(currentPage);
-        }
-        this.pages = pages;
+        this.layout = layout.apply(getMaxContentLinesPerPage());
     }
 
     @Override
     protected Iterable<Text> getLines(int page) throws CommandException {
-        final int size = this.pages.size();
+        final int size = this.layout.getTotalPages();
         if (size == 0) {
             return ImmutableList.of();
         } else if (page < 1) {
@@ -88,7 +59,7 @@ protected Iterable<Text> getLines(int page) throws CommandException {
         } else if (page > size) {
             throw new CommandException(t("Page %s is greater than the max of %s!", page, size));
         }
-        return this.pages.get(page - 1);
+        return this.layout.getPage(page - 1);
     }
 
     @Override
@@ -98,11 +69,11 @@ protected boolean hasPrevious(int page) {
 
     @Override
     protected boolean hasNext(int page) {
-        return page < this.pages.size();
+        return page < this.layout.getTotalPages();
     }
 
     @Override
     protected int getTotalPages() {
-        return this.pages.size();
+        return this.layout.getTotalPages();
     }
 }
@@ -53,6 +53,12 @@ class PaginationCalculator {
     private static final String NON_UNICODE_CHARS;
     private static final int[] NON_UNICODE_CHAR_WIDTHS;
     private static final byte[] UNICODE_CHAR_WIDTHS;
+    /**
+     * Flat lookup table of the (non bold) widths of all characters, indexed
+     * by code point, so measuring a line does not have to search the
+     * non-unicode character list for every character.
+     */
+    private static final byte[] CHAR_WIDTHS;
     private static final int LINE_WIDTH = 320;
 
     private final int linesPerPage;
@@ -87,6 +93,12 @@ class PaginationCalculator {
                 unicodeCharWidths[i] = (byte) glyphWidths.get(i).getInt();
             }
             UNICODE_CHAR_WIDTHS = unicodeCharWidths;
+
+            byte[] charWidths = new byte[unicodeCharWidths.length];
+            for (int i = 0; i < charWidths.length; ++i) {
+                charWidths[i] = (byte) computeWidth(i);
+            }
+            CHAR_WIDTHS = charWidths;
         } catch (IOException e) {
             throw new ExceptionInInitializerError(e);
         }
@@ -117,6 +129,23 @@ int getLines(Text text) {
      */
     @VisibleForTesting
     int getWidth(int codePoint, boolean isBold) {
+        int width = codePoint >= 0 && codePoint < CHAR_WIDTHS.length ? CHAR_WIDTHS[codePoint] : 0;
+        //if bolded width gets 1 added.
+        if(isBold && width > 0) {
+            width = width + 1;
+        }
+
+        return width;
+    }
+
+    /**
+     * Computes the width of a character with the specified code
+     * point, ignoring any styles.
+     *
+     * @param codePoint The code point of the character
+     * @return The width of the character at the code point
+     */
+    private static int computeWidth(int codePoint) {
         int nonUnicodeIdx = NON_UNICODE_CHARS.indexOf(codePoint);
         int width;
         if (codePoint == 32) {
@@ -144,10 +173,6 @@ int getWidth(int codePoint, boolean isBold) {
         } else {
             width = 0;
         }
-        //if bolded width gets 1 added.
-        if(isBold && width > 0) {
-            width = width + 1;
-        }
 
         return width;
     }
@@ -0,0 +1,152 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.pagination;
+
+import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import org.spongepowered.api.text.Text;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The page layout of a list of pagination contents.
+ *
+ * <p>The page boundaries are calculated once from the precomputed line
+ * counts of the contents, while the pages themselves are only rendered
+ * when they are first requested. Rendered pages are shared by every
+ * pagination created from the same contents.</p>
+ */
+final class PaginationLayout {
+
+    private final List<Text> contents;
+    private final int[] lineCounts;
+    private final int maxContentLinesPerPage;
+    /**
+     * The index of the first content line of each page, followed by the
+     * total amount of content lines.
+     */
+    private final int[] pageStarts;
+    /**
+     * The amount of lines the contents of each page flow into.
+     */
+    private final int[] pageLines;
+    private final AtomicReferenceArray<List<Text>> pages;
+
+    /**
+     * Constructs a new pagination layout.
+     *
+     * @param contents The contents to paginate
+     * @param lineCounts The amount of lines each content flows into
+     * @param maxContentLinesPerPage The maximum amount of content lines per
+     *     page, or a value {@code <= 0} for a single unlimited page
+     */
+    PaginationLayout(List<Text> contents, int[] lineCounts, int maxContentLinesPerPage) {
+        this.contents = contents;
+        this.lineCounts = lineCounts;
+        this.maxContentLinesPerPage = maxContentLinesPerPage;
+
+        final IntList pageStarts = new IntArrayList();
+        final IntList pageLines = new IntArrayList();
+        int currentPageLines = 0;
+        boolean pageOpen = false;
+
+        for (int i = 0; i < lineCounts.length; i++) {
+            final boolean finiteLinesPerPage = maxContentLinesPerPage > 0;
+            final boolean willExceedPageLength = lineCounts[i] + currentPageLines > maxContentLinesPerPage;
+            final boolean currentPageNotEmpty = currentPageLines != 0;
+            final boolean spillToNextPage = finiteLinesPerPage && willExceedPageLength && currentPageNotEmpty;
+            if (spillToNextPage) {
+                pageLines.add(currentPageLines);
+                currentPageLines = 0;
+                pageOpen = false;
+            }
+            if (!pageOpen) {
+                pageStarts.add(i);
+                pageOpen = true;
+            }
+            currentPageLines += lineCounts[i];
+        }
+        //last page is not yet committed
+        if (currentPageLines > 0) {
+            pageLines.add(currentPageLines);
+            pageStarts.add(lineCounts.length);
+        } else if (!pageOpen) {
+            pageStarts.add(lineCounts.length);
+        }
+        // Otherwise the start of the trailing page without any lines marks the end of the last page
+
+        this.pageStarts = pageStarts.toIntArray();
+        this.pageLines = pageLines.toIntArray();
+        this.pages = new AtomicReferenceArray<>(this.pageLines.length);
+    }
+
+    int[] getLineCounts() {
+        return this.lineCounts;
+    }
+
+    int getMaxContentLinesPerPage() {
+        return this.maxContentLinesPerPage;
+    }
+
+    int getTotalPages() {
+        return this.pageLines.length;
+    }
+
+    /**
+     * Gets the rendered lines of the page at the specified index, rendering
+     * the page if this is the first time it is requested.
+     *
+     * @param index The index of the page, starting at {@code 0}
+     * @return The lines of the page
+     */
+    List<Text> getPage(int index) {
+        List<Text> page = this.pages.get(index);
+        if (page == null) {
+            page = renderPage(index);
+            if (!this.pages.compareAndSet(index, null, page)) {
+                page = this.pages.get(index);
+            }
+        }
+        return page;
+    }
+
+    private List<Text> renderPage(int index) {
+        final List<Text> page = new ArrayList<>(Math.max(this.maxContentLinesPerPage, 0));
+        page.addAll(this.contents.subList(this.pageStarts[index], this.pageStarts[index + 1]));
+
+        final boolean lastPage = index == this.pageLines.length - 1;
+        if (!lastPage) {
+            ActivePagination.padPage(page, this.pageLines[index], this.maxContentLinesPerPage, true);
+        } else if (index > 0) {
+            // Only pad if we have a previous page
+            ActivePagination.padPage(page, this.pageLines[index], this.maxContentLinesPerPage, false);
+        }
+        return ImmutableList.copyOf(page);
+    }
+
+}
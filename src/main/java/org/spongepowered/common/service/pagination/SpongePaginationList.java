@@ -53,16 +53,23 @@ public class SpongePaginationList implements PaginationList {
 
     private final SpongePaginationService service;
     private final Iterable<Text> contents;
+    // Taken once when the contents are set, so page layouts can be cached without comparing the contents on every send
+    @Nullable private final List<Text> listContents;
     private final Optional<Text> title;
     private final Optional<Text> header;
     private final Optional<Text> footer;
     private final Text paginationSpacer;
     private final int linesPerPage;
 
+    // Caches for list contents, shared by all paginations sent from this list
+    @Nullable private volatile PaginationLayout layout;
+    @Nullable private volatile Text centeredTitle;
+
     public SpongePaginationList(SpongePaginationService service, Iterable<Text> contents, @Nullable Text title, @Nullable Text header,
             @Nullable Text footer, Text paginationSpacer, int linesPerPage) {
         this.service = service;
         this.contents = contents;
+        this.listContents = contents instanceof List ? ImmutableList.copyOf(contents) : null;
         this.title = Optional.ofNullable(title);
         this.header = Optional.ofNullable(header);
         this.footer = Optional.ofNullable(footer);
@@ -110,14 +117,14 @@ public void sendTo(final MessageReceiver receiver, int page) {
             realSource = ((ProxySource)realSource).getOriginalSource();
         }
         final PaginationCalculator calculator = new PaginationCalculator(this.linesPerPage);
-        Iterable<Map.Entry<Text, Integer>> counts = StreamSupport.stream(this.contents.spliterator(), false).map(input -> {
-            int lines = calculator.getLines(input);
-            return Maps.immutableEntry(input, lines);
-        }).collect(Collectors.toList());
 
         Text title = this.title.orElse(null);
         if (title != null) {
-            title = calculator.center(title, this.paginationSpacer);
+            Text centeredTitle = this.centeredTitle;
+            if (centeredTitle == null) {
+                this.centeredTitle = centeredTitle = calculator.center(title, this.paginationSpacer);
+            }
+            title = centeredTitle;
         }
 
         // If the MessageReceiver is a Player, then upon death, they will become a different MessageReceiver object.
@@ -132,10 +139,14 @@ public void sendTo(final MessageReceiver receiver, int page) {
         }
 
         ActivePagination pagination;
-        if (this.contents instanceof List) { // If it started out as a list, it's probably reasonable to copy it to another list
-            pagination = new ListPagination(messageReceiverSupplier, calculator, ImmutableList.copyOf(counts), title, this.header.orElse(null),
-                    this.footer.orElse(null), this.paginationSpacer);
+        if (this.listContents != null) { // If it started out as a list, the layout of its pages can be reused
+            pagination = new ListPagination(messageReceiverSupplier, calculator, maxLines -> getLayout(calculator, maxLines), title,
+                    this.header.orElse(null), this.footer.orElse(null), this.paginationSpacer);
         } else {
+            Iterable<Map.Entry<Text, Integer>> counts = StreamSupport.stream(this.contents.spliterator(), false).map(input -> {
+                int lines = calculator.getLines(input);
+                return Maps.immutableEntry(input, lines);
+            }).collect(Collectors.toList());
             pagination = new IterablePagination(messageReceiverSupplier, calculator, counts, title, this.header.orElse(null),
                     this.footer.orElse(null), this.paginationSpacer);
         }
@@ -147,4 +158,35 @@ public void sendTo(final MessageReceiver receiver, int page) {
             receiver.sendMessage(error(e.getText()));
         }
     }
+
+    /**
+     * Gets the page layout of the list contents for the specified maximum
+     * amount of content lines per page. The line counts of the contents are
+     * only calculated once.
+     *
+     * @param calculator The calculator to measure the contents with
+     * @param maxContentLinesPerPage The maximum amount of content lines per page
+     * @return The page layout
+     */
+    private PaginationLayout getLayout(PaginationCalculator calculator, int maxContentLinesPerPage) {
+        final List<Text> contents = checkNotNull(this.listContents, "listContents");
+        PaginationLayout layout = this.layout;
+        if (layout != null && layout.getMaxContentLinesPerPage() == maxContentLinesPerPage) {
+            return layout;
+        }
+
+        final int[] lineCounts;
+        if (layout != null) {
+            lineCounts = layout.getLineCounts();
+        } else {
+            lineCounts = new int[contents.size()];
+            for (int i = 0; i < lineCounts.length; i++) {
+                lineCounts[i] = calculator.getLines(contents.get(i));
+            }
+        }
+
+        layout = new PaginationLayout(contents, lineCounts, maxContentLinesPerPage);
+        this.layout = layout;
+        return layout;
+    }
 }
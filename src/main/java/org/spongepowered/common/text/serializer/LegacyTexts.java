@@ -24,27 +24,21 @@
  */
 package org.spongepowered.common.text.serializer;
 
-import com.google.common.collect.Lists;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.Style;
 import net.minecraft.util.text.TextComponentString;
 import net.minecraft.util.text.TextFormatting;
-import org.spongepowered.api.text.LiteralText;
 import org.spongepowered.api.text.Text;
-import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.api.text.format.TextStyles;
 import org.spongepowered.common.text.format.SpongeTextColor;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 import javax.annotation.Nullable;
 
 public final class LegacyTexts {
 
-    private static final int FORMATTING_CODE_LENGTH = 2;
-
     private static final TextFormatting[] formatting = TextFormatting.values();
     private static final String LOOKUP;
 
@@ -84,13 +78,37 @@ public static TextFormatting parseFormat(char format) {
         return pos != -1 ? formatting[pos] : null;
     }
 
+    /**
+     * Returns the index of the first valid formatting code in the input
+     * string, starting the search at the specified index.
+     *
+     * @param input The input string
+     * @param code The formatting sign (e.g. {@code &})
+     * @param from The index to start searching at
+     * @return The index of the formatting sign, or {@code -1} if none
+     */
+    public static int indexOfFormat(String input, char code, int from) {
+        final int last = input.length() - 1;
+        int next = input.indexOf(code, from);
+        while (next != -1 && next < last) {
+            if (isFormat(input.charAt(next + 1))) {
+                return next;
+            }
+            next = input.indexOf(code, next + 1);
+        }
+        return -1;
+    }
+
     /**
      * This method parses an input string with formatting codes into a
      * {@link Text} object.
      *
-     * <p>This implementation parses the input string in reverse direction
-     * to avoid recursion. It returns a {@link Text} which is equivalent
-     * to the input string when rendered on the client.</p>
+     * <p>This implementation parses the input string in a single forward
+     * pass over its characters. It returns a flat {@link Text} (the plain
+     * prefix followed by one child per formatted segment) which is
+     * equivalent to the input string when rendered on the client. Input
+     * strings without any formatting codes are returned as plain text
+     * without being copied.</p>
      *
      * <p>Note: The implementation does not attempt to preserve redundant
      * formatting codes (e.g. two consecutive color codes). Only relevant
@@ -101,177 +119,144 @@ public static TextFormatting parseFormat(char format) {
      * @return The parsed text
      */
     public static Text parse(String input, char code) {
-        int pos = input.length();
-        if (pos < FORMATTING_CODE_LENGTH) {
-            // Not enough characters to form a formatting code => plain text
+        final int first = indexOfFormat(input, code, 0);
+        if (first == -1) {
+            // No formatting code found => plain text
             return Text.of(input);
         }
 
-        // Find the first (potential) formatting code
-        int next = input.lastIndexOf(code, pos - FORMATTING_CODE_LENGTH);
-        if (next == -1) {
-            // No potential formatting code found => plain text
-            return Text.of(input);
+        final List<Text> parts = new ArrayList<>();
+        parse(input, code, first, (content, color, styles) -> {
+            final Text.Builder builder = Text.builder(content);
+            if (color != null) {
+                builder.color(SpongeTextColor.of(color));
+            }
+            applyStyles(builder, styles);
+            parts.add(builder.build());
+        });
+
+        if (parts.isEmpty()) {
+            // Text contains only (redundant) formatting codes
+            return first == 0 ? Text.EMPTY : Text.of(input.substring(0, first));
         }
 
-        LiteralText.Builder current = null;
-        boolean reset = false;
-        List<Text> parts = Lists.newArrayList();
+        if (first == 0 && parts.size() == 1) {
+            // Return simple text if there is only one text style in the input string
+            return parts.get(0);
+        }
 
-        do {
-            // Parse the formatting code
-            final TextFormatting format = parseFormat(input.charAt(next + 1));
-            if (format != null) {
-                final int from = next + FORMATTING_CODE_LENGTH;
-                if (from != pos) {
-                    // The plain text between the current and last formatting code
-                    final String content = input.substring(from, pos);
-
-                    if (current != null) {
-                        if (reset) {
-                            // Color codes reset the text style so we avoid inheritance
-                            // by adding directly to the root text
-                            parts.add(current.build());
-                            reset = false;
-                            current = Text.builder(content);
-                        } else {
-                            // Inherit color/style
-                            current = Text.builder(content).append(current.build());
-                        }
-                    } else {
-                        current = Text.builder(content);
-                    }
-                }
-
-                // current == null => style does not apply to any content
-                if (current != null) {
-                    reset |= applyStyle(current, format);
-                }
-
-                // Mark the current position
-                pos = next;
+        return Text.builder(first > 0 ? input.substring(0, first) : "").append(parts).build();
+    }
+
+    @FunctionalInterface
+    private interface SegmentConsumer {
+
+        void accept(String content, @Nullable TextFormatting color, int styles);
+
+    }
+
+    /**
+     * Walks the input string once from the specified (valid) formatting code
+     * onwards, passing every non-empty formatted segment to the consumer.
+     * Styles are passed as a bit set of {@link TextFormatting} ordinals.
+     */
+    private static void parse(String input, char code, int first, SegmentConsumer consumer) {
+        final char[] chars = input.toCharArray();
+        final int last = chars.length - 1;
+
+        TextFormatting color = null;
+        int styles = 0;
+        int start = first;
+
+        for (int i = first; i < last; i++) {
+            if (chars[i] != code) {
+                continue;
+            }
+
+            final TextFormatting format = parseFormat(chars[i + 1]);
+            if (format == null) {
+                continue;
             }
 
-            // Search for next formatting code
-            next = input.lastIndexOf(code, next - 1);
-        } while (next != -1);
+            if (start != i) {
+                consumer.accept(new String(chars, start, i - start), color, styles);
+            }
 
-        if (current == null) {
-            // No formatted text found
-            if (pos == 0) {
-                // Text contains only (redundant) formatting codes => empty text
-                return Text.EMPTY;
+            if (format.isColor() || format == TextFormatting.RESET) {
+                // Color codes reset the text style
+                color = format;
+                styles = 0;
             } else {
-                // No valid formatting code found => plain text
-                return Text.of(input);
+                styles |= 1 << format.ordinal();
             }
+
+            start = ++i + 1;
         }
 
-        // Return simple text if there is only one text style in the input string
-        if (pos == 0 && parts.isEmpty()) {
-            return current.build();
+        if (start < chars.length) {
+            consumer.accept(new String(chars, start, chars.length - start), color, styles);
         }
+    }
 
-        // Build the resulting text
-        parts.add(current.build());
-        Collections.reverse(parts);
-        return Text.builder(pos > 0 ? input.substring(0, pos) : "").append(parts).build();
+    private static boolean hasStyle(int styles, TextFormatting formatting) {
+        return (styles & (1 << formatting.ordinal())) != 0;
     }
 
-    private static boolean applyStyle(Text.Builder builder, TextFormatting formatting) {
-        switch (formatting) {
-            case BOLD:
-                builder.style(TextStyles.BOLD);
-                break;
-            case ITALIC:
-                builder.style(TextStyles.ITALIC);
-                break;
-            case UNDERLINE:
-                builder.style(TextStyles.UNDERLINE);
-                break;
-            case STRIKETHROUGH:
-                builder.style(TextStyles.STRIKETHROUGH);
-                break;
-            case OBFUSCATED:
-                builder.style(TextStyles.OBFUSCATED);
-                break;
-            default:
-                if (builder.getColor() == TextColors.NONE) {
-                    builder.color(SpongeTextColor.of(formatting));
-                }
-                return true;
+    private static void applyStyles(Text.Builder builder, int styles) {
+        if (styles == 0) {
+            return;
         }
+        if (hasStyle(styles, TextFormatting.BOLD)) {
+            builder.style(TextStyles.BOLD);
+        }
+        if (hasStyle(styles, TextFormatting.ITALIC)) {
+            builder.style(TextStyles.ITALIC);
+        }
+        if (hasStyle(styles, TextFormatting.UNDERLINE)) {
+            builder.style(TextStyles.UNDERLINE);
+        }
+        if (hasStyle(styles, TextFormatting.STRIKETHROUGH)) {
+            builder.style(TextStyles.STRIKETHROUGH);
+        }
+        if (hasStyle(styles, TextFormatting.OBFUSCATED)) {
+            builder.style(TextStyles.OBFUSCATED);
+        }
+    }
 
-        return false;
+    private static TextComponentString createComponent(String content, @Nullable TextFormatting color, int styles) {
+        final TextComponentString component = new TextComponentString(content);
+        final Style style = component.getStyle();
+        style.color = color;
+        if (styles != 0) {
+            style.bold = hasStyle(styles, TextFormatting.BOLD) ? Boolean.TRUE : null;
+            style.italic = hasStyle(styles, TextFormatting.ITALIC) ? Boolean.TRUE : null;
+            style.underlined = hasStyle(styles, TextFormatting.UNDERLINE) ? Boolean.TRUE : null;
+            style.strikethrough = hasStyle(styles, TextFormatting.STRIKETHROUGH) ? Boolean.TRUE : null;
+            style.obfuscated = hasStyle(styles, TextFormatting.OBFUSCATED) ? Boolean.TRUE : null;
+        }
+        return component;
     }
 
     public static TextComponentString parseComponent(TextComponentString component, char code) {
-        String text = component.getText();
-        int next = text.lastIndexOf(code, text.length() - 2);
-
-        List<ITextComponent> parsed = null;
-        if (next >= 0) {
-            parsed = new ArrayList<>();
-
-            TextComponentString current = null;
-            boolean reset = false;
-
-            int pos = text.length();
-            do {
-                TextFormatting format = parseFormat(text.charAt(next + 1));
-                if (format != null) {
-                    int from = next + 2;
-                    if (from != pos) {
-                        if (current != null) {
-                            if (reset) {
-                                parsed.add(current);
-                                current.getStyle().setParentStyle(component.getStyle());
-                                reset = false;
-                                current = new TextComponentString("");
-                            } else {
-                                TextComponentString old = current;
-                                current = new TextComponentString("");
-                                current.appendSibling(old);
-                            }
-                        } else {
-                            current = new TextComponentString("");
-                        }
-
-                        current.text = text.substring(from, pos);
-                    } else if (current == null) {
-                        current = new TextComponentString("");
-                    }
-
-                    reset |= applyStyle(current.getStyle(), format);
-                    pos = next;
-                }
-
-                next = text.lastIndexOf(code, next - 1);
-            } while (next != -1);
-
-            if (current != null) {
-                parsed.add(current);
-                current.getStyle().setParentStyle(component.getStyle());
-            }
-
-            Collections.reverse(parsed);
-            text = pos > 0 ? text.substring(0, pos) : "";
-            if (component.getSiblings().isEmpty()) {
-                TextComponentString newComponent = new TextComponentString(text);
-                newComponent.getSiblings().addAll(parsed);
-                newComponent.setStyle(component.getStyle());
-                return newComponent;
-            }
-        } else if (component.getSiblings().isEmpty()) {
+        final String text = component.getText();
+        final int first = indexOfFormat(text, code, 0);
+        if (first == -1 && component.getSiblings().isEmpty()) {
+            // Fast path: nothing to parse
             return component;
         }
 
-        TextComponentString newComponent = new TextComponentString(text);
-        if (parsed != null) {
-            newComponent.getSiblings().addAll(parsed);
+        final TextComponentString newComponent = new TextComponentString(first > 0 ? text.substring(0, first) : first == 0 ? "" : text);
+        newComponent.setStyle(component.getStyle());
+
+        if (first != -1) {
+            final List<ITextComponent> siblings = newComponent.getSiblings();
+            parse(text, code, first, (content, color, styles) -> {
+                final TextComponentString part = createComponent(content, color, styles);
+                part.getStyle().setParentStyle(component.getStyle());
+                siblings.add(part);
+            });
         }
 
-        newComponent.setStyle(component.getStyle());
         for (ITextComponent child : component.getSiblings()) {
             if (child instanceof TextComponentString) {
                 child = parseComponent((TextComponentString) child, code);
@@ -284,33 +269,6 @@ public static TextComponentString parseComponent(TextComponentString component,
         return newComponent;
     }
 
-    private static boolean applyStyle(Style style, TextFormatting formatting) {
-        switch (formatting) {
-            case BOLD:
-                style.bold = true;
-                break;
-            case ITALIC:
-                style.italic = true;
-                break;
-            case UNDERLINE:
-                style.underlined = true;
-                break;
-            case STRIKETHROUGH:
-                style.strikethrough = true;
-                break;
-            case OBFUSCATED:
-                style.obfuscated = true;
-                break;
-            default:
-                if (style.color == null) {
-                    style.color = formatting;
-                }
-                return true;
-        }
-
-        return false;
-    }
-
     public static String replace(String text, char from, char to) {
         int pos = text.indexOf(from);
         int last = text.length() - 1;
@@ -290,7 +290,7 @@ public static boolean checkBoundingBoxSize(Entity entity, AxisAlignedBB aabb) {
             return false; // only check living entities, so long as they are not a player or multipart entity
         }
 
-        int maxBoundingBoxSize = config.getConfig().getEntity().getMaxBoundingBoxSize();
+        int maxBoundingBoxSize = config.getSnapshot().getMaxBoundingBoxSize();
         if (maxBoundingBoxSize <= 0) {
             return false;
         }
@@ -325,11 +325,11 @@ public static boolean checkEntitySpeed(Entity entity, double x, double y, double
         }
 
         SpongeConfig<? extends GeneralConfigBase> config = getWorldConfig((WorldServer) entity.world);
-        int maxSpeed = config.getConfig().getEntity().getMaxSpeed();
+        int maxSpeed = config.getSnapshot().getMaxEntitySpeed();
         if (maxSpeed > 0) {
             double distance = x * x + z * z;
             if (distance > maxSpeed && !entity.isRiding()) {
-                if (config.getConfig().getLogging().logEntitySpeedRemoval()) {
+                if (config.getSnapshot().logEntitySpeedRemoval()) {
                     logInfo("Speed violation: {0} was over {1} - Removing Entity: {2}", distance, maxSpeed, entity);
                     if (entity instanceof EntityLivingBase) {
                         EntityLivingBase livingBase = (EntityLivingBase) entity;
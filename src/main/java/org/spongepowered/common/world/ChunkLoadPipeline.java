@@ -0,0 +1,239 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads the chunks of a world from disk on worker threads.
+ *
+ * <p>Region I/O, decompression and NBT parsing happen on a shared pool of
+ * worker threads. Loads whose data has been read are handed back through
+ * {@link #pollCompleted()} so that the chunk provider can create the chunk,
+ * its entities and tile entities on the main thread through its regular load
+ * path, which picks up the data of the pending load. Pending loads are keyed
+ * by chunk position, so requesting the same chunk twice only reads it
+ * once.</p>
+ */
+public final class ChunkLoadPipeline {
+
+    @Nullable private static ExecutorService executor;
+
+    private static synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            final int threads = Math.max(1, SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getAsyncChunkLoadingCategory().getNumThreads());
+            executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                    .setNameFormat("Sponge - Async Chunk Load Thread #%d")
+                    .setDaemon(true)
+                    .build());
+        }
+        return executor;
+    }
+
+    private final IMixinAnvilChunkLoader chunkLoader;
+    // Only accessed from the main thread
+    private final Long2ObjectMap<PendingLoad> pending = new Long2ObjectOpenHashMap<>();
+    private final BlockingQueue<PendingLoad> completed = new LinkedBlockingQueue<>();
+    // Completed loads that were polled but left for a later tick, only accessed from the main thread
+    private final Deque<PendingLoad> deferred = new ArrayDeque<>();
+
+    public ChunkLoadPipeline(IMixinAnvilChunkLoader chunkLoader) {
+        this.chunkLoader = chunkLoader;
+    }
+
+    /**
+     * Requests the chunk at the given position to be read, if it isn't
+     * being read already.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @param generate Whether the chunk should be generated if it doesn't
+     *     exist on disk
+     * @return The pending load
+     */
+    public PendingLoad request(int x, int z, boolean generate) {
+        final long key = ChunkPos.asLong(x, z);
+        PendingLoad load = this.pending.get(key);
+        if (load == null) {
+            load = new PendingLoad(x, z);
+            this.pending.put(key, load);
+            getExecutor().execute(load::read);
+        }
+        load.generate |= generate;
+        return load;
+    }
+
+    /**
+     * Gets the load that is in flight for the given position.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The pending load, or null if the chunk isn't being read
+     */
+    @Nullable
+    public PendingLoad getPending(int x, int z) {
+        return this.pending.get(ChunkPos.asLong(x, z));
+    }
+
+    /**
+     * Returns the next load whose data has been read. The load stays
+     * pending until it is {@link #complete completed}. Loads that were
+     * already completed directly, before their read was polled, are
+     * skipped.
+     *
+     * @return The load, or null if no read has completed
+     */
+    @Nullable
+    public PendingLoad pollCompleted() {
+        PendingLoad load;
+        do {
+            load = this.deferred.poll();
+            if (load == null) {
+                load = this.completed.poll();
+            }
+        } while (load != null && load.chunk.isDone());
+        return load;
+    }
+
+    /**
+     * Hands a polled load back so it is the first one to be polled again,
+     * for loads that can't be finished within the budget of this tick.
+     *
+     * @param load The load
+     */
+    public void defer(PendingLoad load) {
+        this.deferred.addFirst(load);
+    }
+
+    /**
+     * Removes the given load and completes its future with the loaded chunk.
+     *
+     * @param load The load
+     * @param chunk The loaded chunk, or null if it doesn't exist
+     */
+    public void complete(PendingLoad load, @Nullable Chunk chunk) {
+        this.consume(load);
+        load.chunk.complete(chunk);
+    }
+
+    /**
+     * Removes the given load once its data was used to create the chunk, so
+     * a later load of the same chunk reads the data saved since.
+     *
+     * @param load The load
+     */
+    public void consume(PendingLoad load) {
+        final long key = ChunkPos.asLong(load.x, load.z);
+        if (this.pending.get(key) == load) {
+            this.pending.remove(key);
+        }
+    }
+
+    /**
+     * Gets the amount of chunks that are being read or waiting to be
+     * finished on the main thread.
+     *
+     * @return The amount of pending loads
+     */
+    public int size() {
+        return this.pending.size();
+    }
+
+    public final class PendingLoad {
+
+        public final int x;
+        public final int z;
+        private final CompletableFuture<NBTTagCompound> data = new CompletableFuture<>();
+        private final CompletableFuture<Chunk> chunk = new CompletableFuture<>();
+        private boolean generate;
+
+        PendingLoad(int x, int z) {
+            this.x = x;
+            this.z = z;
+        }
+
+        // Called from a worker thread
+        private void read() {
+            try {
+                this.data.complete(ChunkLoadPipeline.this.chunkLoader.readChunkData(this.x, this.z));
+            } catch (Throwable t) {
+                this.data.completeExceptionally(t);
+            }
+            ChunkLoadPipeline.this.completed.add(this);
+        }
+
+        /**
+         * Waits for the data of the chunk to be read.
+         *
+         * @return The chunk data, or null if the chunk doesn't exist on disk
+         * @throws IOException If the chunk couldn't be read
+         */
+        @Nullable
+        public NBTTagCompound join() throws IOException {
+            try {
+                return this.data.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+            }
+        }
+
+        public boolean shouldGenerate() {
+            return this.generate;
+        }
+
+        /**
+         * Gets whether the chunk has to be generated once its data has been
+         * read, because it doesn't exist on disk.
+         *
+         * @return True if the chunk will be generated
+         */
+        public boolean needsGeneration() {
+            return this.generate && this.data.isDone() && !this.data.isCompletedExceptionally() && this.data.join() == null;
+        }
+
+        public CompletableFuture<Chunk> getFuture() {
+            return this.chunk;
+        }
+    }
+}
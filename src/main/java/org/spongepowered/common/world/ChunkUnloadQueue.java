@@ -0,0 +1,183 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.Chunk;
+
+import java.util.PriorityQueue;
+
+import javax.annotation.Nullable;
+
+/**
+ * The chunks of a world that are queued for unload, ordered by the time at
+ * which they are allowed to unload.
+ *
+ * <p>Chunks that are re-activated before they unload are removed from the
+ * lookup right away, their queue entries are dropped lazily once they reach
+ * the head of the queue. This keeps the cost of a tick proportional to the
+ * amount of chunks that are actually due, instead of the amount of loaded
+ * chunks.</p>
+ */
+public final class ChunkUnloadQueue {
+
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+    private final Long2ObjectMap<Entry> entries = new Long2ObjectOpenHashMap<>();
+
+    private long unloadCount;
+    private long totalUnloadLatency;
+    private long maxUnloadLatency;
+
+    /**
+     * Queues a chunk for unload, if it isn't queued already.
+     *
+     * @param chunk The chunk
+     * @param unloadTime The time in milliseconds at which the chunk may unload
+     * @param now The current time in milliseconds
+     */
+    public void add(Chunk chunk, long unloadTime, long now) {
+        final long key = ChunkPos.asLong(chunk.x, chunk.z);
+        Entry entry = this.entries.get(key);
+        if (entry != null) {
+            if (entry.chunk == chunk) {
+                return;
+            }
+            entry.removed = true;
+        }
+        entry = new Entry(chunk, unloadTime, now);
+        this.entries.put(key, entry);
+        this.queue.offer(entry);
+    }
+
+    /**
+     * Removes a chunk from the queue, generally because it became active
+     * again.
+     *
+     * @param chunk The chunk
+     */
+    public void remove(Chunk chunk) {
+        final long key = ChunkPos.asLong(chunk.x, chunk.z);
+        final Entry entry = this.entries.get(key);
+        if (entry != null && entry.chunk == chunk) {
+            this.entries.remove(key);
+            entry.removed = true;
+        }
+    }
+
+    /**
+     * Removes and returns the next entry whose unload time has passed.
+     *
+     * @param now The current time in milliseconds
+     * @return The entry, or null if no chunk is due
+     */
+    @Nullable
+    public Entry poll(long now) {
+        Entry entry;
+        while ((entry = this.queue.peek()) != null && entry.unloadTime <= now) {
+            this.queue.poll();
+            if (!entry.removed) {
+                this.entries.remove(ChunkPos.asLong(entry.chunk.x, entry.chunk.z));
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Records that the chunk of the entry was unloaded.
+     *
+     * @param entry The entry
+     * @param now The current time in milliseconds
+     */
+    public void onUnloaded(Entry entry, long now) {
+        final long latency = now - Math.max(entry.unloadTime, entry.queuedTime);
+        this.unloadCount++;
+        this.totalUnloadLatency += latency;
+        this.maxUnloadLatency = Math.max(this.maxUnloadLatency, latency);
+    }
+
+    /**
+     * Gets the amount of chunks that are queued for unload.
+     *
+     * @return The amount of queued chunks
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Gets the total amount of chunks that were unloaded through this queue.
+     *
+     * @return The amount of unloaded chunks
+     */
+    public long getUnloadCount() {
+        return this.unloadCount;
+    }
+
+    /**
+     * Gets the average time in milliseconds between the moment a chunk was
+     * allowed to unload and its actual unload.
+     *
+     * @return The average unload latency
+     */
+    public double getAverageUnloadLatency() {
+        return this.unloadCount == 0 ? 0 : (double) this.totalUnloadLatency / this.unloadCount;
+    }
+
+    /**
+     * Gets the highest time in milliseconds between the moment a chunk was
+     * allowed to unload and its actual unload.
+     *
+     * @return The maximum unload latency
+     */
+    public long getMaxUnloadLatency() {
+        return this.maxUnloadLatency;
+    }
+
+    public static final class Entry implements Comparable<Entry> {
+
+        private final Chunk chunk;
+        private final long unloadTime;
+        private final long queuedTime;
+        boolean removed;
+
+        Entry(Chunk chunk, long unloadTime, long queuedTime) {
+            this.chunk = chunk;
+            this.unloadTime = unloadTime;
+            this.queuedTime = queuedTime;
+        }
+
+        public Chunk getChunk() {
+            return this.chunk;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return Long.compare(this.unloadTime, other.unloadTime);
+        }
+    }
+}
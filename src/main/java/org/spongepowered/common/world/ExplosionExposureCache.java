@@ -0,0 +1,99 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Caches the exposure of entity bounding boxes to explosions which are
+ * detonated at the same origin during the same tick, like the explosions of
+ * stacked TNT in cannons.
+ *
+ * <p>Blocks destroyed by an earlier explosion of the same tick are not taken
+ * into account by later ones, which is why this is opt-in.</p>
+ */
+public final class ExplosionExposureCache {
+
+    private final Map<Key, Float> densities = new HashMap<>();
+    private long tick = Long.MIN_VALUE;
+
+    public float getBlockDensity(World world, Vec3d origin, AxisAlignedBB boundingBox) {
+        final long now = world.getTotalWorldTime();
+        if (now != this.tick) {
+            this.densities.clear();
+            this.tick = now;
+        }
+        final Key key = new Key(origin, boundingBox);
+        Float density = this.densities.get(key);
+        if (density == null) {
+            density = world.getBlockDensity(origin, boundingBox);
+            this.densities.put(key, density);
+        }
+        return density;
+    }
+
+    private static final class Key {
+
+        private final double x;
+        private final double y;
+        private final double z;
+        private final AxisAlignedBB boundingBox;
+
+        Key(Vec3d origin, AxisAlignedBB boundingBox) {
+            this.x = origin.x;
+            this.y = origin.y;
+            this.z = origin.z;
+            this.boundingBox = boundingBox;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return Double.compare(this.x, other.x) == 0
+                    && Double.compare(this.y, other.y) == 0
+                    && Double.compare(this.z, other.z) == 0
+                    && this.boundingBox.equals(other.boundingBox);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Double.hashCode(this.x);
+            result = 31 * result + Double.hashCode(this.y);
+            result = 31 * result + Double.hashCode(this.z);
+            return 31 * result + this.boundingBox.hashCode();
+        }
+    }
+}
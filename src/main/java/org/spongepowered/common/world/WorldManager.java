@@ -31,6 +31,8 @@
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
 import com.google.common.collect.MapMaker;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
@@ -66,6 +68,7 @@
 import org.spongepowered.api.world.WorldArchetype;
 import org.spongepowered.api.world.storage.WorldProperties;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.config.SpongeConfig;
 import org.spongepowered.common.config.type.GeneralConfigBase;
 import org.spongepowered.common.data.util.DataUtil;
@@ -74,6 +77,7 @@
 import org.spongepowered.common.event.tracking.phase.general.GeneralPhase;
 import org.spongepowered.common.interfaces.IMixinIntegratedServer;
 import org.spongepowered.common.interfaces.IMixinMinecraftServer;
+import org.spongepowered.common.interfaces.IMixinSaveHandler;
 import org.spongepowered.common.interfaces.entity.player.IMixinEntityPlayerMP;
 import org.spongepowered.common.interfaces.world.IMixinDimensionType;
 import org.spongepowered.common.interfaces.world.IMixinWorld;
@@ -84,7 +88,10 @@
 import org.spongepowered.common.util.SpongeHooks;
 
 import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.DirectoryStream;
 import java.nio.file.FileVisitResult;
 import java.nio.file.FileVisitor;
@@ -108,6 +115,9 @@
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
@@ -677,6 +687,7 @@ public static void loadAllWorlds(long defaultSeed, WorldType defaultWorldType, S
 
         registerExistingSpongeDimensions(currentSavesDir);
 
+        final List<StartupWorld> startupWorlds = new ArrayList<>();
         for (Map.Entry<Integer, DimensionType> entry: sortedDimensionMap().entrySet()) {
 
             final int dimensionId = entry.getKey();
@@ -712,83 +723,167 @@ public static void loadAllWorlds(long defaultSeed, WorldType defaultWorldType, S
                 }
             }
 
-            // Step 3 - Get our world information from disk
-            final ISaveHandler saveHandler;
-            if (dimensionId == 0) {
-                saveHandler = server.getActiveAnvilConverter().getSaveLoader(server.getFolderName(), true);
-            } else {
-                saveHandler = new AnvilSaveHandler(WorldManager.getCurrentSavesDirectory().get().toFile(), worldFolderName, true,
-                        SpongeImpl.getDataFixer());
-            }
-
-            WorldInfo worldInfo = saveHandler.loadWorldInfo();
-            WorldSettings worldSettings;
-
-            // If this is integrated server, we need to use the WorldSettings from the client's Single Player menu to construct the worlds
-            if (server instanceof IMixinIntegratedServer) {
-                worldSettings = ((IMixinIntegratedServer) server).getSettings();
+            startupWorlds.add(new StartupWorld(dimensionId, dimensionType, worldFolder, worldFolderName));
+        }
 
-                // If this is overworld and a new save, the WorldInfo has already been made but we want to still fire the construct event.
-                if (dimensionId == 0 && ((IMixinIntegratedServer) server).isNewSave()) {
-                    SpongeImpl.postEvent(SpongeEventFactory.createConstructWorldPropertiesEvent(Sponge.getCauseStackManager().getCurrentCause(), (WorldArchetype)
-                            (Object) worldSettings, (WorldProperties) worldInfo));
+        // Step 3 - Get our world information from disk. The root world is read first as it holds the dimension data of all other worlds.
+        // The level data of the remaining worlds is read and decompressed concurrently, their world information is still created here.
+        final ExecutorService executor = startupWorlds.size() > 2 ? Executors.newFixedThreadPool(Math.min(startupWorlds.size() - 1,
+                Runtime.getRuntime().availableProcessors()), new ThreadFactoryBuilder().setNameFormat("Sponge - World Loader Thread #%d").build())
+                : MoreExecutors.newDirectExecutorService();
+        try {
+            File savesDir = null;
+            for (StartupWorld startupWorld : startupWorlds) {
+                if (startupWorld.dimensionId == 0) {
+                    startupWorld.saveHandler = server.getActiveAnvilConverter().getSaveLoader(server.getFolderName(), true);
+                    // The root world isn't created yet, so use its save handler instead of creating another one that would take over the session lock
+                    savesDir = startupWorld.saveHandler.getWorldDirectory();
+                    continue;
                 }
-            } else {
-                // WorldSettings will be null here on dedicated server so we need to build one
-                worldSettings = new WorldSettings(defaultSeed, server.getGameType(), server.canStructuresSpawn(), server.isHardcore(),
-                        defaultWorldType);
+                if (savesDir == null) {
+                    savesDir = WorldManager.getCurrentSavesDirectory().get().toFile();
+                }
+                final File worldDirectory = new File(savesDir, startupWorld.worldFolderName);
+                startupWorld.levelData = CompletableFuture.supplyAsync(() -> readLevelData(worldDirectory), executor);
             }
 
-            if (worldInfo == null) {
-                // Step 4 - At this point, we have either have the WorldInfo or we have none. If we have none, we'll use the settings built above to
-                // create the WorldInfo
-                worldInfo = createWorldInfoFromSettings(currentSavesDir, (org.spongepowered.api.world.DimensionType) (Object) dimensionType,
-                        dimensionId, worldFolderName, worldSettings, generatorOptions);
-            } else {
-                // create config
-                ((IMixinWorldInfo) worldInfo).setDimensionType((org.spongepowered.api.world.DimensionType)(Object) dimensionType);
-                ((IMixinWorldInfo) worldInfo).createWorldConfig();
-                ((WorldProperties) worldInfo).setGenerateSpawnOnLoad(((IMixinDimensionType) (Object) dimensionType).shouldGenerateSpawnOnLoad());
+            for (StartupWorld startupWorld : startupWorlds) {
+                if (startupWorld.saveHandler == null) {
+                    startupWorld.saveHandler = new AnvilSaveHandler(savesDir, startupWorld.worldFolderName, true, SpongeImpl.getDataFixer());
+                }
+                loadStartupWorld(server, startupWorld, currentSavesDir, defaultSeed, defaultWorldType, generatorOptions);
             }
+        } finally {
+            executor.shutdown();
+        }
 
-            // Safety check to ensure we'll get a unique id no matter what
-            if (((WorldProperties) worldInfo).getUniqueId() == null) {
-                setUuidOnProperties(dimensionId == 0 ? currentSavesDir.getParent() : currentSavesDir, (WorldProperties) worldInfo);
-            }
+        // Set the worlds on the Minecraft server
+        reorderWorldsVanillaFirst();
+    }
 
-            // Safety check to ensure the world info has the dimension id set
-            if (((IMixinWorldInfo) worldInfo).getDimensionId() == null) {
-                ((IMixinWorldInfo) worldInfo).setDimensionId(dimensionId);
+    private static void loadStartupWorld(MinecraftServer server, StartupWorld startupWorld, Path currentSavesDir, long defaultSeed,
+            WorldType defaultWorldType, String generatorOptions) {
+        final long startTime = System.nanoTime();
+        final int dimensionId = startupWorld.dimensionId;
+        final DimensionType dimensionType = startupWorld.dimensionType;
+        final Path worldFolder = startupWorld.worldFolder;
+        final String worldFolderName = startupWorld.worldFolderName;
+        final ISaveHandler saveHandler = startupWorld.saveHandler;
+        WorldInfo worldInfo = startupWorld.loadWorldInfo();
+        WorldSettings worldSettings;
+
+        // If this is integrated server, we need to use the WorldSettings from the client's Single Player menu to construct the worlds
+        if (server instanceof IMixinIntegratedServer) {
+            worldSettings = ((IMixinIntegratedServer) server).getSettings();
+
+            // If this is overworld and a new save, the WorldInfo has already been made but we want to still fire the construct event.
+            if (dimensionId == 0 && ((IMixinIntegratedServer) server).isNewSave()) {
+                SpongeImpl.postEvent(SpongeEventFactory.createConstructWorldPropertiesEvent(Sponge.getCauseStackManager().getCurrentCause(), (WorldArchetype)
+                        (Object) worldSettings, (WorldProperties) worldInfo));
             }
+        } else {
+            // WorldSettings will be null here on dedicated server so we need to build one
+            worldSettings = new WorldSettings(defaultSeed, server.getGameType(), server.canStructuresSpawn(), server.isHardcore(),
+                    defaultWorldType);
+        }
 
-            // Keep the LevelName in the LevelInfo up to date with the directory name
-            if (!worldInfo.getWorldName().equals(worldFolderName)) {
-                worldInfo.setWorldName(worldFolderName);
-            }
+        if (worldInfo == null) {
+            // Step 4 - At this point, we have either have the WorldInfo or we have none. If we have none, we'll use the settings built above to
+            // create the WorldInfo
+            worldInfo = createWorldInfoFromSettings(currentSavesDir, (org.spongepowered.api.world.DimensionType) (Object) dimensionType,
+                    dimensionId, worldFolderName, worldSettings, generatorOptions);
+        } else {
+            // create config
+            ((IMixinWorldInfo) worldInfo).setDimensionType((org.spongepowered.api.world.DimensionType)(Object) dimensionType);
+            ((IMixinWorldInfo) worldInfo).createWorldConfig();
+            ((WorldProperties) worldInfo).setGenerateSpawnOnLoad(((IMixinDimensionType) (Object) dimensionType).shouldGenerateSpawnOnLoad());
+        }
 
-            // Step 5 - Load server resource pack from dimension 0
-            if (dimensionId == 0) {
-                server.setResourcePackFromWorld(worldFolderName, saveHandler);
-            }
+        // Safety check to ensure we'll get a unique id no matter what
+        if (((WorldProperties) worldInfo).getUniqueId() == null) {
+            setUuidOnProperties(dimensionId == 0 ? currentSavesDir.getParent() : currentSavesDir, (WorldProperties) worldInfo);
+        }
 
-            // Step 6 - Cache the WorldProperties we've made so we don't load from disk later.
-            registerWorldProperties((WorldProperties) worldInfo);
+        // Safety check to ensure the world info has the dimension id set
+        if (((IMixinWorldInfo) worldInfo).getDimensionId() == null) {
+            ((IMixinWorldInfo) worldInfo).setDimensionId(dimensionId);
+        }
 
-            if (dimensionId != 0 && !((WorldProperties) worldInfo).loadOnStartup()) {
-                SpongeImpl.getLogger().warn("World [{}] (DIM{}) is set to not load on startup. To load it later, enable [load-on-startup] in config "
-                        + "or use a plugin", worldFolder, dimensionId);
-                continue;
-            }
+        // Keep the LevelName in the LevelInfo up to date with the directory name
+        if (!worldInfo.getWorldName().equals(worldFolderName)) {
+            worldInfo.setWorldName(worldFolderName);
+        }
 
-            // Step 7 - Finally, we can create the world and tell it to load
-            final WorldServer worldServer = createWorldFromProperties(dimensionId, saveHandler, worldInfo, worldSettings, true);
+        // Step 5 - Load server resource pack from dimension 0
+        if (dimensionId == 0) {
+            server.setResourcePackFromWorld(worldFolderName, saveHandler);
+        }
 
-            SpongeImpl.getLogger().info("Loading world [{}] ({})", ((org.spongepowered.api.world.World) worldServer).getName(), getDimensionType
-                    (dimensionId).get().getName());
+        // Step 6 - Cache the WorldProperties we've made so we don't load from disk later.
+        registerWorldProperties((WorldProperties) worldInfo);
+
+        if (dimensionId != 0 && !((WorldProperties) worldInfo).loadOnStartup()) {
+            SpongeImpl.getLogger().warn("World [{}] (DIM{}) is set to not load on startup. To load it later, enable [load-on-startup] in config "
+                    + "or use a plugin", worldFolder, dimensionId);
+            return;
         }
 
-        // Set the worlds on the Minecraft server
-        reorderWorldsVanillaFirst();
+        // Step 7 - Finally, we can create the world and tell it to load
+        final WorldServer worldServer = createWorldFromProperties(dimensionId, saveHandler, worldInfo, worldSettings, true);
+
+        SpongeImpl.getLogger().info("Loading world [{}] ({}) took {}ms", ((org.spongepowered.api.world.World) worldServer).getName(),
+                getDimensionType(dimensionId).get().getName(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+
+    private static final class StartupWorld {
+
+        final int dimensionId;
+        final DimensionType dimensionType;
+        final Path worldFolder;
+        final String worldFolderName;
+        @Nullable ISaveHandler saveHandler;
+        // The level data read ahead of creating the world information, absent for the root world
+        @Nullable CompletableFuture<NBTTagCompound> levelData;
+
+        StartupWorld(int dimensionId, DimensionType dimensionType, Path worldFolder, String worldFolderName) {
+            this.dimensionId = dimensionId;
+            this.dimensionType = dimensionType;
+            this.worldFolder = worldFolder;
+            this.worldFolderName = worldFolderName;
+        }
+
+        @Nullable
+        WorldInfo loadWorldInfo() {
+            final NBTTagCompound levelData = this.levelData == null ? null : this.levelData.join();
+            if (levelData != null) {
+                try {
+                    final WorldInfo worldInfo = new WorldInfo(SpongeImpl.getDataFixer().process(FixTypes.LEVEL, levelData.getCompoundTag("Data")));
+                    // The save handler isn't asked to load the world info, so restore what it would have read alongside the level data
+                    ((IMixinSaveHandler) this.saveHandler).loadDimensionAndOtherData((SaveHandler) this.saveHandler, worldInfo, levelData);
+                    ((IMixinSaveHandler) this.saveHandler).loadSpongeDatData(worldInfo);
+                    SpongeImplHooks.onWorldInfoLoaded(this.saveHandler, worldInfo, levelData);
+                    return worldInfo;
+                } catch (Exception e) {
+                    SpongeImpl.getLogger().error("Exception reading level data of World [{}], falling back to the backup.", this.worldFolderName, e);
+                }
+            }
+            // Lets the save handler deal with missing or broken level data and fall back to the backup
+            return this.saveHandler.loadWorldInfo();
+        }
+    }
+
+    // Only reads and decompresses the level data, the world information must be created on the main thread
+    @Nullable
+    private static NBTTagCompound readLevelData(File worldDirectory) {
+        final File levelFile = new File(worldDirectory, "level.dat");
+        if (!levelFile.exists()) {
+            return null;
+        }
+        try (InputStream inputStream = new FileInputStream(levelFile)) {
+            return CompressedStreamTools.readCompressed(inputStream);
+        } catch (IOException e) {
+            return null;
+        }
     }
 
     private static WorldInfo createWorldInfoFromSettings(Path currentSaveRoot, org.spongepowered.api.world.DimensionType dimensionType, int
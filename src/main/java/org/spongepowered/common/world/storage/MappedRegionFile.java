@@ -0,0 +1,247 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.annotation.Nullable;
+
+/**
+ * A read only view of a region file that is memory mapped as a whole.
+ *
+ * <p>The offset table is parsed once when the file is opened, chunks are
+ * read straight from the mapped buffer without any locking, so a single
+ * instance can be read from multiple threads at once. Unlike
+ * {@link net.minecraft.world.chunk.storage.RegionFile} this doesn't keep
+ * any file handle open.</p>
+ */
+final class MappedRegionFile {
+
+    static final int CHUNKS = 1024;
+    private static final int SECTOR_BYTES = 4096;
+    private static final byte VERSION_GZIP = 1;
+    private static final byte VERSION_DEFLATE = 2;
+
+    private static final Map<Path, ChunkCount> chunkCounts = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the amount of chunks stored in a region file. The count is cached
+     * per region file until the file is modified.
+     *
+     * @param file The region file
+     * @return The amount of chunks
+     */
+    static int getChunkCount(Path file) {
+        try {
+            final long modified = Files.getLastModifiedTime(file).toMillis();
+            final long size = Files.size(file);
+            final ChunkCount cached = chunkCounts.get(file);
+            if (cached != null && cached.modified == modified && cached.size == size) {
+                return cached.count;
+            }
+            final ByteBuffer header = ByteBuffer.allocate(SECTOR_BYTES);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                while (header.hasRemaining() && channel.read(header) != -1) {
+                    // Read the complete offset table
+                }
+            }
+            header.flip();
+            final int count = header.remaining() < SECTOR_BYTES ? 0 : countChunks(readOffsets(header, size), 0);
+            chunkCounts.put(file, new ChunkCount(modified, size, count));
+            return count;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Maps the given region file.
+     *
+     * @param file The region file
+     * @return The mapped region file
+     * @throws IOException If the file couldn't be mapped
+     */
+    static MappedRegionFile open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Region file " + file + " is too large to be mapped");
+            }
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            final int[] offsets = size < SECTOR_BYTES ? new int[CHUNKS] : readOffsets(buffer.duplicate(), size);
+            final MappedRegionFile region = new MappedRegionFile(file, buffer, offsets);
+            chunkCounts.put(file, new ChunkCount(Files.getLastModifiedTime(file).toMillis(), size, countChunks(offsets, 0)));
+            return region;
+        }
+    }
+
+    // Reads the offset table, offsets which point outside of the file are dropped
+    private static int[] readOffsets(ByteBuffer header, long size) {
+        final int[] offsets = new int[CHUNKS];
+        final long sectors = size / SECTOR_BYTES;
+        for (int i = 0; i < CHUNKS; i++) {
+            final int offset = header.getInt(i * 4);
+            final int sector = offset >>> 8;
+            final int count = offset & 0xFF;
+            if (offset != 0 && sector >= 2 && sector + count <= sectors) {
+                offsets[i] = offset;
+            }
+        }
+        return offsets;
+    }
+
+    private static int countChunks(int[] offsets, int from) {
+        int count = 0;
+        for (int i = from; i < CHUNKS; i++) {
+            if (offsets[i] != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private final Path file;
+    private final ByteBuffer buffer;
+    private final int[] offsets;
+
+    private MappedRegionFile(Path file, ByteBuffer buffer, int[] offsets) {
+        this.file = file;
+        this.buffer = buffer;
+        this.offsets = offsets;
+    }
+
+    Path getFile() {
+        return this.file;
+    }
+
+    boolean hasChunk(int index) {
+        return this.offsets[index] != 0;
+    }
+
+    /**
+     * Gets the index of the first stored chunk at or after the given index.
+     *
+     * @param from The index to start searching at
+     * @return The index, or -1 if there are no more chunks
+     */
+    int nextChunk(int from) {
+        for (int i = from; i < CHUNKS; i++) {
+            if (this.offsets[i] != 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    int countChunks(int from) {
+        return countChunks(this.offsets, from);
+    }
+
+    /**
+     * Opens a stream to the decompressed data of the chunk at the given
+     * index, where the index is {@code x + z * 32} in region coordinates.
+     *
+     * @param index The chunk index
+     * @return The stream, or null if the chunk isn't stored or is invalid
+     * @throws IOException If the compressed data is corrupt
+     */
+    @Nullable
+    DataInputStream getChunkDataInputStream(int index) throws IOException {
+        final int offset = this.offsets[index];
+        if (offset == 0) {
+            return null;
+        }
+        final int position = (offset >>> 8) * SECTOR_BYTES;
+        final int length = this.buffer.getInt(position);
+        if (length <= 1 || length > (offset & 0xFF) * SECTOR_BYTES - 4) {
+            return null;
+        }
+        final byte version = this.buffer.get(position + 4);
+        final ByteBuffer data = this.buffer.duplicate();
+        data.limit(position + 4 + length);
+        data.position(position + 5);
+        if (version == VERSION_GZIP) {
+            return new DataInputStream(new BufferedInputStream(new GZIPInputStream(new ByteBufferInputStream(data))));
+        } else if (version == VERSION_DEFLATE) {
+            return new DataInputStream(new BufferedInputStream(new InflaterInputStream(new ByteBufferInputStream(data))));
+        }
+        return null;
+    }
+
+    private static final class ChunkCount {
+
+        final long modified;
+        final long size;
+        final int count;
+
+        ChunkCount(long modified, long size, int count) {
+            this.modified = modified;
+            this.size = size;
+            this.count = count;
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int off, int len) {
+            if (!this.buffer.hasRemaining()) {
+                return -1;
+            }
+            final int read = Math.min(len, this.buffer.remaining());
+            this.buffer.get(bytes, off, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return this.buffer.remaining();
+        }
+    }
+}
@@ -24,126 +24,137 @@
  */
 package org.spongepowered.common.world.storage;
 
-import com.google.common.collect.Sets;
-import net.minecraft.world.chunk.storage.RegionFile;
+import com.google.common.collect.Lists;
+import net.minecraft.world.chunk.storage.RegionFileCache;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.world.storage.ChunkDataStream;
+import org.spongepowered.common.SpongeImpl;
 
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.Set;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
-public class SpongeChunkDataStream implements ChunkDataStream {
-
-    private static class RegionFileItr {
-
-        private final RegionFile file;
-        public int index;
-
-        public RegionFileItr(RegionFile regionFile) {
-            this.file = regionFile;
-        }
-
-        public int getNext() {
-            int index = this.index;
-            int[] offsets = this.file.offsets;
-            while (index != -1 && index < offsets.length && offsets[index] == 0) {
-                index++;
-            }
-            if (index >= offsets.length) {
-                return -1;
-            }
-            return index;
-        }
+import javax.annotation.Nullable;
 
-        public DataInputStream getStreamAt(int index) {
-            int x = index & 31;
-            int z = index >>> 5;
-            return this.file.getChunkDataInputStream(x, z);
-        }
-
-    }
+public class SpongeChunkDataStream implements ChunkDataStream {
 
-    private final Set<Path> openedFiles = Sets.newHashSet();
-    private RegionFileItr regionFileItr;
     private final Path worldDir;
+    @Nullable private List<Path> regionFiles;
+    private int regionIndex;
+    @Nullable private MappedRegionFile region;
+    private int chunkIndex;
 
     public SpongeChunkDataStream(Path worldDir) {
         this.worldDir = worldDir;
     }
 
-    private boolean itrAvailable() {
-        if (this.regionFileItr != null) {
-            return true;
+    private List<Path> getRegionFiles() {
+        if (this.regionFiles == null) {
+            this.regionFiles = Lists.newArrayList(WorldStorageUtil.listRegionFiles(this.worldDir));
         }
-        Iterable<Path> files = WorldStorageUtil.listRegionFiles(this.worldDir);
-        for (Path file : files) {
-            if (!this.openedFiles.contains(file)) {
-                this.regionFileItr = new RegionFileItr(WorldStorageUtil.getRegionFile(file));
-                this.openedFiles.add(file);
-                return true;
-            }
-        }
-        return false;
+        return this.regionFiles;
     }
 
-    private int getNextIndex() {
-        int next;
-        while (itrAvailable()) {
-            if ((next = this.regionFileItr.getNext()) == -1) {
-                this.regionFileItr = null;
-            } else {
-                return next;
+    // Moves to the next stored chunk, mapping the next region file if needed
+    private boolean advance() {
+        final List<Path> files = getRegionFiles();
+        while (true) {
+            if (this.region != null) {
+                final int next = this.region.nextChunk(this.chunkIndex);
+                if (next != -1) {
+                    this.chunkIndex = next;
+                    return true;
+                }
+                this.region = null;
             }
+            if (this.regionIndex >= files.size()) {
+                return false;
+            }
+            this.region = open(files.get(this.regionIndex++));
+            this.chunkIndex = 0;
         }
-        return -1;
     }
 
     @Override
     public DataContainer next() {
-        int next = getNextIndex();
-        if (next == -1) {
+        if (!advance()) {
             throw new NoSuchElementException();
         }
-        this.regionFileItr.index = next + 1;
-        DataInputStream stream = this.regionFileItr.getStreamAt(next);
-        try {
-            return WorldStorageUtil.readDataFromRegion(stream);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        return read(this.region, this.chunkIndex++);
     }
 
     @Override
     public boolean hasNext() {
-        return getNextIndex() != -1;
+        return advance();
     }
 
     @Override
     public int available() {
-        // Advance to the end of the stream, counting along the way. Store
-        // previous state and reset to it afterwards.
-        RegionFileItr currentItr = this.regionFileItr;
-        Set<Path> currentOpenedFiles = Sets.newHashSet(this.openedFiles);
-        int count = 0;
-        int index = getNextIndex();
-        while (index != -1) {
-            count++;
-            this.regionFileItr.index = index + 1;
-            index = getNextIndex();
+        int count = this.region == null ? 0 : this.region.countChunks(this.chunkIndex);
+        final List<Path> files = getRegionFiles();
+        for (int i = this.regionIndex; i < files.size(); i++) {
+            count += MappedRegionFile.getChunkCount(files.get(i));
         }
-        this.regionFileItr = currentItr;
-        this.openedFiles.clear();
-        this.openedFiles.addAll(currentOpenedFiles);
         return count;
     }
 
     @Override
     public void reset() {
-        this.regionFileItr = null;
-        this.openedFiles.clear();
+        this.regionFiles = null;
+        this.regionIndex = 0;
+        this.region = null;
+        this.chunkIndex = 0;
+    }
+
+    /**
+     * Gets a parallel stream over the data of all generated chunks. The
+     * stream splits by region file and is independent of the position of
+     * this chunk data stream.
+     *
+     * @return The parallel stream
+     */
+    public Stream<DataContainer> parallelStream() {
+        return Lists.newArrayList(WorldStorageUtil.listRegionFiles(this.worldDir)).parallelStream()
+                .map(SpongeChunkDataStream::open)
+                .filter(Objects::nonNull)
+                .flatMap(region -> IntStream.range(0, MappedRegionFile.CHUNKS)
+                        .filter(region::hasChunk)
+                        .mapToObj(index -> read(region, index))
+                        .filter(Objects::nonNull));
+    }
+
+    @Nullable
+    private static MappedRegionFile open(Path file) {
+        try {
+            return MappedRegionFile.open(file);
+        } catch (IOException e) {
+            SpongeImpl.getLogger().warn("Unable to read region file {}", file, e);
+            return null;
+        }
+    }
+
+    @Nullable
+    private static DataContainer read(MappedRegionFile region, int index) {
+        try {
+            return WorldStorageUtil.readDataFromRegion(region.getChunkDataInputStream(index));
+        } catch (IOException e) {
+            // The chunk may have been moved by the server since the file was
+            // mapped, fall back to the region file the server writes through
+            final DataInputStream stream;
+            synchronized (RegionFileCache.class) {
+                stream = WorldStorageUtil.getRegionFile(region.getFile()).getChunkDataInputStream(index & 31, index >>> 5);
+            }
+            try {
+                return WorldStorageUtil.readDataFromRegion(stream);
+            } catch (IOException ex) {
+                throw new RuntimeException(ex);
+            }
+        }
     }
 
 }
@@ -0,0 +1,124 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.block;
+
+import static org.junit.Assert.assertEquals;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.key.Keys;
+import org.spongepowered.api.data.type.DirtType;
+import org.spongepowered.api.data.type.DirtTypes;
+import org.spongepowered.api.data.value.BaseValue;
+import org.spongepowered.common.interfaces.block.IMixinBlock;
+import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
+
+import java.util.Optional;
+
+/**
+ * Compares setting a key through the cached {@link KeyTransitionTable}s of
+ * a block state with going through the data processors of its block every
+ * time, which is what {@link BlockState#with(Key, Object)} did before.
+ *
+ * <p>The timings are printed rather than asserted, as they depend on the
+ * machine running the tests.</p>
+ */
+@RunWith(LaunchWrapperTestRunner.class)
+public class KeyTransitionBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 50_000;
+    private static final int ITERATIONS = 500_000;
+
+    @Test
+    public void testDirtType() {
+        final DirtType[] values = {DirtTypes.DIRT, DirtTypes.COARSE_DIRT, DirtTypes.PODZOL};
+        compare("dirt type", Blocks.DIRT.getDefaultState(), Keys.DIRT_TYPE, values);
+    }
+
+    @Test
+    public void testGrowthStage() {
+        final Integer[] values = {0, 1, 2, 3, 4, 5, 6, 7};
+        compare("growth stage", Blocks.WHEAT.getDefaultState(), Keys.GROWTH_STAGE, values);
+    }
+
+    private static <E> void compare(String name, IBlockState state, Key<? extends BaseValue<E>> key, E[] values) {
+        final IMixinBlock block = (IMixinBlock) state.getBlock();
+        for (E value : values) {
+            assertEquals(block.getStateWithValue(state, key, value), ((BlockState) state).with(key, value));
+        }
+
+        final long processors = measure(ITERATIONS, new Transition<E>(values) {
+            @Override
+            Optional<BlockState> apply(E value) {
+                return block.getStateWithValue(state, key, value);
+            }
+        });
+        final long tables = measure(ITERATIONS, new Transition<E>(values) {
+            @Override
+            Optional<BlockState> apply(E value) {
+                return ((BlockState) state).with(key, value);
+            }
+        });
+        System.out.printf("%s: data processors %.1f ns/op, transition tables %.1f ns/op%n",
+                name, (double) processors / ITERATIONS, (double) tables / ITERATIONS);
+    }
+
+    private static long measure(int iterations, Runnable runnable) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            runnable.run();
+        }
+        final long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            runnable.run();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private abstract static class Transition<E> implements Runnable {
+
+        private final E[] values;
+        private int index;
+        // Keeps the results alive so the lookups can't be optimized away
+        int presentResults;
+
+        Transition(E[] values) {
+            this.values = values;
+        }
+
+        abstract Optional<BlockState> apply(E value);
+
+        @Override
+        public void run() {
+            if (apply(this.values[this.index++ % this.values.length]).isPresent()) {
+                this.presentResults++;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.block;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.util.Direction;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Optional;
+
+public class KeyTransitionTableTest {
+
+    @Test
+    public void testUnknownValue() {
+        assertNull(KeyTransitionTable.EMPTY.get(Direction.NORTH));
+        assertNull(KeyTransitionTable.EMPTY.with(Direction.NORTH, Optional.empty()).get(Direction.SOUTH));
+    }
+
+    @Test
+    public void testRemembersTransitions() {
+        Optional<BlockState> north = Optional.of(mock(BlockState.class));
+        CatalogType type = mock(CatalogType.class);
+        Optional<BlockState> typed = Optional.of(mock(BlockState.class));
+        KeyTransitionTable table = KeyTransitionTable.EMPTY
+                .with(Direction.NORTH, north)
+                .with(Direction.SOUTH, Optional.empty())
+                .with(type, typed);
+
+        assertSame(north, table.get(Direction.NORTH));
+        assertEquals(Optional.empty(), table.get(Direction.SOUTH));
+        assertSame(typed, table.get(type));
+        // Adding a transition leaves the original table untouched
+        assertNull(KeyTransitionTable.EMPTY.get(Direction.NORTH));
+    }
+
+    @Test
+    public void testMatchesEqualValues() {
+        Optional<BlockState> state = Optional.of(mock(BlockState.class));
+        KeyTransitionTable table = KeyTransitionTable.EMPTY
+                .with(new String("stone"), state)
+                .with(Integer.valueOf(1000), state);
+
+        assertSame(state, table.get(new String("stone")));
+        assertSame(state, table.get(Integer.valueOf(1000)));
+        assertNull(table.get(1000L));
+    }
+
+    @Test
+    public void testRefusesMutableValues() {
+        KeyTransitionTable table = KeyTransitionTable.EMPTY.with(Direction.NORTH, Optional.empty());
+
+        assertSame(table, table.with(EnumSet.of(Direction.NORTH), Optional.empty()));
+        assertSame(table, table.with(new ArrayList<>(), Optional.empty()));
+        assertNull(table.get(EnumSet.of(Direction.NORTH)));
+    }
+
+    @Test
+    public void testCap() {
+        KeyTransitionTable table = KeyTransitionTable.EMPTY;
+        for (int i = 0; i < 32; i++) {
+            KeyTransitionTable grown = table.with(i, Optional.empty());
+            assertNotSame(table, grown);
+            table = grown;
+        }
+
+        assertSame(table, table.with(32, Optional.empty()));
+        assertNull(table.get(32));
+        assertEquals(Optional.empty(), table.get(31));
+    }
+
+}
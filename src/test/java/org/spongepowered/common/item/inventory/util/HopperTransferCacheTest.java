@@ -0,0 +1,83 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.item.inventory.util;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import net.minecraft.inventory.InventoryLargeChest;
+import net.minecraft.tileentity.TileEntityChest;
+import net.minecraft.tileentity.TileEntityHopper;
+import org.junit.Test;
+import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
+
+public class HopperTransferCacheTest {
+
+    @Test
+    public void testResolve() {
+        HopperTransferCache.Side target = new HopperTransferCache().getTarget();
+        TileEntityChest chest = chest();
+        target.resolve(chest, 3);
+
+        assertTrue(target.isResolved(3));
+        assertSame(chest, target.getInventory());
+        assertFalse(target.isResolved(4));
+    }
+
+    @Test
+    public void testBreakTargetChestMidTick() {
+        HopperTransferCache.Side target = new HopperTransferCache().getTarget();
+        TileEntityHopper hopper = mock(TileEntityHopper.class, withSettings().extraInterfaces(IMixinTileEntity.class));
+        TileEntityChest chest = chest();
+        target.resolve(chest, 3);
+        target.setBlocked(chest, hopper);
+        assertTrue(target.isBlocked(hopper));
+
+        // Breaking the chest while tile entities tick only invalidates it, the generation stays the same
+        when(chest.isInvalid()).thenReturn(true);
+        assertFalse(target.isResolved(3));
+    }
+
+    @Test
+    public void testBreakHalfOfLargeChestMidTick() {
+        HopperTransferCache.Side target = new HopperTransferCache().getTarget();
+        TileEntityChest upper = chest();
+        TileEntityChest lower = chest();
+        target.resolve(new InventoryLargeChest("container.chestDouble", upper, lower), 3);
+        assertTrue(target.isResolved(3));
+
+        when(lower.isInvalid()).thenReturn(true);
+        assertFalse(target.isResolved(3));
+    }
+
+    private static TileEntityChest chest() {
+        return mock(TileEntityChest.class, withSettings().extraInterfaces(IMixinTileEntity.class));
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.relocate.co.aikar.timings;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class TimingHistogramTest {
+
+    private static final long MAX_NANOS = (1L << 36) - 1;
+
+    @Test
+    public void testEmpty() {
+        TimingHistogram histogram = new TimingHistogram();
+        assertEquals(0, histogram.getTotalCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void testValuesBelowFirstMagnitude() {
+        TimingHistogram histogram = new TimingHistogram();
+        histogram.record(500);
+        assertEquals(500, histogram.getValueAtPercentile(100));
+        histogram.record(1_000_000);
+        assertEquals(1023, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void testBucketBoundaries() {
+        // The first bucket of a magnitude starts at its power of two and is an eighth of it wide
+        assertEquals(1151, medianWith(1024));
+        assertEquals(1151, medianWith(1151));
+        assertEquals(1279, medianWith(1152));
+        assertEquals(2047, medianWith(2047));
+        assertEquals(2303, medianWith(2048));
+        assertEquals((1L << 20) + (1L << 17) - 1, medianWith(1L << 20));
+    }
+
+    @Test
+    public void testBucketPrecision() {
+        for (long value = 1024; value < MAX_NANOS; value = value * 3 / 2 + 1) {
+            final long upperBound = medianWith(value);
+            assertTrue(upperBound >= value);
+            assertTrue(upperBound - value < value / 8);
+        }
+    }
+
+    @Test
+    public void testValuesAboveLastMagnitude() {
+        TimingHistogram histogram = new TimingHistogram();
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getMax());
+        assertEquals(MAX_NANOS, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testPercentiles() {
+        TimingHistogram histogram = new TimingHistogram();
+        for (int i = 0; i < 90; i++) {
+            histogram.record(2000);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(100_000);
+        }
+        assertEquals(100, histogram.getTotalCount());
+        assertEquals(2047, histogram.getValueAtPercentile(0));
+        assertEquals(2047, histogram.getValueAtPercentile(50));
+        assertEquals(2047, histogram.getValueAtPercentile(90));
+        assertEquals(100_000, histogram.getValueAtPercentile(91));
+        assertEquals(100_000, histogram.getValueAtPercentile(99.9));
+        assertEquals(100_000, histogram.getValueAtPercentile(150));
+    }
+
+    @Test
+    public void testAddAndCopy() {
+        TimingHistogram first = new TimingHistogram();
+        first.record(2000);
+        TimingHistogram copy = first.copy();
+        TimingHistogram second = new TimingHistogram();
+        second.record(100_000);
+        second.record(100_000);
+        first.add(second);
+        assertEquals(3, first.getTotalCount());
+        assertEquals(100_000, first.getMax());
+        assertEquals(100_000, first.getValueAtPercentile(50));
+        assertEquals(1, copy.getTotalCount());
+        assertEquals(2000, copy.getMax());
+        first.reset();
+        assertEquals(0, first.getTotalCount());
+        assertEquals(0, first.getMax());
+        assertEquals(0, first.getValueAtPercentile(50));
+    }
+
+    private static long medianWith(long value) {
+        TimingHistogram histogram = new TimingHistogram();
+        histogram.record(value);
+        histogram.record(MAX_NANOS);
+        return histogram.getValueAtPercentile(50);
+    }
+
+}
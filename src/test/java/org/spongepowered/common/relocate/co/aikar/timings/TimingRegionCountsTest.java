@@ -0,0 +1,105 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.relocate.co.aikar.timings;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+import org.spongepowered.api.block.tileentity.TileEntityType;
+import org.spongepowered.api.entity.EntityType;
+
+public class TimingRegionCountsTest {
+
+    private final EntityType zombie = mock(EntityType.class);
+    private final TileEntityType chest = mock(TileEntityType.class);
+
+    @Test
+    public void testRegions() {
+        TimingRegionCounts counts = new TimingRegionCounts();
+        counts.addEntity(0, 0, this.zombie, 1);
+        counts.addEntity(31, 31, this.zombie, 2);
+        counts.addTileEntity(32, 0, this.chest, 1);
+        counts.addTileEntity(-1, -33, this.chest, 1);
+
+        TimingRegionCounts.Region[] regions = counts.snapshot();
+        assertEquals(3, regions.length);
+        for (TimingRegionCounts.Region region : regions) {
+            if (region.x == 0 && region.z == 0) {
+                assertEquals(3, region.entityCounts.getInt(this.zombie));
+                assertTrue(region.tileEntityCounts.isEmpty());
+            } else if (region.x == 32 && region.z == 0) {
+                assertEquals(1, region.tileEntityCounts.getInt(this.chest));
+            } else {
+                assertEquals(-32, region.x);
+                assertEquals(-64, region.z);
+                assertEquals(1, region.tileEntityCounts.getInt(this.chest));
+            }
+        }
+    }
+
+    @Test
+    public void testRemove() {
+        TimingRegionCounts counts = new TimingRegionCounts();
+        counts.addEntity(0, 0, this.zombie, 2);
+        counts.addTileEntity(0, 0, this.chest, 1);
+        counts.addEntity(0, 0, this.zombie, -1);
+        counts.addTileEntity(0, 0, this.chest, -1);
+
+        TimingRegionCounts.Region[] regions = counts.snapshot();
+        assertEquals(1, regions.length);
+        assertEquals(1, regions[0].entityCounts.getInt(this.zombie));
+        assertFalse(regions[0].tileEntityCounts.containsKey(this.chest));
+    }
+
+    @Test
+    public void testPruneEmptyRegions() {
+        TimingRegionCounts counts = new TimingRegionCounts();
+        counts.addEntity(5, 5, this.zombie, 1);
+        counts.addTileEntity(5, 5, this.chest, 1);
+        counts.addEntity(5, 5, this.zombie, -1);
+        assertEquals(1, counts.snapshot().length);
+        counts.addTileEntity(5, 5, this.chest, -1);
+        assertEquals(0, counts.snapshot().length);
+
+        // Removing more than was added never leaves a negative count behind
+        counts.addEntity(5, 5, this.zombie, -1);
+        assertEquals(0, counts.snapshot().length);
+    }
+
+    @Test
+    public void testSnapshotIsIndependent() {
+        TimingRegionCounts counts = new TimingRegionCounts();
+        counts.addEntity(0, 0, this.zombie, 1);
+        TimingRegionCounts.Region[] regions = counts.snapshot();
+        counts.addEntity(0, 0, this.zombie, 1);
+
+        assertEquals(1, regions[0].entityCounts.getInt(this.zombie));
+        assertEquals(2, counts.snapshot()[0].entityCounts.getInt(this.zombie));
+    }
+
+}
@@ -47,6 +47,7 @@ public void testPlain() {
         assertEquals(Text.of("&&"), parse("&&"));
         assertEquals(Text.of("Sponge"), parse("Sponge"));
         assertEquals(Text.of("Sponge & Water"), parse("Sponge & Water"));
+        assertEquals(Text.of("&zSponge"), parse("&zSponge"));
     }
 
     @Test
@@ -72,4 +73,18 @@ public void testRedundantFormattingCodes() {
                 parse("Hello &a&f&e&eSponge"));
     }
 
+    @Test
+    public void testFlatSegments() {
+        assertEquals(Text.builder("Hello ").append(
+                Text.builder("Sponge ").color(TextColors.YELLOW).build(),
+                Text.builder("Water").color(TextColors.YELLOW).style(TextStyles.BOLD).build()).build(),
+                parse("Hello &eSponge &lWater"));
+        assertEquals(Text.builder("Sponge").color(TextColors.AQUA).build(), parse("&l&bSponge"));
+    }
+
+    @Test
+    public void testTrailingFormattingCodes() {
+        assertEquals(Text.of("Sponge"), parse("Sponge&e&l"));
+    }
+
 }
@@ -0,0 +1,161 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import net.minecraft.world.chunk.Chunk;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+
+public class ChunkUnloadQueueTest {
+
+    @Test
+    public void testPollOrder() {
+        ChunkUnloadQueue queue = new ChunkUnloadQueue();
+        Chunk first = chunk(0, 0);
+        Chunk second = chunk(1, 0);
+        Chunk third = chunk(0, 1);
+        queue.add(first, 300, 0);
+        queue.add(second, 100, 0);
+        queue.add(third, 200, 0);
+        assertEquals(3, queue.size());
+
+        assertNull(queue.poll(50));
+        assertSame(second, queue.poll(250).getChunk());
+        assertSame(third, queue.poll(250).getChunk());
+        assertNull(queue.poll(250));
+        assertSame(first, queue.poll(300).getChunk());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testRemove() {
+        ChunkUnloadQueue queue = new ChunkUnloadQueue();
+        Chunk first = chunk(0, 0);
+        Chunk second = chunk(1, 0);
+        queue.add(first, 100, 0);
+        queue.add(second, 200, 0);
+        queue.remove(first);
+        assertEquals(1, queue.size());
+
+        assertSame(second, queue.poll(200).getChunk());
+        assertNull(queue.poll(200));
+    }
+
+    @Test
+    public void testReAddAfterRemove() {
+        ChunkUnloadQueue queue = new ChunkUnloadQueue();
+        Chunk chunk = chunk(0, 0);
+        queue.add(chunk, 100, 0);
+        queue.remove(chunk);
+        queue.add(chunk, 200, 150);
+        assertEquals(1, queue.size());
+
+        // The removed entry must not unload the chunk at its old time
+        assertNull(queue.poll(150));
+        assertSame(chunk, queue.poll(200).getChunk());
+        assertNull(queue.poll(200));
+    }
+
+    @Test
+    public void testAddIgnoresQueuedChunk() {
+        ChunkUnloadQueue queue = new ChunkUnloadQueue();
+        Chunk chunk = chunk(0, 0);
+        queue.add(chunk, 100, 0);
+        queue.add(chunk, 500, 50);
+        assertEquals(1, queue.size());
+
+        assertSame(chunk, queue.poll(100).getChunk());
+        assertNull(queue.poll(500));
+    }
+
+    @Test
+    public void testRescheduleAfterPoll() {
+        ChunkUnloadQueue queue = new ChunkUnloadQueue();
+        Chunk chunk = chunk(0, 0);
+        queue.add(chunk, 100, 0);
+        assertSame(chunk, queue.poll(100).getChunk());
+        assertEquals(0, queue.size());
+
+        queue.add(chunk, 300, 100);
+        assertEquals(1, queue.size());
+        assertNull(queue.poll(200));
+        assertSame(chunk, queue.poll(300).getChunk());
+    }
+
+    @Test
+    public void testReplaceChunkAtSamePosition() {
+        ChunkUnloadQueue queue = new ChunkUnloadQueue();
+        Chunk stale = chunk(4, -2);
+        Chunk chunk = chunk(4, -2);
+        queue.add(stale, 100, 0);
+        queue.add(chunk, 200, 50);
+        assertEquals(1, queue.size());
+
+        // Removing the replaced chunk doesn't affect the chunk now at its position
+        queue.remove(stale);
+        assertEquals(1, queue.size());
+        assertNull(queue.poll(150));
+        assertSame(chunk, queue.poll(200).getChunk());
+        assertNull(queue.poll(200));
+    }
+
+    @Test
+    public void testUnloadLatency() {
+        ChunkUnloadQueue queue = new ChunkUnloadQueue();
+        assertEquals(0, queue.getAverageUnloadLatency(), 0);
+
+        queue.add(chunk(0, 0), 100, 0);
+        queue.onUnloaded(queue.poll(150), 150);
+        // Queued after its unload time, the latency counts from the moment it was queued
+        queue.add(chunk(1, 0), 100, 200);
+        queue.onUnloaded(queue.poll(210), 210);
+
+        assertEquals(2, queue.getUnloadCount());
+        assertEquals(30, queue.getAverageUnloadLatency(), 0);
+        assertEquals(50, queue.getMaxUnloadLatency());
+    }
+
+    private static Chunk chunk(int x, int z) {
+        Chunk chunk = mock(Chunk.class);
+        try {
+            Field xField = Chunk.class.getDeclaredField("x");
+            xField.setAccessible(true);
+            xField.setInt(chunk, x);
+            Field zField = Chunk.class.getDeclaredField("z");
+            zField.setAccessible(true);
+            zField.setInt(chunk, z);
+        } catch (IllegalAccessException | NoSuchFieldException e) {
+            throw new AssertionError(e);
+        }
+        return chunk;
+    }
+
+}